@@ -96,6 +96,18 @@ public class ThucydidesAggregatorMojo extends AbstractMojo {
      */
     public String statisticsUrl;
 
+    /**
+     * Number of threads used to load the test outcome reports. Defaults to the number of available processors.
+     * @parameter expression="${thucydides.report.loader.threads}"
+     */
+    public String reportLoaderThreads;
+
+    /**
+     * Only generate the aggregate report pages whose test outcomes have changed since the previous report run.
+     * @parameter expression="${thucydides.report.incremental}"
+     */
+    public String incrementalReports;
+
     EnvironmentVariables environmentVariables;
 
     /**
@@ -140,6 +152,8 @@ public class ThucydidesAggregatorMojo extends AbstractMojo {
         updateSystemProperty("thucydides.statistics.dialect", statisticsDialect);
 
         updateSystemProperty("thucydides.test.requirements.basedir", requirementsBaseDir);
+        updateSystemProperty(ThucydidesSystemProperty.THUCYDIDES_REPORT_LOADER_THREADS.getPropertyName(), reportLoaderThreads);
+        updateSystemProperty(ThucydidesSystemProperty.THUCYDIDES_REPORT_INCREMENTAL.getPropertyName(), incrementalReports);
     }
 
     private void updateSystemProperty(String key, String value, String defaultValue) {
@@ -0,0 +1,19 @@
+package net.thucydides.benchmarks;
+
+import net.thucydides.core.annotations.Screenshots;
+import net.thucydides.core.annotations.Step;
+
+/**
+ * A step library with empty steps, so that the benchmarks only measure the cost of running them as steps.
+ */
+public class BenchmarkSteps {
+
+    @Step
+    public void anEmptyStep() {
+    }
+
+    @Step
+    @Screenshots(onlyOnFailures = true)
+    public void anEmptyStepWithScreenshotsOnlyOnFailures() {
+    }
+}
@@ -0,0 +1,81 @@
+package net.thucydides.benchmarks;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writing and reading the XML and JSON report of a single test outcome, as the reporters do for
+ * every test in a build. Run with several threads (-t) to include contention on the shared serializers.
+ */
+@State(Scope.Thread)
+public class OutcomeReportBenchmark {
+
+    private static final int STEP_COUNT = 20;
+
+    private File outputDirectory;
+    private XMLTestOutcomeReporter xmlReporter;
+    private JSONTestOutcomeReporter jsonReporter;
+    private TestOutcome testOutcome;
+    private TestOutcomes allTestOutcomes;
+    private File xmlReport;
+    private File jsonReport;
+
+    @Setup
+    public void writeReports() throws IOException {
+        outputDirectory = Files.createTempDir();
+        xmlReporter = new XMLTestOutcomeReporter();
+        xmlReporter.setOutputDirectory(outputDirectory);
+        jsonReporter = new JSONTestOutcomeReporter();
+        jsonReporter.setOutputDirectory(outputDirectory);
+
+        testOutcome = TestOutcome.forTest("a_benchmark_test", OutcomeReportBenchmark.class);
+        for (int step = 0; step < STEP_COUNT; step++) {
+            testOutcome.recordStep(TestStep.forStepCalled("Step " + step).withResult(TestResult.SUCCESS));
+        }
+        allTestOutcomes = TestOutcomes.of(ImmutableList.of(testOutcome));
+
+        xmlReport = xmlReporter.generateReportFor(testOutcome, allTestOutcomes);
+        jsonReport = jsonReporter.generateReportFor(testOutcome, allTestOutcomes);
+    }
+
+    @TearDown
+    public void deleteReports() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public File writeAnXmlReport() throws IOException {
+        return xmlReporter.generateReportFor(testOutcome, allTestOutcomes);
+    }
+
+    @Benchmark
+    public Optional<TestOutcome> readAnXmlReport() throws IOException {
+        return xmlReporter.loadReportFrom(xmlReport);
+    }
+
+    @Benchmark
+    public File writeAJsonReport() throws IOException {
+        return jsonReporter.generateReportFor(testOutcome, allTestOutcomes);
+    }
+
+    @Benchmark
+    public Optional<TestOutcome> readAJsonReport() throws IOException {
+        return jsonReporter.loadReportFrom(jsonReport);
+    }
+}
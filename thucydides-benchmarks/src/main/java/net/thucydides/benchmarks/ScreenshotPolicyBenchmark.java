@@ -0,0 +1,63 @@
+package net.thucydides.benchmarks;
+
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.ScreenshotPermission;
+import net.thucydides.core.model.TakeScreenshots;
+import net.thucydides.core.screenshots.ScreenshotBlurCheck;
+import net.thucydides.core.screenshots.ScreenshotPolicy;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.webdriver.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+
+/**
+ * The screenshot decisions made during one step: resolving the policy from the call stack for each
+ * decision, as the permission and blur checks used to, against resolving it once when the step is entered.
+ */
+@State(Scope.Thread)
+public class ScreenshotPolicyBenchmark {
+
+    private static final int DECISIONS_PER_STEP = 4;
+
+    private StepEventBus eventBus;
+    private ScreenshotPermission screenshotPermission;
+    private ScreenshotBlurCheck blurCheck;
+    private Method stepMethod;
+
+    @Setup
+    public void startTest() throws NoSuchMethodException {
+        eventBus = StepEventBus.getEventBus();
+        eventBus.testStarted("a_benchmark_test");
+        screenshotPermission = new ScreenshotPermission(Injectors.getInjector().getInstance(Configuration.class));
+        blurCheck = new ScreenshotBlurCheck();
+        stepMethod = BenchmarkSteps.class.getMethod("anEmptyStepWithScreenshotsOnlyOnFailures");
+    }
+
+    @TearDown
+    public void clearEventBus() {
+        eventBus.clear();
+    }
+
+    @Benchmark
+    public void resolveThePolicyFromTheCallStackForEachDecision(final Blackhole blackhole) {
+        for (int decision = 0; decision < DECISIONS_PER_STEP; decision++) {
+            blackhole.consume(ScreenshotPolicy.fromCallingMethods());
+        }
+    }
+
+    @Benchmark
+    public void resolveThePolicyOnceWhenTheStepIsEntered(final Blackhole blackhole) {
+        eventBus.stepMethodEntered(stepMethod);
+        blackhole.consume(screenshotPermission.areAllowed(TakeScreenshots.BEFORE_AND_AFTER_EACH_STEP));
+        blackhole.consume(screenshotPermission.areAllowed(TakeScreenshots.AFTER_EACH_STEP));
+        blackhole.consume(screenshotPermission.areAllowed(TakeScreenshots.FOR_FAILURES));
+        blackhole.consume(blurCheck.blurLevel());
+        eventBus.stepMethodExited();
+    }
+}
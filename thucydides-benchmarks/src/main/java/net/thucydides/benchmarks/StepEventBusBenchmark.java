@@ -0,0 +1,41 @@
+package net.thucydides.benchmarks;
+
+import net.thucydides.core.steps.ExecutedStepDescription;
+import net.thucydides.core.steps.StepEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Looking up the event bus of the current thread, and reporting steps on it.
+ * Each benchmark thread has its own event bus, so run with -t 1 up to -t 64 to check that the
+ * throughput per thread does not drop as threads are added.
+ */
+@State(Scope.Thread)
+public class StepEventBusBenchmark {
+
+    private final ExecutedStepDescription stepDescription = ExecutedStepDescription.withTitle("An empty step");
+
+    @Setup
+    public void startTest() {
+        StepEventBus.getEventBus().testStarted("a_benchmark_test");
+    }
+
+    @TearDown
+    public void clearEventBus() {
+        StepEventBus.getEventBus().clear();
+    }
+
+    @Benchmark
+    public StepEventBus lookUpTheEventBus() {
+        return StepEventBus.getEventBus();
+    }
+
+    @Benchmark
+    public void startAndFinishAStep() {
+        StepEventBus.getEventBus().stepStarted(stepDescription);
+        StepEventBus.getEventBus().stepFinished();
+    }
+}
@@ -0,0 +1,42 @@
+package net.thucydides.benchmarks;
+
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.steps.StepFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The overhead the step interceptor adds to each step library call. The steps are empty, so the
+ * difference between the two benchmarks is the cost of intercepting the call and reporting it as a step.
+ */
+@State(Scope.Thread)
+public class StepInterceptionBenchmark {
+
+    private BenchmarkSteps steps;
+    private BenchmarkSteps plainSteps;
+
+    @Setup
+    public void createStepLibrary() {
+        steps = new StepFactory().getStepLibraryFor(BenchmarkSteps.class);
+        plainSteps = new BenchmarkSteps();
+        StepEventBus.getEventBus().testStarted("a_benchmark_test");
+    }
+
+    @TearDown
+    public void clearEventBus() {
+        StepEventBus.getEventBus().clear();
+    }
+
+    @Benchmark
+    public void callAnInterceptedStep() {
+        steps.anEmptyStep();
+    }
+
+    @Benchmark
+    public void callAPlainMethod() {
+        plainSteps.anEmptyStep();
+    }
+}
@@ -0,0 +1,63 @@
+package net.thucydides.benchmarks;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Recording a data-driven test with 10,000 steps, in groups of 100, and reading its result
+ * after one of its steps changes.
+ */
+@State(Scope.Thread)
+public class TestOutcomeBenchmark {
+
+    private static final int STEP_COUNT = 10000;
+    private static final int STEPS_PER_GROUP = 100;
+
+    private TestOutcome recordedOutcome;
+    private TestStep lastStep;
+
+    @Setup
+    public void recordOutcome() {
+        recordedOutcome = outcomeWithSteps();
+        lastStep = lastStepIn(recordedOutcome);
+    }
+
+    @Benchmark
+    public TestOutcome recordTenThousandSteps() {
+        return outcomeWithSteps();
+    }
+
+    @Benchmark
+    public TestResult readTheResultAfterAStepChanges() {
+        lastStep.setResult(lastStep.getResult() == TestResult.SUCCESS ? TestResult.FAILURE : TestResult.SUCCESS);
+        return recordedOutcome.getResult();
+    }
+
+    @Benchmark
+    public int countTheStepsOfALargeOutcome() {
+        return recordedOutcome.getNestedStepCount() + recordedOutcome.getSuccessCount();
+    }
+
+    private TestOutcome outcomeWithSteps() {
+        TestOutcome outcome = new TestOutcome("a_data_driven_test");
+        for (int group = 0; group < STEP_COUNT / STEPS_PER_GROUP; group++) {
+            outcome.recordStep(new TestStep("Row " + group));
+            outcome.startGroup();
+            for (int step = 0; step < STEPS_PER_GROUP; step++) {
+                outcome.recordStep(TestStep.forStepCalled("Step " + step).withResult(TestResult.SUCCESS));
+            }
+            outcome.endGroup();
+        }
+        return outcome;
+    }
+
+    private TestStep lastStepIn(final TestOutcome outcome) {
+        TestStep lastGroup = outcome.getTestSteps().get(outcome.getTestSteps().size() - 1);
+        return lastGroup.getChildren().get(lastGroup.getChildren().size() - 1);
+    }
+}
@@ -181,6 +181,23 @@ public enum ThucydidesSystemProperty {
      */
     UNIQUE_BROWSER("thucydides.use.unique.browser"),
 
+    /**
+     * If set to true, browsers are returned to a pool shared by all test threads when a test is done with them,
+     * and handed out again to later tests that need the same kind of browser. False by default.
+     */
+    THUCYDIDES_WEBDRIVER_POOL("thucydides.webdriver.pool"),
+
+    /**
+     * The maximum number of idle browsers kept in the browser pool. Defaults to 4.
+     */
+    THUCYDIDES_WEBDRIVER_POOL_SIZE("thucydides.webdriver.pool.size"),
+
+    /**
+     * The number of times a pooled browser can be handed out before it is closed and replaced by a new one.
+     * Defaults to 20.
+     */
+    THUCYDIDES_WEBDRIVER_POOL_MAX_LEASES("thucydides.webdriver.pool.max.leases"),
+
     /**
      * The estimated number of steps in a pending scenario.
      * This is used for stories where no scenarios have been defined.
@@ -231,6 +248,13 @@ public enum ThucydidesSystemProperty {
      */
     HISTORY_BASE_DIRECTORY("thucydides.history"),
 
+    /**
+     * Number of days of history shown in full detail in the history and progress reports.
+     * Older results are shown as one entry per day for a year, then one entry per week.
+     * Defaults to 30.
+     */
+    HISTORY_DETAIL_DAYS("thucydides.history.detail.days"),
+
     /**
      *  Redimension the browser to enable larger screenshots.
      */
@@ -451,6 +475,17 @@ public enum ThucydidesSystemProperty {
      */
     RELEASE_TYPES("thucydides.release.types"),
 
+    /**
+     * How Thucydides polls while waiting for elements and conditions: "fixed" (the default) polls at the configured
+     * interval, "backoff" starts with a short interval and doubles it after each poll, up to the configured interval.
+     */
+    THUCYDIDES_POLLING_STRATEGY("thucydides.polling.strategy"),
+
+    /**
+     * The first polling interval in milliseconds when the "backoff" polling strategy is used (10 by default).
+     */
+    THUCYDIDES_POLLING_INITIAL_INTERVAL("thucydides.polling.initial.interval"),
+
     /**
      * Normally, Thucydides uses SmartElementLocatorFactory, an extension of the AjaxElementLocatorFactory
      * when instantiating page objects. This is to ensure that web elements are available and usable before they are used.
@@ -500,6 +535,24 @@ public enum ThucydidesSystemProperty {
      */
     THUCYDIDES_KEEP_UNSCALED_SCREENSHOTS("thucydides.keep.unscaled.screenshots"),
 
+    /**
+     * The number of threads used to scale screenshots when the HTML report for a test is generated.
+     * Defaults to the number of available processors; use 1 to scale the screenshots one at a time.
+     */
+    THUCYDIDES_SCREENSHOT_SCALING_THREADS("thucydides.screenshot.scaling.threads"),
+
+    /**
+     * How queued screenshots are saved and resized: "single" (the default) uses one background thread,
+     * "multithread" uses a bounded pool of worker threads.
+     */
+    THUCYDIDES_SCREENSHOT_PROCESSOR("thucydides.screenshot.processor"),
+
+    /**
+     * The number of worker threads used by the multithread screenshot processor.
+     * Defaults to the number of available processors.
+     */
+    THUCYDIDES_SCREENSHOT_PROCESSOR_THREADS("thucydides.screenshot.processor.threads"),
+
     /**
      * If provided, only classes and/or methods with tags in this list will be executed. The parameter expects
      * a tag or comma-separated list of tags in the shortened form.
@@ -522,11 +575,35 @@ public enum ThucydidesSystemProperty {
      */
     THUCYDIDES_NARRATIVE_FORMAT("narrative.format"),
 
+    /**
+     * The maximum number of Asciidoctor instances used to render Asciidoc narratives in parallel.
+     * Each instance runs in its own JRuby runtime, so they are only created when needed. Defaults to 2.
+     */
+    THUCYDIDES_ASCIIDOC_RENDERERS("thucydides.asciidoc.renderers"),
+
     /**
      * Internal report format used when loading test outcome reports during aggregation - json or xml (xml by default)
      */
     THUCYDIDES_REPORT_FORMAT("thucydides.report.format"),
 
+    /**
+     * The number of threads used to load test outcome reports during aggregation.
+     * Defaults to the number of available processors; use 1 to load the reports one at a time.
+     */
+    THUCYDIDES_REPORT_LOADER_THREADS("thucydides.report.loader.threads"),
+
+    /**
+     * The number of threads used to generate the aggregate HTML reports.
+     * Defaults to the number of available processors; use 1 to generate the pages one at a time.
+     */
+    THUCYDIDES_REPORT_THREADS("thucydides.report.threads"),
+
+    /**
+     * If set to true, aggregate report pages are only generated again if the test outcomes, requirements,
+     * test history or options they depend on have changed since the previous report run. False by default.
+     */
+    THUCYDIDES_REPORT_INCREMENTAL("thucydides.report.incremental"),
+
     /**
      * Path to PhantomJS executable
      */
@@ -0,0 +1,60 @@
+package net.thucydides.core.annotations.locators;
+
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the locator strategy built from the annotations of each page object field,
+ * so that it only needs to be worked out once, however many page instances use the field.
+ * The cache is shared between threads.
+ */
+public class ElementLocatorCache {
+
+    private static final ConcurrentMap<Field, FieldLocator> FIELD_LOCATORS = new ConcurrentHashMap<Field, FieldLocator>();
+
+    public static By byFor(Field field) {
+        return fieldLocatorFor(field).getBy();
+    }
+
+    public static boolean isLookupCachedFor(Field field) {
+        return fieldLocatorFor(field).isLookupCached();
+    }
+
+    public static void clear() {
+        FIELD_LOCATORS.clear();
+    }
+
+    private static FieldLocator fieldLocatorFor(Field field) {
+        FieldLocator fieldLocator = FIELD_LOCATORS.get(field);
+        if (fieldLocator == null) {
+            SmartAnnotations annotations = new SmartAnnotations(field);
+            fieldLocator = new FieldLocator(annotations.buildBy(), annotations.isLookupCached());
+            FieldLocator existingFieldLocator = FIELD_LOCATORS.putIfAbsent(field, fieldLocator);
+            if (existingFieldLocator != null) {
+                fieldLocator = existingFieldLocator;
+            }
+        }
+        return fieldLocator;
+    }
+
+    private static class FieldLocator {
+        private final By by;
+        private final boolean lookupCached;
+
+        private FieldLocator(By by, boolean lookupCached) {
+            this.by = by;
+            this.lookupCached = lookupCached;
+        }
+
+        public By getBy() {
+            return by;
+        }
+
+        public boolean isLookupCached() {
+            return lookupCached;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.thucydides.core.annotations.locators;
+
+/**
+ * Keep track of whether the current thread is inside a method that needs web elements to be located
+ * immediately, without the usual wait for them to appear (e.g. isCurrentlyVisible() or waitUntilVisible(),
+ * which do their own polling).
+ * Quick lookups can be nested, so the current thread stays in quick lookup mode until the outermost call ends.
+ */
+public class QuickElementLookup {
+
+    private static final ThreadLocal<Integer> quickLookupDepth = new ThreadLocal<Integer>() {
+        @Override
+        protected Integer initialValue() {
+            return 0;
+        }
+    };
+
+    public static void startQuickLookup() {
+        quickLookupDepth.set(quickLookupDepth.get() + 1);
+    }
+
+    public static void endQuickLookup() {
+        int depth = quickLookupDepth.get();
+        quickLookupDepth.set((depth > 0) ? depth - 1 : 0);
+    }
+
+    public static boolean inProgress() {
+        return quickLookupDepth.get() > 0;
+    }
+}
@@ -1,9 +1,12 @@
 package net.thucydides.core.annotations.locators;
 
 import com.google.common.collect.Lists;
-import net.thucydides.core.pages.PageObject;
-import net.thucydides.core.pages.WebElementFacadeImpl;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.scheduling.PollingIntervals;
+import net.thucydides.core.scheduling.PollingStrategies;
+import net.thucydides.core.scheduling.PollingStrategy;
 import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.EnvironmentVariables;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
@@ -13,19 +16,12 @@ import org.openqa.selenium.support.ui.SlowLoadableComponent;
 import org.openqa.selenium.support.ui.SystemClock;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.List;
 
 public class SmartAjaxElementLocator extends SmartElementLocator {
 	protected final int timeOutInSeconds;
 	private final Clock clock;
-	private static final List<String> QUICK_METHODS = Arrays.asList("isCurrentlyVisible",
-			"isCurrentlyEnabled",
-			"waitUntilVisible",
-			"waitUntilEnabled",
-			"shouldNotBeVisible");
-
-	private static final List<String> QUICK_CLASSES = Arrays.asList(WebElementFacadeImpl.class.getName(), PageObject.class.getName());
+	private final PollingStrategy pollingStrategy;
 
 	private final Field field;
 	private final WebDriver driver;
@@ -46,6 +42,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 		super(driver, field);
 		this.timeOutInSeconds = timeOutInSeconds;
 		this.clock = clock;
+		this.pollingStrategy = PollingStrategies.definedIn(Injectors.getInjector().getInstance(EnvironmentVariables.class));
 		this.field = field;
 		this.driver = driver;
 	}
@@ -63,19 +60,15 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 		return aPreviousStepHasFailed() || (calledFromAQuickMethod());
 	}
 
+	/**
+	 * Quick methods such as isCurrentlyVisible() flag themselves using QuickElementLookup.
+	 */
 	private boolean calledFromAQuickMethod() {
-        for (StackTraceElement elt : Thread.currentThread().getStackTrace()) {
-            if (QUICK_METHODS.contains(elt.getMethodName())
-                    && QUICK_CLASSES.contains(elt.getClassName())) {
-                return true;
-            }
-        }
-        return false;
+        return QuickElementLookup.inProgress();
     }
 
 	public WebElement findElementImmediately() {
-		SmartAnnotations annotations = new SmartAnnotations(field);
-		By by = annotations.buildBy();
+		By by = ElementLocatorCache.byFor(field);
 		WebElement element = driver.findElement(by);
 		if (element == null) {
 			throw new NoSuchElementException("No such element found for criteria " + by.toString());
@@ -133,7 +126,8 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 
     /**
 	 * By default, we sleep for 250ms between polls. You may override this method in order to change
-	 * how it sleeps.
+	 * how it sleeps. When a polling strategy such as exponential backoff is configured,
+	 * this is the longest the locator will sleep between two polls.
 	 *
 	 * @return Duration to sleep in milliseconds
 	 */
@@ -144,6 +138,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 	private class SlowLoadingElement extends SlowLoadableComponent<SlowLoadingElement> {
 		private NoSuchElementException lastException;
 		private WebElement element;
+		private final PollingIntervals pollingIntervals = new PollingIntervals(pollingStrategy);
 
 		public SlowLoadingElement(Clock clock, int timeOutInSeconds) {
 			super(clock, timeOutInSeconds);
@@ -156,7 +151,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 
 		@Override
 		protected long sleepFor() {
-			return SmartAjaxElementLocator.this.sleepFor();
+			return pollingIntervals.nextInterval(SmartAjaxElementLocator.this.sleepFor());
 		}
 
 		@Override
@@ -185,6 +180,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 	private class SlowLoadingElementList extends SlowLoadableComponent<SlowLoadingElementList> {
 		private NoSuchElementException lastException;
 		private List<WebElement> elements;
+		private final PollingIntervals pollingIntervals = new PollingIntervals(pollingStrategy);
 
 		public SlowLoadingElementList(Clock clock, int timeOutInSeconds) {
 			super(clock, timeOutInSeconds);
@@ -197,7 +193,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator {
 
 		@Override
 		protected long sleepFor() {
-			return SmartAjaxElementLocator.this.sleepFor();
+			return pollingIntervals.nextInterval(SmartAjaxElementLocator.this.sleepFor());
 		}
 
 		@Override
@@ -20,9 +20,8 @@ public class SmartElementLocator implements ElementLocator {
 
 	public SmartElementLocator(SearchContext searchContext, Field field) {
 		this.searchContext = searchContext;
-	    SmartAnnotations annotations = new SmartAnnotations(field);
-	    shouldCache = annotations.isLookupCached();
-	    by = annotations.buildBy();
+	    shouldCache = ElementLocatorCache.isLookupCachedFor(field);
+	    by = ElementLocatorCache.byFor(field);
 	}
 
 	/**
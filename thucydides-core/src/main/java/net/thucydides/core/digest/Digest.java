@@ -1,9 +1,24 @@
 package net.thucydides.core.digest;
 
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 public class Digest {
     public static String ofTextValue(final String text) {
         return DigestUtils.sha256Hex(text);
     }
+
+    public static String ofFile(final File file) throws IOException {
+        InputStream input = new FileInputStream(file);
+        try {
+            return DigestUtils.sha256Hex(input);
+        } finally {
+            IOUtils.closeQuietly(input);
+        }
+    }
 }
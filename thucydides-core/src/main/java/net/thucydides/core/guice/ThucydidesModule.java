@@ -25,7 +25,7 @@ import net.thucydides.core.requirements.RequirementsProviderService;
 import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.requirements.RequirementsServiceImplementation;
 import net.thucydides.core.screenshots.ScreenshotProcessor;
-import net.thucydides.core.screenshots.SingleThreadScreenshotProcessor;
+import net.thucydides.core.screenshots.ScreenshotProcessorProvider;
 import net.thucydides.core.statistics.AtomicTestCount;
 import net.thucydides.core.statistics.TestCount;
 import net.thucydides.core.statistics.service.ClasspathTagProviderService;
@@ -42,6 +42,7 @@ import net.thucydides.core.webdriver.Configuration;
 import net.thucydides.core.webdriver.ElementProxyCreator;
 import net.thucydides.core.webdriver.SystemPropertiesConfiguration;
 import net.thucydides.core.webdriver.ThucydidesWebdriverManager;
+import net.thucydides.core.webdriver.WebDriverPool;
 import net.thucydides.core.webdriver.WebdriverManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,9 +60,10 @@ public class ThucydidesModule extends AbstractModule {
         bind(Configuration.class).to(SystemPropertiesConfiguration.class).in(Singleton.class);
         bind(IssueTracking.class).to(SystemPropertiesIssueTracking.class).in(Singleton.class);
         bind(WebdriverManager.class).to(ThucydidesWebdriverManager.class).in(Singleton.class);
+        bind(WebDriverPool.class).in(Singleton.class);
         bind(BatchManager.class).toProvider(BatchManagerProvider.class).in(Singleton.class);
         bind(LinkGenerator.class).to(SaucelabsLinkGenerator.class);
-        bind(ScreenshotProcessor.class).to(SingleThreadScreenshotProcessor.class).in(Singleton.class);
+        bind(ScreenshotProcessor.class).toProvider(ScreenshotProcessorProvider.class).in(Singleton.class);
 
         bind(TagProviderService.class).to(ClasspathTagProviderService.class).in(Singleton.class);
         bind(RequirementsProviderService.class).to(ClasspathRequirementsProviderService.class).in(Singleton.class);
@@ -10,7 +10,7 @@ public class ResizedImage extends ResizableImage {
     private final BufferedImage image;
 
     public ResizedImage(final BufferedImage image, final File screenshotFile) throws IOException {
-        super(screenshotFile);
+        super(screenshotFile, image.getWidth(), image.getHeight());
         this.image = image;
     }
 
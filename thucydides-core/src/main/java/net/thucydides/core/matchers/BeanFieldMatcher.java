@@ -4,4 +4,9 @@ import org.hamcrest.Matcher;
 
 public interface BeanFieldMatcher extends BeanMatcher{
     <T> Matcher<T> getMatcher();
+
+    /**
+     * The name of the field this matcher checks: matching a bean only depends on the value of this field.
+     */
+    String getFieldName();
 }
@@ -19,6 +19,11 @@ class BeanPropertyMatcher implements BeanFieldMatcher {
         return matcher.matches(fieldValueIn(bean).forField(fieldName));
     }
 
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
     @Override
     public <T> Matcher<T> getMatcher() {
         return new InstantiatedBeanMatcher<T>(this);
@@ -1,12 +1,10 @@
 package net.thucydides.core.model;
 
 import com.google.common.base.Optional;
-import net.thucydides.core.annotations.Screenshots;
-import net.thucydides.core.reflection.StackTraceAnalyser;
+import net.thucydides.core.screenshots.ScreenshotPolicy;
+import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.webdriver.Configuration;
 
-import java.lang.reflect.Method;
-
 public class ScreenshotPermission {
 
     private final Configuration configuration;
@@ -41,28 +39,11 @@ public class ScreenshotPermission {
     }
 
     private Optional<TakeScreenshots> methodOverride() {
-        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
-        for (StackTraceElement stackTraceElement : stackTrace) {
-            Method callingMethod = StackTraceAnalyser.forStackTraceElement(stackTraceElement).getMethod();
-            if (callingMethod != null && callingMethod.getAnnotation(Screenshots.class) != null) {
-                return Optional.of(screenshotLevelFrom(callingMethod.getAnnotation(Screenshots.class)));
-            }
-        }
-        return Optional.absent();
-    }
-
-    private TakeScreenshots screenshotLevelFrom(Screenshots screenshots) {
-        if (screenshots.onlyOnFailures()) {
-            return TakeScreenshots.FOR_FAILURES;
-        } else if (screenshots.forEachAction()) {
-            return TakeScreenshots.FOR_EACH_ACTION;
-        } else if (screenshots.afterEachStep()) {
-            return TakeScreenshots.AFTER_EACH_STEP;
-        } else if (screenshots.beforeAndAfterEachStep()) {
-            return TakeScreenshots.BEFORE_AND_AFTER_EACH_STEP;
-        } else {
-            return TakeScreenshots.BEFORE_AND_AFTER_EACH_STEP;
+        Optional<ScreenshotPolicy> stepPolicy = StepEventBus.getEventBus().getCurrentScreenshotPolicy();
+        if (stepPolicy.isPresent()) {
+            return stepPolicy.get().getScreenshotLevel();
         }
+        return ScreenshotPolicy.fromCallingMethods().getScreenshotLevel();
     }
 
     private TakeScreenshotsComparer takeScreenshotLevel(TakeScreenshots takeScreenshots) {
@@ -0,0 +1,9 @@
+package net.thucydides.core.model;
+
+/**
+ * Notified when the summary of a test step changes, so that the parent steps and test outcomes that
+ * contain the step can update their own summaries incrementally.
+ */
+interface StepObserver {
+    void stepSummaryChanged(StepSummary previousSummary, StepSummary newSummary);
+}
@@ -0,0 +1,104 @@
+package net.thucydides.core.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The overall result and step counts of a list of test steps.
+ * Summaries are immutable, and can be added and subtracted, so that when a step changes, its parent steps
+ * and test outcomes can update their own summaries without visiting any of the other steps.
+ */
+class StepSummary {
+
+    private static final int RESULT_TYPES = TestResult.values().length;
+
+    static final StepSummary EMPTY = new StepSummary(new int[RESULT_TYPES], new int[RESULT_TYPES], 0);
+
+    private final int[] resultCounts;
+    private final int[] leafStepCounts;
+    private final int nestedStepCount;
+    private final int leafStepCount;
+    private final TestResult overallResult;
+
+    private StepSummary(int[] resultCounts, int[] leafStepCounts, int nestedStepCount) {
+        this.resultCounts = resultCounts;
+        this.leafStepCounts = leafStepCounts;
+        this.nestedStepCount = nestedStepCount;
+        this.leafStepCount = sumOf(leafStepCounts);
+        this.overallResult = overallResultOf(resultCounts);
+    }
+
+    /**
+     * A step with no children.
+     */
+    static StepSummary forLeafStep(TestResult result) {
+        int[] resultCounts = new int[RESULT_TYPES];
+        resultCounts[result.ordinal()] = 1;
+        return new StepSummary(resultCounts, resultCounts.clone(), 1);
+    }
+
+    /**
+     * A step group with a given result, containing the steps summarized by <i>children</i>.
+     */
+    static StepSummary forStepGroup(TestResult result, StepSummary children) {
+        int[] resultCounts = new int[RESULT_TYPES];
+        resultCounts[result.ordinal()] = 1;
+        return new StepSummary(resultCounts, children.leafStepCounts, children.nestedStepCount + 1);
+    }
+
+    StepSummary plus(StepSummary other) {
+        return combinedWith(other, 1);
+    }
+
+    StepSummary minus(StepSummary other) {
+        return combinedWith(other, -1);
+    }
+
+    private StepSummary combinedWith(StepSummary other, int sign) {
+        int[] combinedResultCounts = new int[RESULT_TYPES];
+        int[] combinedLeafStepCounts = new int[RESULT_TYPES];
+        for (int result = 0; result < RESULT_TYPES; result++) {
+            combinedResultCounts[result] = resultCounts[result] + sign * other.resultCounts[result];
+            combinedLeafStepCounts[result] = leafStepCounts[result] + sign * other.leafStepCounts[result];
+        }
+        return new StepSummary(combinedResultCounts, combinedLeafStepCounts,
+                               nestedStepCount + sign * other.nestedStepCount);
+    }
+
+    /**
+     * The overall result only depends on which results the steps have, not on how many steps have each result.
+     */
+    private static TestResult overallResultOf(int[] resultCounts) {
+        List<TestResult> results = new ArrayList<TestResult>(RESULT_TYPES);
+        for (TestResult result : TestResult.values()) {
+            if (resultCounts[result.ordinal()] > 0) {
+                results.add(result);
+            }
+        }
+        return TestResultList.of(results).getOverallResult();
+    }
+
+    private static int sumOf(int[] counts) {
+        int sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    TestResult getOverallResult() {
+        return overallResult;
+    }
+
+    int getLeafStepCount() {
+        return leafStepCount;
+    }
+
+    int getLeafStepCount(TestResult result) {
+        return leafStepCounts[result.ordinal()];
+    }
+
+    int getNestedStepCount() {
+        return nestedStepCount;
+    }
+}
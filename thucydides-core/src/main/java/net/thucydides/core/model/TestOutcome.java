@@ -21,6 +21,7 @@ import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.core.statistics.model.TestStatistics;
 import net.thucydides.core.statistics.service.TagProvider;
 import net.thucydides.core.statistics.service.TagProviderService;
+import net.thucydides.core.statistics.service.TagResolutionStatistics;
 import net.thucydides.core.steps.StepFailure;
 import net.thucydides.core.steps.StepFailureException;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -94,6 +95,21 @@ public class TestOutcome {
      */
     private final List<TestStep> testSteps = new ArrayList<TestStep>();
 
+    /**
+     * The number to be given to the next recorded step. Steps are numbered in the order they appear
+     * in the step tree, and new steps are always added at the end of the tree, so only the new steps
+     * need to be numbered.
+     */
+    private transient int nextStepNumber = 1;
+
+    /**
+     * The results and counts of the test steps. Once calculated, the summary is updated incrementally
+     * as steps are recorded and as the recorded steps change.
+     */
+    private transient volatile StepSummary stepSummary;
+
+    private transient StepObserver stepObserver;
+
     /**
      * A test can be linked to the user story it tests using the Story annotation.
      */
@@ -612,8 +628,7 @@ public class TestOutcome {
             return annotatedResult;
         }
 
-        TestResultList testResults = TestResultList.of(getCurrentTestResults());
-        return testResults.getOverallResult();
+        return getStepSummary().getOverallResult();
     }
 
     public TestOutcome recordSteps(final List<TestStep> steps) {
@@ -632,7 +647,7 @@ public class TestOutcome {
         checkNotNull(step.getDescription(), "The test step description was not defined.");
         if (inGroup()) {
             getCurrentStepGroup().addChildStep(step);
-            renumberTestSteps();
+            numberNewStep(step);
         } else {
             addStep(step);
         }
@@ -640,8 +655,14 @@ public class TestOutcome {
     }
 
     private void addStep(TestStep step) {
-        testSteps.add(step);
-        renumberTestSteps();
+        synchronized (this) {
+            testSteps.add(step);
+            if (stepSummary != null) {
+                step.addObserver(getStepObserver());
+                stepSummary = stepSummary.plus(step.getStepSummary());
+            }
+        }
+        numberNewStep(step);
     }
 
     private void addSteps(List<TestStep> steps) {
@@ -649,11 +670,20 @@ public class TestOutcome {
         renumberTestSteps();
     }
 
+    /**
+     * New steps are always added as the last step of the step tree (either at the top level or at the end
+     * of the current step group), so only the new step and its children need to be numbered.
+     */
+    private void numberNewStep(TestStep step) {
+        nextStepNumber = step.renumberFrom(nextStepNumber);
+    }
+
     private void renumberTestSteps() {
         int count = 1;
         for(TestStep step : testSteps) {
             count = step.renumberFrom(count);
         }
+        nextStepNumber = count;
     }
 
     private TestStep getCurrentStepGroup() {
@@ -683,8 +713,41 @@ public class TestOutcome {
         this.title = title;
     }
 
-    private List<TestResult> getCurrentTestResults() {
-        return convert(testSteps, new ExtractTestResultsConverter());
+    private StepSummary getStepSummary() {
+        StepSummary summary = stepSummary;
+        if (summary == null) {
+            summary = calculateStepSummary();
+        }
+        return summary;
+    }
+
+    private synchronized StepSummary calculateStepSummary() {
+        if (stepSummary == null) {
+            StepSummary summary = StepSummary.EMPTY;
+            for (TestStep step : testSteps) {
+                step.addObserver(getStepObserver());
+                summary = summary.plus(step.getStepSummary());
+            }
+            stepSummary = summary;
+        }
+        return stepSummary;
+    }
+
+    private StepObserver getStepObserver() {
+        if (stepObserver == null) {
+            stepObserver = new StepObserver() {
+                public void stepSummaryChanged(StepSummary previousSummary, StepSummary newSummary) {
+                    recordedStepChanged(previousSummary, newSummary);
+                }
+            };
+        }
+        return stepObserver;
+    }
+
+    private synchronized void recordedStepChanged(StepSummary previousSummary, StepSummary newSummary) {
+        if (stepSummary != null) {
+            stepSummary = stepSummary.minus(previousSummary).plus(newSummary);
+        }
     }
 
     /**
@@ -864,22 +927,42 @@ public class TestOutcome {
 
     public void addFailingExternalStep(Throwable testFailureCause) {
         // Add as a sibling of the last deepest group
-        addFailingStepAsSibling(testSteps, testFailureCause);
-    }
-
-    public void addFailingStepAsSibling(List<TestStep> testStepList, Throwable testFailureCause) {
-        if (testStepList.isEmpty()) {
+        if (testSteps.isEmpty()) {
             addStep(failingStep(testFailureCause));
         } else {
-            TestStep lastStep = lastStepIn(testStepList);
+            TestStep lastStep = lastStepIn(testSteps);
             if (lastStep.hasChildren()) {
-                addFailingStepAsSibling(lastStep.children(), testFailureCause);
+                addFailingStepAsSiblingOf(lastStep, testFailureCause);
             } else {
-                testStepList.add(failingStep(testFailureCause));
+                addStep(failingStep(testFailureCause));
             }
         }
     }
 
+    /**
+     * The failing step is always added to the steps of this test outcome, as for addFailingExternalStep(),
+     * so that the step numbers and counts stay up to date.
+     */
+    @Deprecated
+    public void addFailingStepAsSibling(List<TestStep> testStepList, Throwable testFailureCause) {
+        addFailingExternalStep(testFailureCause);
+    }
+
+    /**
+     * Add the failing step after the last of the children of a step group, or of its last nested group.
+     * The step is added through the group, so that the group results and the step counts stay up to date.
+     */
+    private void addFailingStepAsSiblingOf(TestStep stepGroup, Throwable testFailureCause) {
+        TestStep lastStep = lastStepIn(stepGroup.children());
+        if (lastStep.hasChildren()) {
+            addFailingStepAsSiblingOf(lastStep, testFailureCause);
+        } else {
+            TestStep failingStep = failingStep(testFailureCause);
+            stepGroup.addChildStep(failingStep);
+            numberNewStep(failingStep);
+        }
+    }
+
     private TestStep failingStep(Throwable testFailureCause) {
         TestStep failingStep = new TestStep("Failure");
         failingStep.failedWith(testFailureCause);
@@ -905,18 +988,20 @@ public class TestOutcome {
     }
 
     private Set<TestTag> getTagsUsingTagProviders(List<TagProvider> tagProviders) {
+        long startTime = System.nanoTime();
         Set<TestTag> tags  = Sets.newHashSet();
         for (TagProvider tagProvider : tagProviders) {
             try {
                 Set<TestTag> providedTags = tagProvider.getTagsFor(this);
                 if (providedTags != null) {
-                    tags.addAll(tagProvider.getTagsFor(this));
+                    tags.addAll(providedTags);
                 }
             } catch(Throwable theTagProviderFailedBueThereIsntMuchWeCanDoAboutIt) {
                 logger.error("Tag provider " + tagProvider + " failure",
                              theTagProviderFailedBueThereIsntMuchWeCanDoAboutIt);
             }
         }
+        TagResolutionStatistics.recordResolution(System.nanoTime() - startTime);
         return tags;
     }
 
@@ -1101,34 +1186,28 @@ public class TestOutcome {
         return getSystemClock().getCurrentTime().getMillis();
     }
 
-    private static class ExtractTestResultsConverter implements Converter<TestStep, TestResult> {
-        public TestResult convert(final TestStep step) {
-            return step.getResult();
-        }
-    }
-
     public Integer getStepCount() {
         return testSteps.size();
     }
 
     public Integer getNestedStepCount() {
-        return getFlattenedTestSteps().size();
+        return getStepSummary().getNestedStepCount();
     }
 
     public Integer getSuccessCount() {
-        return count(successfulSteps()).in(getLeafTestSteps());
+        return getStepSummary().getLeafStepCount(SUCCESS);
     }
 
     public Integer getFailureCount() {
-        return count(failingSteps()).in(getLeafTestSteps());
+        return getStepSummary().getLeafStepCount(FAILURE);
     }
 
     public Integer getErrorCount() {
-        return count(errorSteps()).in(getLeafTestSteps());
+        return getStepSummary().getLeafStepCount(ERROR);
     }
 
     public Integer getIgnoredCount() {
-        return count(ignoredSteps()).in(getLeafTestSteps());
+        return getStepSummary().getLeafStepCount(IGNORED);
     }
 
     public Integer getSkippedOrIgnoredCount() {
@@ -1136,12 +1215,11 @@ public class TestOutcome {
     }
 
     public Integer getSkippedCount() {
-        return count(skippedSteps()).in(getLeafTestSteps());
+        return getStepSummary().getLeafStepCount(SKIPPED);
     }
 
     public Integer getPendingCount() {
-        List<TestStep> allTestSteps = getLeafTestSteps();
-        return select(allTestSteps, having(on(TestStep.class).isPending())).size();
+        return getStepSummary().getLeafStepCount(PENDING);
     }
 
     public Boolean isSuccess() {
@@ -1208,93 +1286,9 @@ public class TestOutcome {
         this.sessionId = sessionId;
     }
 
-    StepCountBuilder count(StepFilter filter) {
-        return new StepCountBuilder(filter);
-    }
-
-    public static class StepCountBuilder {
-        private final StepFilter filter;
-
-        public StepCountBuilder(StepFilter filter) {
-            this.filter = filter;
-        }
-
-        int in(List<TestStep> steps) {
-            int count = 0;
-            for (TestStep step : steps) {
-                if (filter.apply(step)) {
-                    count++;
-                }
-            }
-            return count;
-        }
-    }
-
 
     public Integer countTestSteps() {
-        return countLeafStepsIn(testSteps);
-    }
-
-    private Integer countLeafStepsIn(List<TestStep> testSteps) {
-        int leafCount = 0;
-        for (TestStep step : testSteps) {
-            if (step.isAGroup()) {
-                leafCount += countLeafStepsIn(step.getChildren());
-            } else {
-                leafCount++;
-            }
-        }
-        return leafCount;
-    }
-
-    abstract class StepFilter {
-        abstract boolean apply(TestStep step);
-
-    }
-
-    StepFilter successfulSteps() {
-        return new StepFilter() {
-            @Override
-            boolean apply(TestStep step) {
-                return step.isSuccessful();
-            }
-        };
-    }
-
-    StepFilter failingSteps() {
-        return new StepFilter() {
-            @Override
-            boolean apply(TestStep step) {
-                return step.isFailure();
-            }
-        };
-    }
-
-    StepFilter errorSteps() {
-        return new StepFilter() {
-            @Override
-            boolean apply(TestStep step) {
-                return step.isError();
-            }
-        };
-    }
-
-    StepFilter ignoredSteps() {
-        return new StepFilter() {
-            @Override
-            boolean apply(TestStep step) {
-                return step.isIgnored();
-            }
-        };
-    }
-
-    StepFilter skippedSteps() {
-        return new StepFilter() {
-            @Override
-            boolean apply(TestStep step) {
-                return step.isSkipped();
-            }
-        };
+        return getStepSummary().getLeafStepCount();
     }
 
     public void setStatistics(TestStatistics statistics) {
@@ -6,8 +6,10 @@ import net.thucydides.core.pages.SystemClock;
 import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
 import org.joda.time.DateTime;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import static ch.lambdaj.Lambda.extract;
@@ -43,6 +45,21 @@ public class TestStep {
 
     private List<TestStep> children = new ArrayList<TestStep>();
 
+    /**
+     * The result and step counts of this step and its children. Once calculated, the summary is kept up to date
+     * as the step changes, and the changes are passed on to the observers (parent steps and test outcomes).
+     */
+    private transient volatile StepSummary stepSummary;
+
+    /**
+     * The sum of the summaries of the child steps.
+     */
+    private transient StepSummary childStepSummary;
+
+    private transient StepObserver childStepObserver;
+
+    private transient List<WeakReference<StepObserver>> observers;
+
     public TestStep() {
         startTime = now().getMillis();
     }
@@ -71,6 +88,122 @@ public class TestStep {
         return children;
     }
 
+    StepSummary getStepSummary() {
+        StepSummary summary = stepSummary;
+        if (summary == null) {
+            summary = calculateStepSummary();
+        }
+        return summary;
+    }
+
+    private synchronized StepSummary calculateStepSummary() {
+        if (stepSummary == null) {
+            stepSummary = summarize();
+        }
+        return stepSummary;
+    }
+
+    private StepSummary summarize() {
+        if (isAGroup()) {
+            return StepSummary.forStepGroup(calculateGroupResult(), getChildStepSummary());
+        } else {
+            return StepSummary.forLeafStep(getResultFromThisStep());
+        }
+    }
+
+    private TestResult calculateGroupResult() {
+        if (groupResultOverridesChildren()) {
+            return getResultFromThisStep();
+        } else {
+            return getChildStepSummary().getOverallResult();
+        }
+    }
+
+    private StepSummary getChildStepSummary() {
+        if (childStepSummary == null) {
+            StepSummary summary = StepSummary.EMPTY;
+            for (TestStep child : children) {
+                child.addObserver(getChildStepObserver());
+                summary = summary.plus(child.getStepSummary());
+            }
+            childStepSummary = summary;
+        }
+        return childStepSummary;
+    }
+
+    private StepObserver getChildStepObserver() {
+        if (childStepObserver == null) {
+            childStepObserver = new StepObserver() {
+                public void stepSummaryChanged(StepSummary previousSummary, StepSummary newSummary) {
+                    childStepChanged(previousSummary, newSummary);
+                }
+            };
+        }
+        return childStepObserver;
+    }
+
+    private void childStepChanged(StepSummary previousSummary, StepSummary newSummary) {
+        synchronized (this) {
+            if (childStepSummary == null) {
+                return;
+            }
+            childStepSummary = childStepSummary.minus(previousSummary).plus(newSummary);
+        }
+        stepChanged();
+    }
+
+    /**
+     * Observers are held weakly, so that a copy of a test outcome or step that shares this step
+     * does not stay in memory for as long as the step does.
+     */
+    synchronized void addObserver(StepObserver observer) {
+        if (observers == null) {
+            observers = new ArrayList<WeakReference<StepObserver>>(1);
+        }
+        Iterator<WeakReference<StepObserver>> registeredObservers = observers.iterator();
+        while (registeredObservers.hasNext()) {
+            StepObserver registeredObserver = registeredObservers.next().get();
+            if (registeredObserver == observer) {
+                return;
+            } else if (registeredObserver == null) {
+                registeredObservers.remove();
+            }
+        }
+        observers.add(new WeakReference<StepObserver>(observer));
+    }
+
+    private synchronized List<StepObserver> currentObservers() {
+        List<StepObserver> currentObservers = new ArrayList<StepObserver>();
+        if (observers != null) {
+            for (WeakReference<StepObserver> observer : observers) {
+                if (observer.get() != null) {
+                    currentObservers.add(observer.get());
+                }
+            }
+        }
+        return currentObservers;
+    }
+
+    /**
+     * Update the summary of this step, and pass the change on to the observers. Steps that have never
+     * been summarized have no observers, and are summarized from scratch when they are first needed.
+     */
+    private void stepChanged() {
+        StepSummary previousSummary;
+        StepSummary newSummary;
+        synchronized (this) {
+            previousSummary = stepSummary;
+            if (previousSummary == null) {
+                return;
+            }
+            newSummary = summarize();
+            stepSummary = newSummary;
+        }
+        for (StepObserver observer : currentObservers()) {
+            observer.stepSummaryChanged(previousSummary, newSummary);
+        }
+    }
+
     public int renumberFrom(int count) {
         setNumber(count++);
         if (hasChildren()) {
@@ -183,14 +316,11 @@ public class TestStep {
      */
     public void setResult(final TestResult result) {
         this.result = result;
+        stepChanged();
     }
 
     public TestResult getResult() {
-        if (isAGroup() && !groupResultOverridesChildren()) {
-            return getResultFromChildren();
-        } else {
-            return getResultFromThisStep();
-        }
+        return getStepSummary().getOverallResult();
     }
 
     private TestResult getResultFromThisStep() {
@@ -205,19 +335,6 @@ public class TestStep {
         return ((result == SKIPPED) || (result == IGNORED) || (result == PENDING));
     }
 
-    private TestResult getResultFromChildren() {
-        TestResultList resultList = TestResultList.of(getChildResults());
-        return resultList.getOverallResult();
-    }
-
-    private List<TestResult> getChildResults() {
-        List<TestResult> results = new ArrayList<TestResult>();
-        for (TestStep step : getChildren()) {
-            results.add(step.getResult());
-        }
-        return results;
-    }
-
     public Boolean isSuccessful() {
         return getResult() == SUCCESS;
     }
@@ -303,7 +420,14 @@ public class TestStep {
     }
 
     public TestStep addChildStep(final TestStep step) {
-        children.add(step);
+        synchronized (this) {
+            children.add(step);
+            if (childStepSummary != null) {
+                step.addObserver(getChildStepObserver());
+                childStepSummary = childStepSummary.plus(step.getStepSummary());
+            }
+        }
+        stepChanged();
         return this;
     }
 
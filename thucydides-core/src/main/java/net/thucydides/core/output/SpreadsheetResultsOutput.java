@@ -1,5 +1,7 @@
 package net.thucydides.core.output;
 
+import au.com.bytecode.opencsv.CSVReader;
+import au.com.bytecode.opencsv.CSVWriter;
 import com.google.common.collect.ImmutableList;
 import jxl.JXLException;
 import jxl.Workbook;
@@ -13,39 +15,232 @@ import jxl.write.WritableSheet;
 import jxl.write.WritableWorkbook;
 import jxl.write.WriteException;
 import net.thucydides.core.matchers.SimpleValueMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Records test results in an Excel spreadsheet.
+ * By default the spreadsheet is rewritten for each result. A buffered output (see {@link #buffered(File, List)})
+ * collects the results instead, and writes the spreadsheet once, when {@link #finish()} is called or, failing that,
+ * when the JVM shuts down. Buffered results are saved in batches to a row log next to the spreadsheet
+ * until then, so recording a result never blocks on the spreadsheet, even when several threads record
+ * results at the same time.
+ */
 public class SpreadsheetResultsOutput implements ResultsOutput {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpreadsheetResultsOutput.class);
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String FAILED = "F";
+    private static final String PASSED = "P";
+
     List<String> titles;
     File outputFile;
     boolean recordingStarted;
 
+    private final boolean buffered;
+    private final int batchSize;
+    private final File rowLog;
+    private final Queue<String[]> pendingRows = new ConcurrentLinkedQueue<String[]>();
+    private final AtomicInteger pendingRowCount = new AtomicInteger();
+    private volatile boolean rowsToWrite = false;
+    private Thread finishingHook;
+
     public SpreadsheetResultsOutput(File outputFile, List<String> titles) {
+        this(outputFile, titles, false, DEFAULT_BATCH_SIZE);
+    }
+
+    private SpreadsheetResultsOutput(File outputFile, List<String> titles, boolean buffered, int batchSize) {
         this.titles = ImmutableList.copyOf(titles);
         this.outputFile = outputFile;
+        this.buffered = buffered;
+        this.batchSize = batchSize;
+        this.rowLog = new File(outputFile.getPath() + ".rows");
         recordingStarted = false;
+        if (buffered) {
+            //noinspection ResultOfMethodCallIgnored
+            rowLog.delete();
+        }
+    }
 
+    /**
+     * A spreadsheet output that writes the spreadsheet once, at the end of the test suite,
+     * rather than once for each result.
+     */
+    public static SpreadsheetResultsOutput buffered(File outputFile, List<String> titles) {
+        return buffered(outputFile, titles, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * A buffered spreadsheet output that saves the pending results to its row log every <i>batchSize</i> results.
+     */
+    public static SpreadsheetResultsOutput buffered(File outputFile, List<String> titles, int batchSize) {
+        return new SpreadsheetResultsOutput(outputFile, titles, true, Math.max(batchSize, 1));
     }
 
     @Override
-    public synchronized void recordResult(List<? extends Object> columnValues,
+    public void recordResult(List<? extends Object> columnValues,
+                             SimpleValueMatcher... validityChecks) throws IOException {
+        if (buffered) {
+            bufferResult(columnValues, validityChecks);
+        } else {
+            writeResult(columnValues, validityChecks);
+        }
+    }
+
+    private synchronized void writeResult(List<? extends Object> columnValues,
                                           SimpleValueMatcher... validityChecks) throws IOException {
 
         WritableWorkbook workbook = null;
 
         try {
             workbook = currentWorkbook();
-            writeRow(columnValues, workbook.getSheet(0), validityChecks);
+            recordingStarted = true;
+            writeRow(rowFrom(columnValues, validityChecks), workbook.getSheet(0), new RowFormats());
+            workbook.write();
+        } catch (JXLException e) {
+            throw new IOException(e);
+        } finally {
+            close(workbook);
+        }
+    }
+
+    private void bufferResult(List<? extends Object> columnValues,
+                              SimpleValueMatcher... validityChecks) throws IOException {
+        pendingRows.add(rowFrom(columnValues, validityChecks));
+        rowsToWrite = true;
+        registerFinishingHookIfNeeded();
+        if (pendingRowCount.incrementAndGet() >= batchSize) {
+            savePendingRows();
+        }
+    }
+
+    /**
+     * Make sure the buffered results are written even if {@link #finish()} is never called.
+     * Parameterized tests run each data row as a separate test suite, so the end of a test suite
+     * is not the end of the results.
+     */
+    private synchronized void registerFinishingHookIfNeeded() {
+        if (finishingHook == null) {
+            finishingHook = new Thread("thucydides-spreadsheet-output") {
+                @Override
+                public void run() {
+                    finishQuietly();
+                }
+            };
+            Runtime.getRuntime().addShutdownHook(finishingHook);
+        }
+    }
+
+    private synchronized void removeFinishingHook() {
+        if (finishingHook != null && Thread.currentThread() != finishingHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(finishingHook);
+            } catch (IllegalStateException shutdownAlreadyInProgress) {}
+        }
+        finishingHook = null;
+    }
+
+    private void finishQuietly() {
+        try {
+            finish();
+        } catch (IOException e) {
+            LOGGER.error("Could not write the test results spreadsheet", e);
+        }
+    }
+
+    /**
+     * Write the buffered results to the spreadsheet.
+     * This is done automatically when the JVM shuts down, and does nothing if there are no new results.
+     */
+    public synchronized void finish() throws IOException {
+        removeFinishingHook();
+        if (!rowsToWrite) {
+            return;
+        }
+        rowsToWrite = false;
+        savePendingRows();
+
+        WritableWorkbook workbook = null;
+        try {
+            workbook = currentWorkbook();
+            recordingStarted = true;
+            WritableSheet sheet = workbook.getSheet(0);
+            RowFormats formats = new RowFormats();
+            for (String[] row : savedRows()) {
+                writeRow(row, sheet, formats);
+            }
             workbook.write();
         } catch (JXLException e) {
             throw new IOException(e);
         } finally {
             close(workbook);
         }
+        //noinspection ResultOfMethodCallIgnored
+        rowLog.delete();
+    }
+
+    private synchronized void savePendingRows() throws IOException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        CSVWriter writer = new CSVWriter(new OutputStreamWriter(new FileOutputStream(rowLog, true), UTF_8));
+        try {
+            String[] row;
+            while ((row = pendingRows.poll()) != null) {
+                pendingRowCount.decrementAndGet();
+                writer.writeNext(row);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private List<String[]> savedRows() throws IOException {
+        List<String[]> rows = new ArrayList<String[]>();
+        if (!rowLog.exists()) {
+            return rows;
+        }
+        CSVReader reader = new CSVReader(new InputStreamReader(new FileInputStream(rowLog), UTF_8));
+        try {
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                rows.add(row);
+            }
+        } finally {
+            reader.close();
+        }
+        return rows;
+    }
+
+    /**
+     * A row is stored as its pass/fail status followed by the column values.
+     */
+    private String[] rowFrom(List<? extends Object> columnValues, SimpleValueMatcher... checks) {
+        String[] row = new String[columnValues.size() + 1];
+        row[0] = checkIfTestHasFailed(checks) ? FAILED : PASSED;
+        int column = 1;
+        for (Object columnValue : columnValues) {
+            row[column++] = columnValue.toString();
+        }
+        return row;
     }
 
     private void close(WritableWorkbook workbook) throws IOException {
@@ -56,19 +251,16 @@ public class SpreadsheetResultsOutput implements ResultsOutput {
         } catch (WriteException ignoredException) {}
     }
 
-    private void writeRow(List<? extends Object> columnValues,
+    private void writeRow(String[] row,
                           WritableSheet sheet,
-                          SimpleValueMatcher... checks) throws WriteException {
-
-        recordingStarted = true;
+                          RowFormats formats) throws WriteException {
 
-        boolean isAFailedTest = checkIfTestHasFailed(checks);
-        WritableCellFormat font = getFontFor(isAFailedTest);
+        WritableCellFormat font = formats.getFontFor(FAILED.equals(row[0]));
 
-        int row = sheet.getRows();
+        int rowNumber = sheet.getRows();
         int column = 0;
-        for (Object columnValue : columnValues) {
-            Label resultCell = new Label(column++, row, columnValue.toString(), font);
+        for (String columnValue : Arrays.asList(row).subList(1, row.length)) {
+            Label resultCell = new Label(column++, rowNumber, columnValue, font);
             sheet.addCell(resultCell);
         }
     }
@@ -83,13 +275,32 @@ public class SpreadsheetResultsOutput implements ResultsOutput {
         return isAFailedTest;
     }
 
-    private WritableCellFormat getFontFor(boolean aFailedTest) throws WriteException {
-        WritableFont baseFont = new WritableFont(WritableFont.ARIAL, 10);
-        if (aFailedTest) {
-            baseFont.setBoldStyle(WritableFont.BOLD);
-            baseFont.setColour(Colour.RED);
+    private static class RowFormats {
+        private WritableCellFormat passedFormat;
+        private WritableCellFormat failedFormat;
+
+        private WritableCellFormat getFontFor(boolean aFailedTest) throws WriteException {
+            if (aFailedTest) {
+                if (failedFormat == null) {
+                    failedFormat = newFormat(true);
+                }
+                return failedFormat;
+            } else {
+                if (passedFormat == null) {
+                    passedFormat = newFormat(false);
+                }
+                return passedFormat;
+            }
+        }
+
+        private WritableCellFormat newFormat(boolean aFailedTest) throws WriteException {
+            WritableFont baseFont = new WritableFont(WritableFont.ARIAL, 10);
+            if (aFailedTest) {
+                baseFont.setBoldStyle(WritableFont.BOLD);
+                baseFont.setColour(Colour.RED);
+            }
+            return new WritableCellFormat(baseFont);
         }
-        return new WritableCellFormat(baseFont);
     }
 
     private WritableWorkbook currentWorkbook() throws IOException, BiffException {
@@ -0,0 +1,123 @@
+package net.thucydides.core.pages;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * A snapshot of the state of a web element, read in one go rather than through one WebDriver call per property.
+ * An element that could not be found, or that is no longer attached to the page, is reported as not present.
+ */
+public class ElementState {
+
+    private boolean present;
+    private boolean displayed;
+    private boolean enabled;
+    private boolean selected;
+    private String tagName;
+    private String text;
+    private String value;
+
+    public ElementState() {
+    }
+
+    public ElementState(boolean present, boolean displayed, boolean enabled, boolean selected,
+                        String tagName, String text, String value) {
+        this.present = present;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.tagName = tagName;
+        this.text = text;
+        this.value = value;
+    }
+
+    public static ElementState notPresent() {
+        return new ElementState(false, false, false, false, null, "", null);
+    }
+
+    /**
+     * Read the state of an element through the usual WebDriver calls, one round trip per property.
+     * Used when the browser cannot run Javascript.
+     */
+    public static ElementState readFrom(WebElement element) {
+        if (element == null) {
+            return notPresent();
+        }
+        try {
+            return new ElementState(true,
+                                    element.isDisplayed(),
+                                    element.isEnabled(),
+                                    element.isSelected(),
+                                    element.getTagName(),
+                                    element.getText(),
+                                    element.getAttribute("value"));
+        } catch (NoSuchElementException e) {
+            return notPresent();
+        } catch (StaleElementReferenceException e) {
+            return notPresent();
+        }
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public void setPresent(boolean present) {
+        this.present = present;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public void setDisplayed(boolean displayed) {
+        this.displayed = displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    public void setSelected(boolean selected) {
+        this.selected = selected;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public void setTagName(String tagName) {
+        this.tagName = tagName;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState{present=" + present + ", displayed=" + displayed + ", enabled=" + enabled
+                + ", selected=" + selected + ", tagName=" + tagName + ", text='" + text + "', value='" + value + "'}";
+    }
+}
@@ -0,0 +1,169 @@
+package net.thucydides.core.pages;
+
+import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.thucydides.core.webdriver.javascript.JavascriptSupport.javascriptIsSupportedIn;
+
+/**
+ * Reads the state of a number of web elements in a single Javascript call, instead of making a separate
+ * WebDriver round trip for the visibility, text, value and so on of each element.
+ * If the driver does not support Javascript, or if the script fails (for example because one of the elements
+ * has gone stale), the state of each element is read in the usual way.
+ */
+public class ElementStateQuery {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElementStateQuery.class);
+
+    /**
+     * A Javascript function that returns the visible text of an element, following the rules WebDriver uses for
+     * getText(): hidden elements are left out, runs of whitespace are collapsed (except in preformatted text),
+     * block elements and line breaks start new lines, table cells are separated by spaces, and each line is trimmed.
+     * Unusual CSS (such as generated content or text transforms) is not taken into account.
+     */
+    public static final String TEXT_OF_FUNCTION =
+            "function textOf(element) {"
+          + "  var lines = [''];"
+          + "  function currentLine() { return lines[lines.length - 1]; }"
+          + "  function startLine() { if (currentLine() !== '') { lines.push(''); } }"
+          + "  function append(text) {"
+          + "    if (currentLine() === '' || / $/.test(currentLine())) { text = text.replace(/^ /, ''); }"
+          + "    lines[lines.length - 1] = currentLine() + text;"
+          + "  }"
+          + "  function appendText(text, whiteSpace) {"
+          + "    if (whiteSpace === 'pre' || whiteSpace === 'pre-wrap' || whiteSpace === 'pre-line') {"
+          + "      if (whiteSpace === 'pre-line') { text = text.replace(/[ \\t]+/g, ' '); }"
+          + "      var preformattedLines = text.split(/\\r\\n|\\r|\\n/);"
+          + "      for (var i = 0; i < preformattedLines.length; i++) {"
+          + "        if (i > 0) { lines.push(''); }"
+          + "        lines[lines.length - 1] = currentLine() + preformattedLines[i];"
+          + "      }"
+          + "    } else {"
+          + "      append(text.replace(/[\\n\\r\\t ]+/g, ' '));"
+          + "    }"
+          + "  }"
+          + "  function walk(node) {"
+          + "    var style = window.getComputedStyle(node, null);"
+          + "    if (style.display === 'none') { return; }"
+          + "    if (node.tagName === 'BR') { lines.push(''); return; }"
+          + "    var block = !/^(inline|table-cell|contents)/.test(style.display);"
+          + "    if (block) { startLine(); }"
+          + "    if (style.display === 'table-cell' && currentLine() !== '' && !/ $/.test(currentLine())) { append(' '); }"
+          + "    var visible = style.visibility !== 'hidden' && style.visibility !== 'collapse';"
+          + "    for (var child = node.firstChild; child; child = child.nextSibling) {"
+          + "      if (child.nodeType === 3 && visible) { appendText(child.nodeValue, style.whiteSpace); }"
+          + "      else if (child.nodeType === 1) { walk(child); }"
+          + "    }"
+          + "    if (block) { startLine(); }"
+          + "  }"
+          + "  walk(element);"
+          + "  var text = [];"
+          + "  for (var i = 0; i < lines.length; i++) {"
+          + "    text.push(lines[i].replace(/^[ \\t]+|[ \\t]+$/g, '').replace(/\\u00a0/g, ' '));"
+          + "  }"
+          + "  return text.join('\\n').replace(/^\\n+|\\n+$/g, '');"
+          + "}";
+
+    static final String ELEMENT_STATE_SCRIPT =
+            "function isDisplayed(element) {"
+          + "  if (element.tagName === 'INPUT' && element.type === 'hidden') { return false; }"
+          + "  for (var node = element; node && node.nodeType === 1; node = node.parentNode) {"
+          + "    if (window.getComputedStyle(node, null).display === 'none') { return false; }"
+          + "  }"
+          + "  var visibility = window.getComputedStyle(element, null).visibility;"
+          + "  if (visibility === 'hidden' || visibility === 'collapse') { return false; }"
+          + "  return element.offsetWidth > 0 || element.offsetHeight > 0 || element.getClientRects().length > 0;"
+          + "}"
+          + TEXT_OF_FUNCTION
+          + "function stateOf(element) {"
+          + "  if (!element || !document.documentElement.contains(element)) {"
+          + "    return {present: false, displayed: false, enabled: false, selected: false, text: ''};"
+          + "  }"
+          + "  var displayed = isDisplayed(element);"
+          + "  return {present: true,"
+          + "          displayed: displayed,"
+          + "          enabled: !element.disabled,"
+          + "          selected: !!(element.checked || element.selected),"
+          + "          tagName: element.tagName.toLowerCase(),"
+          + "          text: displayed ? textOf(element) : '',"
+          + "          value: (element.value === undefined || element.value === null) ? null : String(element.value)};"
+          + "}"
+          + "var elements = arguments[0];"
+          + "var states = [];"
+          + "for (var i = 0; i < elements.length; i++) { states.push(stateOf(elements[i])); }"
+          + "return states;";
+
+    private final WebDriver driver;
+    private final JavascriptExecutorFacade javascriptExecutorFacade;
+
+    public ElementStateQuery(final WebDriver driver) {
+        this.driver = driver;
+        this.javascriptExecutorFacade = new JavascriptExecutorFacade(driver);
+    }
+
+    /**
+     * @return the state of each element, in the same order as the elements.
+     */
+    public List<ElementState> statesOf(final List<? extends WebElement> elements) {
+        List<WebElement> browserElements = browserElementsFrom(elements);
+        if (javascriptIsSupportedIn(driver)) {
+            try {
+                List<ElementState> states
+                        = javascriptExecutorFacade.deserializeScriptResultAsListOf(ElementState.class,
+                                                                                   ELEMENT_STATE_SCRIPT,
+                                                                                   browserElements);
+                if (states != null && states.size() == browserElements.size()) {
+                    return states;
+                }
+            } catch (WebDriverException e) {
+                LOGGER.debug("Could not read the element states in one call, reading them one by one: {}",
+                             e.getMessage());
+            }
+        }
+        return statesReadOneByOne(browserElements);
+    }
+
+    private List<ElementState> statesReadOneByOne(final List<WebElement> elements) {
+        List<ElementState> states = new ArrayList<ElementState>();
+        for (WebElement element : elements) {
+            states.add(ElementState.readFrom(element));
+        }
+        return states;
+    }
+
+    /**
+     * Element facades and page factory proxies cannot be sent to the browser, only the elements they wrap.
+     * Elements that cannot be found are passed as null, and are reported as not present.
+     */
+    private List<WebElement> browserElementsFrom(final List<? extends WebElement> elements) {
+        List<WebElement> browserElements = new ArrayList<WebElement>();
+        for (WebElement element : elements) {
+            browserElements.add(unwrapped(element));
+        }
+        return browserElements;
+    }
+
+    public static WebElement unwrapped(final WebElement element) {
+        WebElement unwrappedElement = element;
+        try {
+            while (unwrappedElement instanceof WrapsElement) {
+                unwrappedElement = ((WrapsElement) unwrappedElement).getWrappedElement();
+            }
+        } catch (NoSuchElementException e) {
+            return null;
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+        return unwrappedElement;
+    }
+}
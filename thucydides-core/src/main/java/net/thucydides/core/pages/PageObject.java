@@ -4,6 +4,7 @@ import ch.lambdaj.function.convert.Converter;
 import com.google.common.base.Predicate;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.annotations.WhenPageOpens;
+import net.thucydides.core.annotations.locators.QuickElementLookup;
 import net.thucydides.core.fluent.ThucydidesFluentAdapter;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.pages.components.Dropdown;
@@ -12,9 +13,13 @@ import net.thucydides.core.pages.jquery.JQueryEnabledPage;
 import net.thucydides.core.reflection.MethodFinder;
 import net.thucydides.core.scheduling.FluentWaitWithRefresh;
 import net.thucydides.core.scheduling.NormalFluentWait;
+import net.thucydides.core.scheduling.PollingSleeper;
+import net.thucydides.core.scheduling.PollingStrategies;
+import net.thucydides.core.scheduling.PollingStrategy;
 import net.thucydides.core.scheduling.ThucydidesFluentWait;
 import net.thucydides.core.steps.StepDelayer;
 import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.DefaultPageObjectInitialiser;
 import net.thucydides.core.webdriver.WebDriverFacade;
 import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
@@ -44,6 +49,7 @@ import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -82,6 +88,7 @@ public abstract class PageObject {
 
     private final Sleeper sleeper;
     private final Clock webdriverClock;
+    private final PollingStrategy pollingStrategy;
     private JavascriptExecutorFacade javascriptExecutorFacade;
     
     private enum OpenMode {
@@ -93,6 +100,7 @@ public abstract class PageObject {
         this.webdriverClock = new SystemClock();
         this.clock = Injectors.getInjector().getInstance(net.thucydides.core.pages.SystemClock.class);
         this.sleeper = Sleeper.SYSTEM_SLEEPER;
+        this.pollingStrategy = PollingStrategies.definedIn(Injectors.getInjector().getInstance(EnvironmentVariables.class));
         setupPageUrls();
     }
 
@@ -471,17 +479,25 @@ public abstract class PageObject {
     }
 
     public void shouldNotBeVisible(final WebElement field) {
+        QuickElementLookup.startQuickLookup();
         try {
             element(field).shouldNotBeVisible();
         } catch (NoSuchElementException e) {
             // A non-existant element is not visible
+        } finally {
+            QuickElementLookup.endQuickLookup();
         }
     }
 
     public void shouldNotBeVisible(final By byCriteria) {
-        List<WebElement> matchingElements = getDriver().findElements(byCriteria);
-        if (!matchingElements.isEmpty()) {
-            waitOnPage().until(ExpectedConditions.invisibilityOfElementLocated(byCriteria));
+        QuickElementLookup.startQuickLookup();
+        try {
+            List<WebElement> matchingElements = getDriver().findElements(byCriteria);
+            if (!matchingElements.isEmpty()) {
+                waitOnPage().until(ExpectedConditions.invisibilityOfElementLocated(byCriteria));
+            }
+        } finally {
+            QuickElementLookup.endQuickLookup();
         }
     }
 
@@ -744,6 +760,18 @@ public abstract class PageObject {
         getJavascriptExecutorFacade().executeScript("document.activeElement.blur();");
     }
 
+    /**
+     * Read the state of several elements at once, in a single round trip to the browser where Javascript
+     * is available. The states are returned in the same order as the elements.
+     */
+    public List<ElementState> statesOf(final WebElement... webElements) {
+        return statesOf(Arrays.asList(webElements));
+    }
+
+    public List<ElementState> statesOf(final List<? extends WebElement> webElements) {
+        return new ElementStateQuery(driver).statesOf(webElements);
+    }
+
     protected JavascriptExecutorFacade getJavascriptExecutorFacade() {
         if (javascriptExecutorFacade == null) {
             javascriptExecutorFacade = new JavascriptExecutorFacade(driver);
@@ -863,7 +891,7 @@ public abstract class PageObject {
     }
 
     public ThucydidesFluentWait<WebDriver> waitForCondition() {
-        return new NormalFluentWait<WebDriver>(driver, webdriverClock, sleeper)
+        return new NormalFluentWait<WebDriver>(driver, webdriverClock, new PollingSleeper(pollingStrategy, sleeper))
                 .withTimeout(waitForTimeoutInMilliseconds, TimeUnit.MILLISECONDS)
                 .pollingEvery(WAIT_FOR_ELEMENT_PAUSE_LENGTH, TimeUnit.MILLISECONDS)
                 .ignoring(NoSuchElementException.class, NoSuchFrameException.class);
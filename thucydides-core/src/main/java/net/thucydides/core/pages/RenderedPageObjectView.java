@@ -1,7 +1,12 @@
 package net.thucydides.core.pages;
 
+import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.scheduling.NormalFluentWait;
+import net.thucydides.core.scheduling.PollingSleeper;
+import net.thucydides.core.scheduling.PollingStrategies;
+import net.thucydides.core.scheduling.PollingStrategy;
 import net.thucydides.core.scheduling.ThucydidesFluentWait;
+import net.thucydides.core.util.EnvironmentVariables;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.NoSuchFrameException;
@@ -30,6 +35,7 @@ class RenderedPageObjectView {
     private transient long waitForTimeoutInMilliseconds;
     private final Clock webdriverClock;
     private final Sleeper sleeper;
+    private final PollingStrategy pollingStrategy;
 
     private static final int WAIT_FOR_ELEMENT_PAUSE_LENGTH = 50;
 
@@ -41,17 +47,18 @@ class RenderedPageObjectView {
         this.waitForTimeoutInMilliseconds = waitForTimeout;
         this.webdriverClock = new SystemClock();
         this.sleeper = Sleeper.SYSTEM_SLEEPER;
+        this.pollingStrategy = PollingStrategies.definedIn(Injectors.getInjector().getInstance(EnvironmentVariables.class));
     }
 
     public ThucydidesFluentWait<WebDriver> waitForCondition() {
-        return new NormalFluentWait<WebDriver>(driver, webdriverClock, sleeper)
+        return new NormalFluentWait<WebDriver>(driver, webdriverClock, new PollingSleeper(pollingStrategy, sleeper))
                 .withTimeout(waitForTimeoutInMilliseconds, TimeUnit.MILLISECONDS)
                 .pollingEvery(WAIT_FOR_ELEMENT_PAUSE_LENGTH, TimeUnit.MILLISECONDS)
                 .ignoring(NoSuchElementException.class, NoSuchFrameException.class);
     }
 
     public FluentWait<WebDriver> doWait() {
-        return new FluentWait(driver)
+        return new FluentWait<WebDriver>(driver, webdriverClock, new PollingSleeper(pollingStrategy, sleeper))
                     .withTimeout(waitForTimeoutInMilliseconds, TimeUnit.MILLISECONDS)
                     .pollingEvery(WAIT_FOR_ELEMENT_PAUSE_LENGTH, TimeUnit.MILLISECONDS)
                     .ignoring(NoSuchElementException.class, NoSuchFrameException.class);
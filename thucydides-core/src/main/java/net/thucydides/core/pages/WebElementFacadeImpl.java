@@ -4,8 +4,12 @@ import ch.lambdaj.function.convert.Converter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.annotations.locators.QuickElementLookup;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.pages.jquery.JQueryEnabledPage;
+import net.thucydides.core.scheduling.PollingSleeper;
+import net.thucydides.core.scheduling.PollingStrategies;
+import net.thucydides.core.scheduling.PollingStrategy;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
@@ -56,6 +60,7 @@ public class WebElementFacadeImpl implements WebElementFacade {
     private JavascriptExecutorFacade javascriptExecutorFacade;
     private InternalSystemClock clock = new InternalSystemClock();
     private final EnvironmentVariables environmentVariables;
+    private final PollingStrategy pollingStrategy;
     
     private ElementLocator locator;
 
@@ -73,6 +78,7 @@ public class WebElementFacadeImpl implements WebElementFacade {
 		this.sleeper = Sleeper.SYSTEM_SLEEPER;
 		this.javascriptExecutorFacade = new JavascriptExecutorFacade(driver);
 		this.environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+		this.pollingStrategy = PollingStrategies.definedIn(environmentVariables);
     }
     
     /**
@@ -242,22 +248,45 @@ public class WebElementFacadeImpl implements WebElementFacade {
      * Is this web element present and visible on the screen
      * This method will not throw an exception if the element is not on the screen at all.
      * The method will fail immediately if the element is not visible on the screen.
-     * There is a little black magic going on here - the web element class will detect if it is being called
-     * by a method called "isCurrently*" and, if so, fail immediately without waiting as it would normally do.
+     * The element lookup is flagged as a quick lookup, so the element locator will fail immediately
+     * rather than waiting for the element to appear as it would normally do.
      */
     @Override
 	public boolean isCurrentlyVisible() {
-        return isVisible();
+        QuickElementLookup.startQuickLookup();
+        try {
+            return isVisible();
+        } finally {
+            QuickElementLookup.endQuickLookup();
+        }
     }
 
     @Override
 	public boolean isCurrentlyEnabled() {
+        QuickElementLookup.startQuickLookup();
         try {
             return getElement().isEnabled();
         } catch (NoSuchElementException e) {
             return false;
         } catch (StaleElementReferenceException se) {
             return false;
+        } finally {
+            QuickElementLookup.endQuickLookup();
+        }
+    }
+
+    /**
+     * Read whether the element is present, displayed, enabled and selected, along with its text and value,
+     * in a single round trip to the browser where Javascript is available.
+     */
+	public ElementState getState() {
+        QuickElementLookup.startQuickLookup();
+        try {
+            return new ElementStateQuery(driver).statesOf(Arrays.asList(getElement())).get(0);
+        } catch (NoSuchElementException e) {
+            return ElementState.notPresent();
+        } finally {
+            QuickElementLookup.endQuickLookup();
         }
     }
 
@@ -289,8 +318,13 @@ public class WebElementFacadeImpl implements WebElementFacade {
      */
     @Override
 	public void shouldNotBeVisible() {
-        if (isCurrentlyVisible()) {
-            throw new AssertionError("Element should not be visible");
+        QuickElementLookup.startQuickLookup();
+        try {
+            if (isCurrentlyVisible()) {
+                throw new AssertionError("Element should not be visible");
+            }
+        } finally {
+            QuickElementLookup.endQuickLookup();
         }
     }
 
@@ -582,10 +616,13 @@ public class WebElementFacadeImpl implements WebElementFacade {
             return this;
         }
 
+        QuickElementLookup.startQuickLookup();
         try {
             waitForCondition().until(elementIsDisplayed());
         } catch (Throwable error) {
             throwErrorWithCauseIfPresent(error, error.getMessage());
+        } finally {
+            QuickElementLookup.endQuickLookup();
         }
         return this;
     }
@@ -681,7 +718,7 @@ public class WebElementFacadeImpl implements WebElementFacade {
 
     @Override
 	public Wait<WebDriver> waitForCondition() {
-        return new FluentWait<WebDriver>(driver, webdriverClock, sleeper)
+        return new FluentWait<WebDriver>(driver, webdriverClock, new PollingSleeper(pollingStrategy, sleeper))
                 .withTimeout(timeoutInMilliseconds, TimeUnit.MILLISECONDS)
                 .pollingEvery(WAIT_FOR_ELEMENT_PAUSE_LENGTH, TimeUnit.MILLISECONDS)
                 .ignoring(NoSuchElementException.class, NoSuchFrameException.class);
@@ -725,11 +762,14 @@ public class WebElementFacadeImpl implements WebElementFacade {
             return this;
         }
 
+        QuickElementLookup.startQuickLookup();
         try {
             waitForCondition().until(elementIsEnabled());
             return this;
         } catch (TimeoutException timeout) {
             throw new ElementNotVisibleException("Expected enabled element '"+ toString() + "' was not enabled" , timeout);
+        } finally {
+            QuickElementLookup.endQuickLookup();
         }
     }
 
@@ -813,7 +853,7 @@ public class WebElementFacadeImpl implements WebElementFacade {
 
     private void enableHighlightingIfRequired() {
         JQueryEnabledPage jQueryEnabledPage = JQueryEnabledPage.withDriver(driver);
-        if (jQueryEnabledPage.isJQueryEnabled()) {
+        if (jQueryEnabledPage.isHighlightingActivated() && jQueryEnabledPage.isJQueryEnabled()) {
             jQueryEnabledPage.injectJQueryPlugins();
         }
     }
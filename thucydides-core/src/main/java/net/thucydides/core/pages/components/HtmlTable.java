@@ -2,9 +2,16 @@ package net.thucydides.core.pages.components;
 
 import ch.lambdaj.function.convert.Converter;
 import net.thucydides.core.matchers.BeanMatcher;
+import net.thucydides.core.pages.ElementStateQuery;
+import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,29 +20,119 @@ import java.util.List;
 import java.util.Map;
 
 import static ch.lambdaj.Lambda.convert;
+import static net.thucydides.core.webdriver.javascript.JavascriptSupport.javascriptIsSupportedIn;
 
 /**
  * Class designed to make it easier reading from and reasoning about data in HTML tables.
+ * By default each cell is read separately with WebDriver's getText().
+ * In snapshot mode, where the browser supports Javascript, the whole table is read in a single round trip instead.
  */
 public class HtmlTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HtmlTable.class);
+
+    private static final String TABLE_CONTENTS_SCRIPT =
+            ElementStateQuery.TEXT_OF_FUNCTION
+          + "function textsOf(elements) {"
+          + "  var texts = [];"
+          + "  for (var i = 0; i < elements.length; i++) { texts.push(textOf(elements[i])); }"
+          + "  return texts;"
+          + "}"
+          + "function cellsIn(row) {"
+          + "  var cells = [];"
+          + "  for (var i = 0; i < row.children.length; i++) {"
+          + "    if (row.children[i].tagName.toUpperCase() === 'TD') { cells.push(row.children[i]); }"
+          + "  }"
+          + "  return cells;"
+          + "}"
+          + "var table = arguments[0];"
+          + "var rows = table.getElementsByTagName('tr');"
+          + "var rowCells = [];"
+          + "for (var i = 0; i < rows.length; i++) {"
+          + "  var cells = cellsIn(rows[i]);"
+          + "  if (cells.length > 0) { rowCells.push(textsOf(cells)); }"
+          + "}"
+          + "return {headings: textsOf(table.getElementsByTagName('th')),"
+          + "        firstRowCells: (rows.length > 0) ? textsOf(rows[0].getElementsByTagName('td')) : [],"
+          + "        rows: rowCells};";
+
     private final WebElement tableElement;
+    private final List<String> providedHeadings;
+    private final boolean snapshotMode;
     private List<String> headings;
+    private TableSnapshot snapshot;
+    private List<WebElement> snapshotRowElements;
 
     public HtmlTable(final WebElement tableElement) {
-        this.tableElement = tableElement;
-        this.headings = null;
+        this(tableElement, null, false);
     }
 
     public HtmlTable(final WebElement tableElement, List<String> headings) {
+        this(tableElement, headings, false);
+    }
+
+    private HtmlTable(final WebElement tableElement, List<String> headings, boolean snapshotMode) {
         this.tableElement = tableElement;
+        this.providedHeadings = headings;
         this.headings = headings;
+        this.snapshotMode = snapshotMode;
     }
 
     public static HtmlTable inTable(final WebElement table) {
         return new HtmlTable(table);
     }
 
+    /**
+     * A version of this table that reads the whole table once, and answers later queries from that snapshot
+     * until it is refreshed. Use this for large tables that are queried several times without changing.
+     * Where the browser supports Javascript, the snapshot is read with a single script: the text of each cell
+     * follows the rules WebDriver uses for getText(), except that text transforms and generated content
+     * are not taken into account.
+     */
+    public HtmlTable inSnapshotMode() {
+        return new HtmlTable(tableElement, providedHeadings, true);
+    }
+
+    /**
+     * Discard the current snapshot, so that the table is read again the next time it is queried.
+     */
+    public HtmlTable refresh() {
+        snapshot = null;
+        snapshotRowElements = null;
+        headings = providedHeadings;
+        return this;
+    }
+
+    /**
+     * The current contents of the table. In snapshot mode, the table is only read the first time.
+     */
+    public TableSnapshot getSnapshot() {
+        if (!snapshotMode) {
+            return takeSnapshot();
+        }
+        if (snapshot == null) {
+            snapshot = takeSnapshot();
+        }
+        return snapshot;
+    }
+
+    private TableSnapshot takeSnapshot() {
+        List<Map<Object, String>> rows = readRows();
+        return new TableSnapshot(getHeadings(), rows);
+    }
+
     public List<Map<Object, String>> getRows() {
+        if (snapshotMode) {
+            return new ArrayList<Map<Object, String>>(getSnapshot().getRows());
+        }
+        return readRows();
+    }
+
+    private List<Map<Object, String>> readRows() {
+        TableContents contents = snapshotMode ? readTableContents() : null;
+        if (contents != null) {
+            return rowsFrom(contents);
+        }
 
         List<Map<Object, String>> results = new ArrayList<Map<Object, String>>();
 
@@ -45,7 +142,7 @@ public class HtmlTable {
         for (WebElement row : rows) {
             List<WebElement> cells = cellsIn(row);
             if (enoughCellsFor(headings).in(cells)) {
-                results.add(rowDataFrom(cells, headings));
+                results.add(rowDataFrom(cellTextsIn(cells, headings), headings));
             }
         }
         return results;
@@ -60,24 +157,28 @@ public class HtmlTable {
     }
 
     public boolean containsRowElementsWhere(BeanMatcher... matchers) {
-        List<WebElement> rows = getRowElementsWhere(matchers);
-        return (!rows.isEmpty());
+        return hasRowsWhere(matchers);
     }
 
     public void shouldHaveRowElementsWhere(BeanMatcher... matchers) {
-        List<WebElement> rows = getRowElementsWhere(matchers);
-        if (rows.isEmpty()) {
+        if (!hasRowsWhere(matchers)) {
             throw new AssertionError("Expecting a table with at least one row where: " + Arrays.deepToString(matchers));
         }
     }
 
     public void shouldNotHaveRowElementsWhere(BeanMatcher... matchers) {
-        List<WebElement> rows = getRowElementsWhere(matchers);
-        if (!rows.isEmpty()) {
+        if (hasRowsWhere(matchers)) {
             throw new AssertionError("Expecting a table with no rows where: " + Arrays.deepToString(matchers));
         }
     }
 
+    /**
+     * Checking for matching rows only needs the cell values, not the row elements.
+     */
+    private boolean hasRowsWhere(BeanMatcher... matchers) {
+        return !getSnapshot().rowIndexesWhere(matchers).isEmpty();
+    }
+
     public static HtmlTableBuilder withColumns(String... headings) {
         return new HtmlTableBuilder(Arrays.asList(headings));
     }
@@ -168,8 +269,15 @@ public class HtmlTable {
 
     public List<WebElement> getRowElementsWhere(BeanMatcher... matchers) {
 
-        List<WebElement> rowElements = getRowElementsFor(getHeadings());
-        List<Integer> matchingRowIndexes = findMatchingIndexesFor(rowElements, matchers);
+        TableSnapshot tableSnapshot = getSnapshot();
+        List<WebElement> rowElements = rowElementsFor(tableSnapshot);
+        List<Integer> matchingRowIndexes;
+        if (rowElements.size() == tableSnapshot.getRows().size()) {
+            matchingRowIndexes = tableSnapshot.rowIndexesWhere(matchers);
+        } else {
+            LOGGER.debug("The table has changed since it was read, checking the rows one by one");
+            matchingRowIndexes = findMatchingIndexesFor(rowElements, matchers);
+        }
 
         List<WebElement> matchingElements = new ArrayList<WebElement>();
         for(Integer index : matchingRowIndexes) {
@@ -178,6 +286,16 @@ public class HtmlTable {
         return matchingElements;
     }
 
+    private List<WebElement> rowElementsFor(TableSnapshot tableSnapshot) {
+        if (!snapshotMode) {
+            return getRowElementsFor(tableSnapshot.getHeadings());
+        }
+        if (snapshotRowElements == null) {
+            snapshotRowElements = getRowElementsFor(tableSnapshot.getHeadings());
+        }
+        return snapshotRowElements;
+    }
+
     private List<Integer> findMatchingIndexesFor(List<WebElement> rowElements,
                                                  BeanMatcher[] matchers) {
         List<Integer> indexes = new ArrayList<Integer>();
@@ -186,7 +304,7 @@ public class HtmlTable {
         int index = 0;
         for(WebElement row : rowElements) {
             List<WebElement> cells = cellsIn(row);
-            Map<Object, String> rowData = rowDataFrom(cells, headings);
+            Map<Object, String> rowData = rowDataFrom(cellTextsIn(cells, headings), headings);
             if (matches(rowData, matchers)) {
                 indexes.add(index);
             }
@@ -206,7 +324,7 @@ public class HtmlTable {
     }
 
 
-    private Map<Object,String> rowDataFrom(List<WebElement> cells, List<String> headings) {
+    private Map<Object,String> rowDataFrom(List<String> cells, List<String> headings) {
         Map<Object,String> rowData = new HashMap<Object, String>();
 
         int column = 0;
@@ -224,8 +342,91 @@ public class HtmlTable {
         return row.findElements(By.xpath("./td"));
     }
 
-    private String cellValueAt(final int column, final List<WebElement> cells) {
-        return cells.get(column).getText();
+    private String cellValueAt(final int column, final List<String> cells) {
+        return cells.get(column);
+    }
+
+    private List<String> cellTextsIn(final List<WebElement> cells, final List<String> headings) {
+        List<String> cellTexts = new ArrayList<String>();
+        for (int column = 0; column < headings.size(); column++) {
+            cellTexts.add(cells.get(column).getText());
+        }
+        return cellTexts;
+    }
+
+    /**
+     * The headings and the text of every row of the table, as read by a single script.
+     */
+    public static class TableContents {
+        private List<String> headings = new ArrayList<String>();
+        private List<String> firstRowCells = new ArrayList<String>();
+        private List<List<String>> rows = new ArrayList<List<String>>();
+
+        public List<String> getHeadings() {
+            return headings;
+        }
+
+        public void setHeadings(List<String> headings) {
+            this.headings = headings;
+        }
+
+        public List<String> getFirstRowCells() {
+            return firstRowCells;
+        }
+
+        public void setFirstRowCells(List<String> firstRowCells) {
+            this.firstRowCells = firstRowCells;
+        }
+
+        public List<List<String>> getRows() {
+            return rows;
+        }
+
+        public void setRows(List<List<String>> rows) {
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * @return the table contents, or null if they cannot be read with Javascript.
+     */
+    private TableContents readTableContents() {
+        WebElement browserElement = ElementStateQuery.unwrapped(tableElement);
+        if (!(browserElement instanceof WrapsDriver)) {
+            return null;
+        }
+        WebDriver driver = ((WrapsDriver) browserElement).getWrappedDriver();
+        if (driver == null || !javascriptIsSupportedIn(driver)) {
+            return null;
+        }
+        try {
+            return new JavascriptExecutorFacade(driver).deserializeScriptResultAs(TableContents.class,
+                                                                                  TABLE_CONTENTS_SCRIPT,
+                                                                                  browserElement);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Could not read the table in one call, reading it cell by cell: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private List<Map<Object, String>> rowsFrom(TableContents contents) {
+        if (headings == null) {
+            headings = contents.getHeadings().isEmpty() ? contents.getFirstRowCells() : contents.getHeadings();
+        }
+        List<List<String>> rows = new ArrayList<List<String>>();
+        for (List<String> row : contents.getRows()) {
+            if (row.size() >= headings.size()) {
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty() && rows.get(0).subList(0, headings.size()).equals(headings)) {
+            rows.remove(0);
+        }
+        List<Map<Object, String>> results = new ArrayList<Map<Object, String>>();
+        for (List<String> row : rows) {
+            results.add(rowDataFrom(row, headings));
+        }
+        return results;
     }
 
     private Converter<WebElement, String> toTextValues() {
@@ -0,0 +1,112 @@
+package net.thucydides.core.pages.components;
+
+import net.thucydides.core.matchers.BeanFieldMatcher;
+import net.thucydides.core.matchers.BeanMatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rows of an HTML table at a given point in time, with an index of the rows by column value.
+ * A matcher on a single column is checked once for each distinct value in that column, rather than once per row,
+ * and the column indexes are built the first time a column is queried.
+ */
+public class TableSnapshot {
+
+    private final List<String> headings;
+    private final List<Map<Object, String>> rows;
+    private final Map<String, Map<String, List<Integer>>> columnIndexes = new HashMap<String, Map<String, List<Integer>>>();
+
+    public TableSnapshot(final List<String> headings, final List<Map<Object, String>> rows) {
+        this.headings = Collections.unmodifiableList(new ArrayList<String>(headings));
+        this.rows = Collections.unmodifiableList(new ArrayList<Map<Object, String>>(rows));
+    }
+
+    public List<String> getHeadings() {
+        return headings;
+    }
+
+    public List<Map<Object, String>> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the positions of the rows matching all of the matchers, in table order.
+     */
+    public List<Integer> rowIndexesWhere(final BeanMatcher... matchers) {
+        List<Integer> candidates = allRowIndexes();
+        for (BeanMatcher matcher : matchers) {
+            if (candidates.isEmpty()) {
+                break;
+            }
+            if (isIndexable(matcher)) {
+                candidates = indexedRowsMatching((BeanFieldMatcher) matcher, candidates);
+            } else {
+                candidates = scannedRowsMatching(matcher, candidates);
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isIndexable(final BeanMatcher matcher) {
+        return (matcher instanceof BeanFieldMatcher)
+                && headings.contains(((BeanFieldMatcher) matcher).getFieldName());
+    }
+
+    /**
+     * Each distinct value is checked against the first row that contains it: as the matcher only depends on
+     * the value of this column, the result holds for every other row with the same value.
+     */
+    private List<Integer> indexedRowsMatching(final BeanFieldMatcher matcher, final List<Integer> candidates) {
+        List<Integer> matchingRows = new ArrayList<Integer>();
+        for (List<Integer> rowsWithValue : indexOf(matcher.getFieldName()).values()) {
+            if (matcher.matches(rows.get(rowsWithValue.get(0)))) {
+                matchingRows.addAll(rowsWithValue);
+            }
+        }
+        Collections.sort(matchingRows);
+        matchingRows.retainAll(new HashSet<Integer>(candidates));
+        return matchingRows;
+    }
+
+    private List<Integer> scannedRowsMatching(final BeanMatcher matcher, final List<Integer> candidates) {
+        List<Integer> matchingRows = new ArrayList<Integer>();
+        for (Integer rowIndex : candidates) {
+            if (matcher.matches(rows.get(rowIndex))) {
+                matchingRows.add(rowIndex);
+            }
+        }
+        return matchingRows;
+    }
+
+    private Map<String, List<Integer>> indexOf(final String column) {
+        Map<String, List<Integer>> index = columnIndexes.get(column);
+        if (index == null) {
+            index = new LinkedHashMap<String, List<Integer>>();
+            for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+                String value = rows.get(rowIndex).get(column);
+                List<Integer> rowsWithValue = index.get(value);
+                if (rowsWithValue == null) {
+                    rowsWithValue = new ArrayList<Integer>();
+                    index.put(value, rowsWithValue);
+                }
+                rowsWithValue.add(rowIndex);
+            }
+            columnIndexes.put(column, index);
+        }
+        return index;
+    }
+
+    private List<Integer> allRowIndexes() {
+        List<Integer> indexes = new ArrayList<Integer>();
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            indexes.add(rowIndex);
+        }
+        return indexes;
+    }
+}
@@ -1,15 +1,12 @@
 package net.thucydides.core.pages.jquery;
 
-import com.google.common.base.Charsets;
-import com.google.common.io.Resources;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.javascript.JavascriptExecutorFacade;
+import net.thucydides.core.webdriver.javascript.JavascriptInjector;
 import org.openqa.selenium.WebDriver;
 
-import java.net.URL;
-
 import static net.thucydides.core.webdriver.javascript.JavascriptSupport.javascriptIsSupportedIn;
 
 public class JQueryEnabledPage {
@@ -46,36 +43,31 @@ public class JQueryEnabledPage {
 
 
     public void injectJQuery() {
-        executeScriptFrom("jquery/jquery.min.js");
+        executeScriptFrom(JavascriptInjector.JQUERY);
         executeScriptFrom("jquery/jquery.focus.test-fix.js");
     }
 
+    /**
+     * Add a script from the classpath to the current page, unless the page already defines it.
+     */
     protected void executeScriptFrom(String scriptSource) {
         if (javascriptIsSupportedIn(driver)) {
-            String script = getFileAsString(scriptSource);
             JavascriptExecutorFacade js = new JavascriptExecutorFacade(driver);
-            js.executeScript(script);
+            new JavascriptInjector(js).injectIfMissing(scriptSource);
         }
     }
 
-    private String getFileAsString(final String resourcePath) {
-        String content = "";
-        try {
-            URL fileUrl = getClass().getClassLoader().getResource(resourcePath);
-            content = Resources.toString(fileUrl, Charsets.UTF_8);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-        return content;
+    public boolean isHighlightingActivated() {
+        return environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.ACTIVTE_HIGHLIGHTING.getPropertyName(), false);
     }
 
     public void injectJQueryPlugins() {
-        if (environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.ACTIVTE_HIGHLIGHTING.getPropertyName(), false)) {
+        if (isHighlightingActivated()) {
             executeScriptFrom("jquery/jquery-thucydides-plugin.js");
         }
     }
     
     public void injectJavaScriptUtils(){
-    	executeScriptFrom("javascript/cycle.js");
+    	executeScriptFrom(JavascriptInjector.CYCLE);
     }
 }
@@ -0,0 +1,76 @@
+package net.thucydides.core.reports;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.reflection.Sun14ReflectionProvider;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.json.ClassTypeAdapter;
+import net.thucydides.core.reports.json.TestOutcomeSerializer;
+import net.thucydides.core.reports.json.ThrowableClassAdapter;
+import net.thucydides.core.reports.xml.TestOutcomeConverter;
+
+/**
+ * Pre-configured serializers for the XML and JSON test outcome reports and for the test history snapshots.
+ * Configuring XStream and Gson is expensive, so each serializer is created once, the first time it is needed,
+ * and then shared. Once configured, both XStream and Gson instances can safely be used from several threads.
+ */
+public class SerializerRegistry {
+
+    private static class TestOutcomeXStreamHolder {
+        private static final XStream INSTANCE = createTestOutcomeXStream();
+    }
+
+    private static class TestOutcomeGsonHolder {
+        private static final Gson INSTANCE = createTestOutcomeGson();
+    }
+
+    private static class HistoryXStreamHolder {
+        private static final XStream INSTANCE = createHistoryXStream();
+    }
+
+    /**
+     * Reads and writes test outcomes in the XML report format.
+     */
+    public static XStream testOutcomeXStream() {
+        return TestOutcomeXStreamHolder.INSTANCE;
+    }
+
+    /**
+     * Reads and writes test outcomes in the JSON report format.
+     */
+    public static Gson testOutcomeGson() {
+        return TestOutcomeGsonHolder.INSTANCE;
+    }
+
+    /**
+     * Reads and writes the test result and progress snapshots used to record the test history.
+     */
+    public static XStream historyXStream() {
+        return HistoryXStreamHolder.INSTANCE;
+    }
+
+    private static XStream createTestOutcomeXStream() {
+        XStream xstream = new XStream();
+        xstream.alias("acceptance-test-run", TestOutcome.class);
+        xstream.registerConverter(new TestOutcomeConverter());
+        return xstream;
+    }
+
+    /**
+     * The history snapshots have no no-args constructors, so they can only be read back with the reflection provider
+     * that bypasses constructors. XStream only picks that provider by default on the JVMs it recognises.
+     */
+    private static XStream createHistoryXStream() {
+        return new XStream(new Sun14ReflectionProvider());
+    }
+
+    private static Gson createTestOutcomeGson() {
+        GsonBuilder builder = new GsonBuilder();
+        builder.setPrettyPrinting();
+        builder.registerTypeAdapter(TestOutcome.class, new TestOutcomeSerializer());
+        builder.registerTypeAdapter(Class.class, new ClassTypeAdapter());
+        builder.registerTypeAdapter(Throwable.class, new ThrowableClassAdapter());
+        return builder.create();
+    }
+}
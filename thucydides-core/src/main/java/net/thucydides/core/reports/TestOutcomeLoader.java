@@ -3,6 +3,7 @@ package net.thucydides.core.reports;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
@@ -10,19 +11,31 @@ import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
 import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
 import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Loads test outcomes from a given directory, and reports on their contents.
  * This class is used for aggregate reporting.
+ * Report files are parsed on a pool of worker threads (see thucydides.report.loader.threads),
+ * but the outcomes are always returned in the order of the report file names.
  */
 public class TestOutcomeLoader {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestOutcomeLoader.class);
+
     private final EnvironmentVariables environmentVariables;
     private final OutcomeFormat format;
 
@@ -38,6 +51,7 @@ public class TestOutcomeLoader {
 
     /**
      * Load the test outcomes from a given directory.
+     * Files that cannot be read as test outcomes are logged and skipped.
      *
      * @param reportDirectory An existing directory that contains the test outcomes in XML or JSON format.
      * @return The full list of test outcomes.
@@ -45,28 +59,86 @@ public class TestOutcomeLoader {
      */
     public List<TestOutcome> loadFrom(final File reportDirectory) throws IOException {
 
-        AcceptanceTestLoader testOutcomeReporter = getOutcomeReporter();
-
         List<File> reportFiles = getAllOutcomeFilesFrom(reportDirectory);
 
+        int threadCount = Math.min(getThreadCount(), reportFiles.size());
+        if (threadCount <= 1) {
+            return loadSequentiallyFrom(reportFiles);
+        } else {
+            return loadInParallelFrom(reportFiles, threadCount);
+        }
+    }
+
+    private List<TestOutcome> loadSequentiallyFrom(List<File> reportFiles) {
+        AcceptanceTestLoader testOutcomeReporter = getOutcomeReporter();
         List<TestOutcome> testOutcomes = Lists.newArrayList();
         for (File reportFile : reportFiles) {
-            Optional<TestOutcome> testOutcome = testOutcomeReporter.loadReportFrom(reportFile);
-            testOutcomes.addAll(testOutcome.asSet());
+            testOutcomes.addAll(loadOutcomeFrom(reportFile, testOutcomeReporter).asSet());
         }
-
         return ImmutableList.copyOf(testOutcomes);
     }
 
+    private List<TestOutcome> loadInParallelFrom(List<File> reportFiles, int threadCount) throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount,
+                                                                       new ThreadFactoryBuilder()
+                                                                               .setNameFormat("thucydides-report-loader-%d")
+                                                                               .setDaemon(true)
+                                                                               .build());
+        try {
+            List<Future<Optional<TestOutcome>>> loadedOutcomes = Lists.newArrayList();
+            for (File reportFile : reportFiles) {
+                loadedOutcomes.add(executorService.submit(new OutcomeLoaderTask(reportFile)));
+            }
+            List<TestOutcome> testOutcomes = Lists.newArrayList();
+            for (Future<Optional<TestOutcome>> loadedOutcome : loadedOutcomes) {
+                testOutcomes.addAll(loadedOutcome.get().asSet());
+            }
+            return ImmutableList.copyOf(testOutcomes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading test outcomes", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to load test outcomes", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Optional<TestOutcome> loadOutcomeFrom(File reportFile, AcceptanceTestLoader testOutcomeReporter) {
+        try {
+            return testOutcomeReporter.loadReportFrom(reportFile);
+        } catch (Exception e) {
+            LOGGER.warn("Could not load test outcome from " + reportFile + ": " + e.getMessage());
+            return Optional.absent();
+        }
+    }
+
+    private class OutcomeLoaderTask implements Callable<Optional<TestOutcome>> {
+        private final File reportFile;
+
+        private OutcomeLoaderTask(File reportFile) {
+            this.reportFile = reportFile;
+        }
+
+        public Optional<TestOutcome> call() {
+            return loadOutcomeFrom(reportFile, getOutcomeReporter());
+        }
+    }
 
     private List<File> getAllOutcomeFilesFrom(final File reportsDirectory) throws IOException{
         File[] matchingFiles = reportsDirectory.listFiles(new SerializedOutcomeFilenameFilter());
         if (matchingFiles == null) {
             throw new IOException("Could not find directory " + reportsDirectory);
         }
+        Arrays.sort(matchingFiles);
         return ImmutableList.copyOf(matchingFiles);
     }
 
+    private int getThreadCount() {
+        return environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_REPORT_LOADER_THREADS,
+                                                         Runtime.getRuntime().availableProcessors());
+    }
+
     public static TestOutcomes testOutcomesIn(final File reportsDirectory) throws IOException {
         TestOutcomeLoader loader = new TestOutcomeLoader();
         return TestOutcomes.of(loader.loadFrom(reportsDirectory));
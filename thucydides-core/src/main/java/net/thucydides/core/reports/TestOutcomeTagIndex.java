@@ -0,0 +1,105 @@
+package net.thucydides.core.reports;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static ch.lambdaj.Lambda.on;
+import static ch.lambdaj.Lambda.sort;
+
+/**
+ * An inverted index from tags, tag names and tag types to the test outcomes that carry them.
+ * The index is built in a single pass over the outcomes, and each list of matching outcomes
+ * keeps the order of the original outcomes, so lookups give the same results as filtering the full list.
+ */
+class TestOutcomeTagIndex {
+
+    private final Map<String, List<TestOutcome>> outcomesByTagName = Maps.newHashMap();
+    private final Map<String, List<TestOutcome>> outcomesByTagType = Maps.newHashMap();
+    private final Map<TestTag, List<TestOutcome>> outcomesByTag = Maps.newHashMap();
+    private final Set<TestTag> tags = Sets.newHashSet();
+
+    private final List<TestTag> tagList;
+    private final List<String> tagNames;
+    private final List<String> tagTypes;
+
+    TestOutcomeTagIndex(List<? extends TestOutcome> outcomes) {
+        Set<String> normalizedTagNames = Sets.newHashSet();
+        Set<String> normalizedTagTypes = Sets.newHashSet();
+        for (TestOutcome outcome : outcomes) {
+            for (TestTag tag : outcome.getTags()) {
+                tags.add(tag);
+                normalizedTagNames.add(tag.getName().toLowerCase());
+                normalizedTagTypes.add(tag.getType().toLowerCase());
+                addTo(outcomesByTagName, tag.getName().toLowerCase(), outcome);
+                addTo(outcomesByTagType, tag.getType(), outcome);
+                addTo(outcomesByTag, tag, outcome);
+            }
+        }
+        tagList = ImmutableList.copyOf(tags);
+        tagNames = sort(ImmutableList.copyOf(normalizedTagNames), on(String.class));
+        tagTypes = sort(ImmutableList.copyOf(normalizedTagTypes), on(String.class));
+    }
+
+    /**
+     * An outcome with several matching tags is only listed once.
+     * Outcomes are indexed one after the other, so any duplicate is always the last entry.
+     */
+    private <K> void addTo(Map<K, List<TestOutcome>> index, K key, TestOutcome outcome) {
+        List<TestOutcome> matchingOutcomes = index.get(key);
+        if (matchingOutcomes == null) {
+            matchingOutcomes = Lists.newArrayList();
+            index.put(key, matchingOutcomes);
+        }
+        if (matchingOutcomes.isEmpty() || matchingOutcomes.get(matchingOutcomes.size() - 1) != outcome) {
+            matchingOutcomes.add(outcome);
+        }
+    }
+
+    List<TestOutcome> withTagName(String tagName) {
+        return outcomesIn(outcomesByTagName, tagName.toLowerCase());
+    }
+
+    List<TestOutcome> withTagType(String tagType) {
+        return outcomesIn(outcomesByTagType, tagType);
+    }
+
+    List<TestOutcome> withTag(TestTag tag) {
+        return outcomesIn(outcomesByTag, tag);
+    }
+
+    private <K> List<TestOutcome> outcomesIn(Map<K, List<TestOutcome>> index, K key) {
+        List<TestOutcome> matchingOutcomes = index.get(key);
+        return (matchingOutcomes == null) ? Collections.<TestOutcome>emptyList() : Collections.unmodifiableList(matchingOutcomes);
+    }
+
+    List<TestTag> getTags() {
+        return tagList;
+    }
+
+    boolean containsTag(TestTag tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * @return the tag names, in lower case and in alphabetical order.
+     */
+    List<String> getTagNames() {
+        return tagNames;
+    }
+
+    /**
+     * @return the tag types, in lower case and in alphabetical order.
+     */
+    List<String> getTagTypes() {
+        return tagTypes;
+    }
+}
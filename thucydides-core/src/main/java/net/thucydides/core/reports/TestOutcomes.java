@@ -40,8 +40,6 @@ import static ch.lambdaj.Lambda.sum;
 import static net.thucydides.core.model.TestResult.PENDING;
 import static net.thucydides.core.model.TestResult.SKIPPED;
 import static net.thucydides.core.model.TestResult.SUCCESS;
-import static net.thucydides.core.reports.matchers.TestOutcomeMatchers.havingTagName;
-import static net.thucydides.core.reports.matchers.TestOutcomeMatchers.havingTagType;
 import static net.thucydides.core.reports.matchers.TestOutcomeMatchers.withResult;
 import static org.hamcrest.Matchers.is;
 
@@ -70,6 +68,11 @@ public class TestOutcomes {
      */
     private final String label;
 
+    /**
+     * Tag lookups for these outcomes, built the first time they are needed.
+     */
+    private volatile TestOutcomeTagIndex tagIndex;
+
     /**
      * Reference to the test statistics service provider, used to inject test history if required.
      */
@@ -102,7 +105,21 @@ public class TestOutcomes {
     }
 
     public TestOutcomes withLabel(String label) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label);
+        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label).withTagIndex(tagIndex);
+    }
+
+    private TestOutcomes withTagIndex(TestOutcomeTagIndex tagIndex) {
+        this.tagIndex = tagIndex;
+        return this;
+    }
+
+    private TestOutcomeTagIndex getTagIndex() {
+        TestOutcomeTagIndex index = tagIndex;
+        if (index == null) {
+            index = new TestOutcomeTagIndex(outcomes);
+            tagIndex = index;
+        }
+        return index;
     }
 
     public static TestOutcomes of(List<? extends TestOutcome> outcomes) {
@@ -125,18 +142,11 @@ public class TestOutcomes {
      * @return The list of all of the different tag types that appear in the test outcomes.
      */
     public List<String> getTagTypes() {
-        Set<String> tagTypes = Sets.newHashSet();
-        for (TestOutcome outcome : outcomes) {
-            addTagTypesFrom(outcome, tagTypes);
-        }
-        return sort(ImmutableList.copyOf(tagTypes), on(String.class));
+        return getTagIndex().getTagTypes();
     }
 
     public List<String> getFirstClassTagTypes() {
-        Set<String> tagTypes = Sets.newHashSet();
-        for (TestOutcome outcome : outcomes) {
-            addTagTypesFrom(outcome, tagTypes);
-        }
+        Set<String> tagTypes = Sets.newHashSet(getTagTypes());
         tagTypes.remove("version");
         tagTypes.removeAll(getRequirementTagTypes());
         return sort(ImmutableList.copyOf(tagTypes), on(String.class));
@@ -146,8 +156,9 @@ public class TestOutcomes {
        List<String> tagTypes = Lists.newArrayList();
 
        List<String> candidateTagTypes = requirementsService.getRequirementTypes();
+       List<String> allTagTypes = getTagTypes();
        for(String tagType : candidateTagTypes) {
-           if (getTagTypes().contains(tagType)) {
+           if (allTagTypes.contains(tagType)) {
                tagTypes.add(tagType);
            }
        }
@@ -158,40 +169,14 @@ public class TestOutcomes {
      * @return The list of all the names of the different tags in these test outcomes
      */
     public List<String> getTagNames() {
-        Set<String> tags = Sets.newHashSet();
-        for (TestOutcome outcome : outcomes) {
-            addTagNamesFrom(outcome, tags);
-        }
-        return sort(ImmutableList.copyOf(tags), on(String.class));
-    }
-
-    private void addTagNamesFrom(TestOutcome outcome, Set<String> tags) {
-        for (TestTag tag : outcome.getTags()) {
-            String normalizedForm = tag.getName().toLowerCase();
-            if (!tags.contains(normalizedForm)) {
-                tags.add(normalizedForm);
-            }
-        }
-    }
-
-    private void addTagTypesFrom(TestOutcome outcome, Set<String> tags) {
-        for (TestTag tag : outcome.getTags()) {
-            String normalizedForm = tag.getType().toLowerCase();
-            if (!tags.contains(normalizedForm)) {
-                tags.add(normalizedForm);
-            }
-        }
+        return getTagIndex().getTagNames();
     }
 
     /**
      * @return The list of all the different tags in these test outcomes
      */
     public List<TestTag> getTags() {
-        Set<TestTag> tags = Sets.newHashSet();
-        for (TestOutcome outcome : outcomes) {
-            tags.addAll(outcome.getTags());
-        }
-        return ImmutableList.copyOf(tags);
+        return getTagIndex().getTags();
     }
 
     /**
@@ -229,7 +214,7 @@ public class TestOutcomes {
     }
 
     public boolean containsTag(TestTag testTag) {
-        return getTags().contains(testTag);
+        return getTagIndex().containsTag(testTag);
     }
 
     public DateTime getStartTime() {
@@ -271,11 +256,12 @@ public class TestOutcomes {
      * @return A new set of test outcomes for this tag type
      */
     public TestOutcomes withTagType(String tagType) {
-        return TestOutcomes.of(filter(havingTagType(tagType), outcomes)).withLabel(tagType).withRootOutcomes(this.getRootOutcomes());
+        return TestOutcomes.of(getTagIndex().withTagType(tagType)).withLabel(tagType).withRootOutcomes(this.getRootOutcomes());
     }
 
     private TestOutcomes withRootOutcomes(TestOutcomes rootOutcomes) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, this.label, rootOutcomes, environmentVariables);
+        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, this.label, rootOutcomes, environmentVariables)
+                .withTagIndex(tagIndex);
     }
 
     /**
@@ -285,7 +271,7 @@ public class TestOutcomes {
      * @return A new set of test outcomes for this tag name
      */
     public TestOutcomes withTag(String tagName) {
-        return TestOutcomes.of(filter(havingTagName(tagName), outcomes)).withLabel(tagName).withRootOutcomes(getRootOutcomes());
+        return TestOutcomes.of(getTagIndex().withTagName(tagName)).withLabel(tagName).withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withTag(TestTag tag) {
@@ -302,6 +288,9 @@ public class TestOutcomes {
     }
 
     private List<? extends TestOutcome> matchingOutcomes(List<? extends TestOutcome> outcomes, TestTag tag) {
+        if (!isAnIssue(tag)) {
+            return getTagIndex().withTag(tag);
+        }
         List<TestOutcome> matchingOutcomes = Lists.newArrayList();
         for (TestOutcome outcome : outcomes) {
             if (isAnIssue(tag) && (outcome.hasIssue(tag.getName()))) {
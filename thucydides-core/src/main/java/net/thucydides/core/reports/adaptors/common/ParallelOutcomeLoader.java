@@ -0,0 +1,93 @@
+package net.thucydides.core.reports.adaptors.common;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.thucydides.core.model.TestOutcome;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the test outcomes from a set of source files in parallel, one file per thread.
+ * The outcomes are returned in the order of the source files, whichever file is read first.
+ */
+public class ParallelOutcomeLoader {
+
+    public interface OutcomeFileReader {
+        List<TestOutcome> testOutcomesIn(File sourceFile) throws IOException;
+    }
+
+    private final OutcomeFileReader reader;
+    private final int threadCount;
+
+    public ParallelOutcomeLoader(final OutcomeFileReader reader) {
+        this(reader, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelOutcomeLoader(final OutcomeFileReader reader, final int threadCount) {
+        this.reader = reader;
+        this.threadCount = Math.max(threadCount, 1);
+    }
+
+    public List<TestOutcome> loadOutcomesFrom(final File[] sourceFiles) throws IOException {
+        if (sourceFiles.length <= 1 || threadCount == 1) {
+            return loadOutcomesOneAtATimeFrom(sourceFiles);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, sourceFiles.length),
+                                                                new ThreadFactoryBuilder()
+                                                                        .setNameFormat("thucydides-outcome-loader-%d")
+                                                                        .setDaemon(true)
+                                                                        .build());
+        try {
+            List<Future<List<TestOutcome>>> loadedFiles = Lists.newArrayList();
+            for (final File sourceFile : sourceFiles) {
+                loadedFiles.add(executor.submit(new Callable<List<TestOutcome>>() {
+                    public List<TestOutcome> call() throws IOException {
+                        return reader.testOutcomesIn(sourceFile);
+                    }
+                }));
+            }
+            List<TestOutcome> loadedOutcomes = Lists.newArrayList();
+            for (Future<List<TestOutcome>> loadedFile : loadedFiles) {
+                loadedOutcomes.addAll(outcomesFrom(loadedFile));
+            }
+            return ImmutableList.copyOf(loadedOutcomes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<TestOutcome> loadOutcomesOneAtATimeFrom(final File[] sourceFiles) throws IOException {
+        List<TestOutcome> loadedOutcomes = Lists.newArrayList();
+        for (File sourceFile : sourceFiles) {
+            loadedOutcomes.addAll(reader.testOutcomesIn(sourceFile));
+        }
+        return ImmutableList.copyOf(loadedOutcomes);
+    }
+
+    private List<TestOutcome> outcomesFrom(final Future<List<TestOutcome>> loadedFile) throws IOException {
+        try {
+            return loadedFile.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading test outcomes", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
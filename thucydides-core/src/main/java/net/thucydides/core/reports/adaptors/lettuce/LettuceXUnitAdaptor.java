@@ -10,65 +10,63 @@ import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestStep;
 import net.thucydides.core.reports.adaptors.common.FilebasedOutcomeAdaptor;
-import net.thucydides.core.reports.adaptors.xunit.BasicXUnitLoader;
+import net.thucydides.core.reports.adaptors.common.ParallelOutcomeLoader;
+import net.thucydides.core.reports.adaptors.xunit.StreamingXUnitLoader;
+import net.thucydides.core.reports.adaptors.xunit.TestCaseHandler;
 import net.thucydides.core.reports.adaptors.xunit.io.XUnitFiles;
 import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
-import net.thucydides.core.reports.adaptors.xunit.model.TestSuite;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 public class LettuceXUnitAdaptor extends FilebasedOutcomeAdaptor {
 
-    BasicXUnitLoader loader = new BasicXUnitLoader();
+    StreamingXUnitLoader loader = new StreamingXUnitLoader();
 
     public List<TestOutcome> loadOutcomesFrom(final File source) throws IOException {
-        List<TestOutcome> loadedOutcomes = Lists.newArrayList();
-        for(File xunitFile : XUnitFiles.in(source)) {
-            loadedOutcomes.addAll(testOutcomesIn(xunitFile));
-        }
-        return ImmutableList.copyOf(loadedOutcomes);
-    }
-
-    private Collection<? extends TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
-        List<TestSuite> rawTestSuites = loader.loadFrom(xunitFile);
-        return ImmutableList.copyOf(groupTestCasesByClassname(rawTestSuites));
-    }
-
-    private List<TestOutcome> groupTestCasesByClassname(List<TestSuite> testSuites) {
-        List<TestOutcome> groupedOutcomes = Lists.newArrayList();
-        for(TestSuite suite : testSuites) {
-            groupedOutcomes.addAll(testOutcomesWithGroupedTestCases(suite));
-        }
-        return groupedOutcomes;
+        return new ParallelOutcomeLoader(new ParallelOutcomeLoader.OutcomeFileReader() {
+            public List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
+                return LettuceXUnitAdaptor.this.testOutcomesIn(xunitFile);
+            }
+        }).loadOutcomesFrom(XUnitFiles.in(source));
     }
 
+    /**
+     * The test cases of each test suite are grouped by class name as they are read: each Lettuce test case
+     * becomes a step of the test outcome for its class.
+     */
+    private List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
+        final List<TestOutcome> groupedOutcomes = Lists.newArrayList();
+        loader.readFrom(xunitFile, new TestCaseHandler() {
+            private final LinkedList<Map<String, TestOutcome>> testOutcomesInOpenSuites
+                    = new LinkedList<Map<String, TestOutcome>>();
+
+            public void testSuiteStarted(String name) {
+                testOutcomesInOpenSuites.push(Maps.<String, TestOutcome>newLinkedHashMap());
+            }
 
-    private List<TestOutcome> testOutcomesWithGroupedTestCases(TestSuite testSuite) {
-        List<TestCase> rawTestCases = testSuite.getTestCases();
-        List<TestOutcome> groupedTestOutcomes = Lists.newArrayList();
-        Map<String, TestOutcome> testOutcomesIndex = Maps.newHashMap();
+            public void testCaseRead(TestCase testCase) {
+                recordTestCase(testCase, testOutcomesInOpenSuites.peek());
+            }
 
-        for(TestCase testCase : rawTestCases) {
-            TestOutcome testOutcome = testOutcomeForTestClass(testOutcomesIndex, testCase.getClassname());
-            addIfNotPresent(groupedTestOutcomes, testOutcome);
-            TestStep nextStep = TestStep.forStepCalled(testCase.getName()).withResult(resultOf(testCase));
-            Optional<Throwable> testFailure = testFailureFrom(testCase);
-            if (testFailure.isPresent()) {
-                nextStep.failedWith(testFailure.get());
+            public void testSuiteFinished(String name) {
+                groupedOutcomes.addAll(testOutcomesInOpenSuites.pop().values());
             }
-            testOutcome.recordStep(nextStep);
-        }
-        return ImmutableList.copyOf(groupedTestOutcomes);
+        });
+        return ImmutableList.copyOf(groupedOutcomes);
     }
 
-    private void addIfNotPresent(List<TestOutcome> groupedTestOutcomes, final TestOutcome testOutcome) {
-        if (!groupedTestOutcomes.contains(testOutcome)) {
-            groupedTestOutcomes.add(testOutcome);
+    private void recordTestCase(TestCase testCase, Map<String, TestOutcome> testOutcomesIndex) {
+        TestOutcome testOutcome = testOutcomeForTestClass(testOutcomesIndex, testCase.getClassname());
+        TestStep nextStep = TestStep.forStepCalled(testCase.getName()).withResult(resultOf(testCase));
+        Optional<Throwable> testFailure = testFailureFrom(testCase);
+        if (testFailure.isPresent()) {
+            nextStep.failedWith(testFailure.get());
         }
+        testOutcome.recordStep(nextStep);
     }
 
     private Optional<Throwable> testFailureFrom(TestCase testCase) {
@@ -11,13 +11,14 @@ import net.thucydides.core.model.TestResult;
 import net.thucydides.core.model.TestResultList;
 import net.thucydides.core.model.TestStep;
 import net.thucydides.core.reports.adaptors.common.FilebasedOutcomeAdaptor;
-import org.apache.commons.io.FileUtils;
+import net.thucydides.core.reports.adaptors.common.ParallelOutcomeLoader;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import static ch.lambdaj.Lambda.convert;
@@ -38,19 +39,51 @@ public class SpecflowAdaptor extends FilebasedOutcomeAdaptor {
     @Override
     public List<TestOutcome> loadOutcomesFrom(File source) throws IOException {
         if (source.isDirectory()) {
-            List<TestOutcome> outcomes = Lists.newArrayList();
-            for(File outputFile : source.listFiles()) {
-                outcomes.addAll(outcomesFromFile(outputFile));
-            }
-            return outcomes;
+            return new ParallelOutcomeLoader(new ParallelOutcomeLoader.OutcomeFileReader() {
+                public List<TestOutcome> testOutcomesIn(File outputFile) throws IOException {
+                    return outcomesFromFile(outputFile);
+                }
+            }).loadOutcomesFrom(source.listFiles());
         } else {
             return outcomesFromFile(source);
         }
     }
 
+    /**
+     * The output file is read a line at a time, and each scenario is converted to a test outcome as soon as
+     * the title of the next scenario is read, so only the output of one scenario is held in memory.
+     */
     private List<TestOutcome> outcomesFromFile(File outputFile) throws IOException {
-        List<String> outputLines = FileUtils.readLines(outputFile, Charset.defaultCharset());
-        return convert(scenarioOutputsFrom(outputLines), toTestOutcomes());
+        List<TestOutcome> outcomes = Lists.newArrayList();
+        Converter<List<String>, TestOutcome> toTestOutcome = toTestOutcomes();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(outputFile),
+                                                                         Charset.defaultCharset()));
+        try {
+            List<String> currentScenario = null;
+            SpecflowScenarioTitleLine currentTitle = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (isTitle(line)) {
+                    SpecflowScenarioTitleLine newTitleLine = new SpecflowScenarioTitleLine(line);
+                    if (currentTitle == null || !newTitleLine.getTitleName().equals(currentTitle.getTitleName())) {
+                        if (currentScenario != null) {
+                            outcomes.add(toTestOutcome.convert(currentScenario));
+                        }
+                        currentTitle = newTitleLine;
+                        currentScenario = Lists.newArrayList();
+                    }
+                }
+                if (currentScenario != null) {
+                    currentScenario.add(line);
+                }
+            }
+            if (currentScenario != null) {
+                outcomes.add(toTestOutcome.convert(currentScenario));
+            }
+        } finally {
+            reader.close();
+        }
+        return outcomes;
     }
 
     private Converter<List<String>, TestOutcome> toTestOutcomes() {
@@ -113,27 +146,6 @@ public class SpecflowAdaptor extends FilebasedOutcomeAdaptor {
         return ImmutableList.copyOf(discoveredSteps);
     }
 
-    private List<List<String>> scenarioOutputsFrom(List<String> outputLines) {
-        List<List<String>> scenarios = Lists.newArrayList();
-
-        List<String> currentScenario = null;
-        SpecflowScenarioTitleLine currentTitle = null;
-        for (String line : outputLines) {
-            if (isTitle(line)) {
-                SpecflowScenarioTitleLine newTitleLine = new SpecflowScenarioTitleLine(line);
-                if (currentTitle == null || !newTitleLine.getTitleName().equals(currentTitle.getTitleName())) {
-                    currentTitle = new SpecflowScenarioTitleLine(line);
-                    currentScenario = Lists.newArrayList();
-                    scenarios.add(currentScenario);
-                }
-            }
-            if (currentScenario != null) {
-                currentScenario.add(line);
-            }
-        }
-        return ImmutableList.copyOf(scenarios);
-    }
-
     private boolean isTitle(String line) {
         return line.trim().startsWith(TITLE_LEAD);
     }
@@ -7,41 +7,43 @@ import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.reports.adaptors.common.FilebasedOutcomeAdaptor;
+import net.thucydides.core.reports.adaptors.common.ParallelOutcomeLoader;
 import net.thucydides.core.reports.adaptors.xunit.io.XUnitFiles;
 import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
 import net.thucydides.core.reports.adaptors.xunit.model.TestException;
-import net.thucydides.core.reports.adaptors.xunit.model.TestSuite;
 import net.thucydides.core.util.NameConverter;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collection;
 import java.util.List;
 
-import static ch.lambdaj.Lambda.convert;
-
 public class DefaultXUnitAdaptor extends FilebasedOutcomeAdaptor {
-    private final XUnitLoader loader = new BasicXUnitLoader();
+    private final StreamingXUnitLoader loader = new StreamingXUnitLoader();
 
     public List<TestOutcome> loadOutcomesFrom(final File source) throws IOException {
-        List<TestOutcome> loadedOutcomes = Lists.newArrayList();
-        for(File xunitFile : XUnitFiles.in(source)) {
-            loadedOutcomes.addAll(testOutcomesIn(xunitFile));
-        }
-        return ImmutableList.copyOf(loadedOutcomes);
+        return new ParallelOutcomeLoader(new ParallelOutcomeLoader.OutcomeFileReader() {
+            public List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
+                return DefaultXUnitAdaptor.this.testOutcomesIn(xunitFile);
+            }
+        }).loadOutcomesFrom(XUnitFiles.in(source));
     }
 
+    /**
+     * Each test case is converted to a test outcome as soon as it is read.
+     */
     public List<TestOutcome> testOutcomesIn(File xunitFile) throws IOException {
-        List<TestSuite> xunitTestSuites =  loader.loadFrom(xunitFile);
-        List<TestOutcome> testOutcomes = Lists.newArrayList();
-        for(TestSuite testSuite : xunitTestSuites) {
-            testOutcomes.addAll(testOutcomesIn(testSuite));
-        }
-        return ImmutableList.copyOf(testOutcomes);
-    }
+        final List<TestOutcome> testOutcomes = Lists.newArrayList();
+        final Converter<TestCase, TestOutcome> toTestOutcome = toTestOutcomes();
+        loader.readFrom(xunitFile, new TestCaseHandler() {
+            public void testSuiteStarted(String name) {}
 
-    private Collection<? extends TestOutcome> testOutcomesIn(TestSuite testSuite) {
-        return convert(testSuite.getTestCases(), toTestOutcomes());
+            public void testCaseRead(TestCase testCase) {
+                testOutcomes.add(toTestOutcome.convert(testCase));
+            }
+
+            public void testSuiteFinished(String name) {}
+        });
+        return ImmutableList.copyOf(testOutcomes);
     }
 
     private Converter<TestCase, TestOutcome> toTestOutcomes() {
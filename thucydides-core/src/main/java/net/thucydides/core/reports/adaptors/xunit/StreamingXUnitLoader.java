@@ -0,0 +1,174 @@
+package net.thucydides.core.reports.adaptors.xunit;
+
+import com.google.common.collect.Lists;
+import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
+import net.thucydides.core.reports.adaptors.xunit.model.TestException;
+import net.thucydides.core.reports.adaptors.xunit.model.TestSuite;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Reads xUnit files one test case at a time, rather than loading the whole file into memory.
+ * Only the test case being read is held in memory, so files of any size can be imported: the output
+ * captured in system-out and system-err elements is skipped without being read into memory.
+ */
+public class StreamingXUnitLoader implements XUnitLoader {
+
+    private static final String TEST_SUITE = "testsuite";
+    private static final String TEST_CASE = "testcase";
+    private static final String FAILURE = "failure";
+    private static final String ERROR = "error";
+    private static final String SKIPPED = "skipped";
+
+    @Override
+    public List<TestSuite> loadFrom(final File xUnitReport) throws IOException {
+        final List<TestSuite> testSuites = Lists.newArrayList();
+        readFrom(xUnitReport, new TestCaseHandler() {
+            private final LinkedList<List<TestCase>> testCasesInOpenSuites = new LinkedList<List<TestCase>>();
+
+            public void testSuiteStarted(String name) {
+                testCasesInOpenSuites.push(Lists.<TestCase>newArrayList());
+            }
+
+            public void testCaseRead(TestCase testCase) {
+                testCasesInOpenSuites.peek().add(testCase);
+            }
+
+            public void testSuiteFinished(String name) {
+                testSuites.add(TestSuite.named(name).withTestCases(testCasesInOpenSuites.pop()));
+            }
+        });
+        return testSuites;
+    }
+
+    /**
+     * Read the test suites and test cases in an xUnit file, passing each one to the handler as soon as it is read.
+     */
+    public void readFrom(final File xUnitReport, final TestCaseHandler handler) throws IOException {
+        InputStream in;
+        try {
+            in = new BufferedInputStream(new FileInputStream(xUnitReport));
+        } catch (IOException e) {
+            throw new CouldNotReadXUnitFileException(e.getMessage());
+        }
+        try {
+            XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(in);
+            try {
+                int testSuiteCount = readTestSuites(reader, handler);
+                if (testSuiteCount == 0) {
+                    throw new CouldNotReadXUnitFileException("Could not read xUnit file " + xUnitReport.getAbsolutePath());
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new CouldNotReadXUnitFileException(e.getMessage());
+        } finally {
+            in.close();
+        }
+    }
+
+    private int readTestSuites(final XMLStreamReader reader, final TestCaseHandler handler) throws XMLStreamException {
+        int testSuiteCount = 0;
+        LinkedList<String> openTestSuites = new LinkedList<String>();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String element = reader.getLocalName();
+                if (TEST_SUITE.equals(element)) {
+                    String name = attribute(reader, "name");
+                    openTestSuites.push(name);
+                    testSuiteCount++;
+                    handler.testSuiteStarted(name);
+                } else if (TEST_CASE.equals(element) && !openTestSuites.isEmpty()) {
+                    handler.testCaseRead(readTestCase(reader));
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && TEST_SUITE.equals(reader.getLocalName())) {
+                handler.testSuiteFinished(openTestSuites.pop());
+            }
+        }
+        return testSuiteCount;
+    }
+
+    /**
+     * Read a test case, leaving the reader at the end of the test case element.
+     */
+    private TestCase readTestCase(final XMLStreamReader reader) throws XMLStreamException {
+        TestCase testCase = TestCase.withName(attribute(reader, "name"))
+                                    .andClassname(attribute(reader, "classname"))
+                                    .andTime(timeFrom(attribute(reader, "time")));
+        TestException failure = null;
+        TestException error = null;
+        String skipped = null;
+
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String element = reader.getLocalName();
+                if (FAILURE.equals(element) && failure == null) {
+                    failure = readException(reader, FAILURE);
+                } else if (ERROR.equals(element) && error == null) {
+                    error = readException(reader, ERROR);
+                } else if (SKIPPED.equals(element) && skipped == null) {
+                    skipped = StringUtils.defaultIfEmpty(attribute(reader, "type"), "unknown");
+                    depth++;
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+
+        if (failure != null) {
+            testCase = testCase.withFailure(failure);
+        }
+        if (error != null) {
+            testCase = testCase.withError(error);
+        }
+        if (skipped != null) {
+            testCase = testCase.wasSkipped(skipped);
+        }
+        return testCase;
+    }
+
+    /**
+     * Read a failure or error element, leaving the reader at the end of the element.
+     */
+    private TestException readException(final XMLStreamReader reader, final String exceptionType) throws XMLStreamException {
+        String message = attribute(reader, "message");
+        StringBuilder errorOutput = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                errorOutput.append(reader.getText());
+            }
+        }
+        return new TestException(message, errorOutput.toString(), exceptionType);
+    }
+
+    private String attribute(final XMLStreamReader reader, final String name) {
+        return StringUtils.defaultString(reader.getAttributeValue(null, name));
+    }
+
+    private double timeFrom(final String time) {
+        return StringUtils.isNotEmpty(time) ? Double.parseDouble(time) : 0.0;
+    }
+}
@@ -0,0 +1,15 @@
+package net.thucydides.core.reports.adaptors.xunit;
+
+import net.thucydides.core.reports.adaptors.xunit.model.TestCase;
+
+/**
+ * Receives the test suites and test cases of an xUnit file as they are read by a {@link StreamingXUnitLoader}.
+ */
+public interface TestCaseHandler {
+
+    void testSuiteStarted(String name);
+
+    void testCaseRead(TestCase testCase);
+
+    void testSuiteFinished(String name);
+}
@@ -0,0 +1,134 @@
+package net.thucydides.core.reports.history;
+
+import com.google.common.base.Optional;
+import org.joda.time.DateTime;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores one kind of history snapshot in three append-only logs: every snapshot, the last snapshot of each day,
+ * and the last snapshot of each week.
+ * The history is read back at full detail for the most recent days, then one entry per day and one entry per
+ * week for older periods, so the amount of data read stays bounded as the history grows.
+ * The daily and weekly rollups are written as each day and week is completed, when the first snapshot of the
+ * next one is recorded.
+ */
+class CompactHistoryStore {
+
+    private static final int DAILY_ROLLUP_WEEKS = 52;
+
+    private final HistoryLog entries;
+    private final HistoryLog dailyRollups;
+    private final HistoryLog weeklyRollups;
+    private final int detailDays;
+
+    CompactHistoryStore(final File directory, final String name, final int detailDays) {
+        this.entries = new HistoryLog(directory, name);
+        this.dailyRollups = new HistoryLog(directory, name + "-daily");
+        this.weeklyRollups = new HistoryLog(directory, name + "-weekly");
+        this.detailDays = detailDays;
+    }
+
+    boolean exists() {
+        return entries.exists();
+    }
+
+    synchronized void append(final HistoryEntry entry) throws IOException {
+        long day = startOfDay(entry.getTime());
+        Optional<Long> lastDay = entries.getLastIndexedDay();
+        if (lastDay.isPresent() && day > lastDay.get()) {
+            rollUpDay(lastDay.get());
+            if (startOfWeek(day) > startOfWeek(lastDay.get())) {
+                rollUpWeek(startOfWeek(lastDay.get()));
+            }
+        }
+        entries.append(entry, day);
+    }
+
+    /**
+     * @return the most recently stored entry, if there is one.
+     */
+    synchronized Optional<HistoryEntry> getLastEntry() throws IOException {
+        Optional<Long> lastDay = entries.getLastIndexedDay();
+        if (!lastDay.isPresent()) {
+            return Optional.absent();
+        }
+        List<HistoryEntry> entriesOnLastDay = entries.entriesSince(lastDay.get());
+        if (entriesOnLastDay.isEmpty()) {
+            return Optional.absent();
+        }
+        return Optional.of(entriesOnLastDay.get(entriesOnLastDay.size() - 1));
+    }
+
+    /**
+     * @return every entry from the last few days of the history, preceded by daily and weekly rollups
+     * of the earlier entries, in chronological order.
+     */
+    synchronized List<HistoryEntry> read() throws IOException {
+        Optional<Long> lastDay = entries.getLastIndexedDay();
+        if (!lastDay.isPresent()) {
+            return new ArrayList<HistoryEntry>();
+        }
+        long detailStart = new DateTime(lastDay.get()).minusDays(detailDays).getMillis();
+        long dailyStart = startOfWeek(new DateTime(detailStart).minusWeeks(DAILY_ROLLUP_WEEKS).getMillis());
+
+        List<HistoryEntry> history = new ArrayList<HistoryEntry>();
+        history.addAll(entriesBetween(weeklyRollups.entriesSince(0), 0, dailyStart));
+        history.addAll(entriesBetween(dailyRollups.entriesSince(dailyStart), dailyStart, detailStart));
+        history.addAll(entriesBetween(entries.entriesSince(detailStart), detailStart, Long.MAX_VALUE));
+        return history;
+    }
+
+    synchronized void clear() {
+        entries.delete();
+        dailyRollups.delete();
+        weeklyRollups.delete();
+    }
+
+    private void rollUpDay(final long day) throws IOException {
+        for (HistoryEntry entry : latestInEachSeries(entries.entriesSince(day))) {
+            dailyRollups.append(entry, day);
+        }
+    }
+
+    private void rollUpWeek(final long week) throws IOException {
+        for (HistoryEntry entry : latestInEachSeries(dailyRollups.entriesSince(week))) {
+            weeklyRollups.append(entry, week);
+        }
+    }
+
+    private Collection<HistoryEntry> latestInEachSeries(final List<HistoryEntry> entriesInPeriod) {
+        Map<String, HistoryEntry> latestEntries = new LinkedHashMap<String, HistoryEntry>();
+        for (HistoryEntry entry : entriesInPeriod) {
+            HistoryEntry latest = latestEntries.get(entry.getSeries());
+            if (latest == null || entry.getTime() >= latest.getTime()) {
+                latestEntries.put(entry.getSeries(), entry);
+            }
+        }
+        return latestEntries.values();
+    }
+
+    private List<HistoryEntry> entriesBetween(final List<HistoryEntry> candidates, final long from, final long to) {
+        List<HistoryEntry> matchingEntries = new ArrayList<HistoryEntry>();
+        for (HistoryEntry entry : candidates) {
+            if (entry.getTime() >= from && entry.getTime() < to) {
+                matchingEntries.add(entry);
+            }
+        }
+        return matchingEntries;
+    }
+
+    private long startOfDay(final long time) {
+        return new DateTime(time).dayOfMonth().roundFloorCopy().getMillis();
+    }
+
+    private long startOfWeek(final long time) {
+        return new DateTime(time).weekOfWeekyear().roundFloorCopy().getMillis();
+    }
+}
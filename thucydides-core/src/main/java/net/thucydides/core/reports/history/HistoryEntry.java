@@ -0,0 +1,145 @@
+package net.thucydides.core.reports.history;
+
+import org.apache.commons.lang3.StringUtils;
+import org.joda.time.DateTime;
+
+/**
+ * A test result or progress snapshot, as stored in the compact history files.
+ * Each entry is written as a single line of tab-separated values, starting with the entry type and the time
+ * of the snapshot in milliseconds.
+ */
+final class HistoryEntry {
+
+    private static final String OUTCOME = "O";
+    private static final String PROGRESS = "P";
+    private static final char SEPARATOR = '\t';
+
+    private final String[] fields;
+    private final long time;
+
+    private HistoryEntry(final String[] fields) {
+        this.fields = fields;
+        this.time = Long.parseLong(fields[1]);
+    }
+
+    static HistoryEntry from(final TestResultSnapshot snapshot) {
+        return new HistoryEntry(new String[]{OUTCOME,
+                Long.toString(snapshot.getTime().getMillis()),
+                Integer.toString(snapshot.getSpecifiedSteps()),
+                Integer.toString(snapshot.getPassingSteps()),
+                Integer.toString(snapshot.getFailingSteps()),
+                Integer.toString(snapshot.getSkippedSteps()),
+                snapshot.getBuildId()});
+    }
+
+    static HistoryEntry from(final ProgressSnapshot snapshot) {
+        return new HistoryEntry(new String[]{PROGRESS,
+                Long.toString(snapshot.getTime().getMillis()),
+                snapshot.getRequirementType(),
+                Integer.toString(snapshot.getTotal()),
+                Integer.toString(snapshot.getCompleted()),
+                Integer.toString(snapshot.getEstimated()),
+                Integer.toString(snapshot.getFailed()),
+                snapshot.getBuildId()});
+    }
+
+    /**
+     * @return the entry stored in a line of a history file, or null if the line is not a valid entry
+     * (for example the last line of a file that was being written when the build was interrupted).
+     */
+    static HistoryEntry parse(final String line) {
+        String[] values = StringUtils.splitPreserveAllTokens(line, SEPARATOR);
+        if (values.length == 7 && OUTCOME.equals(values[0]) || values.length == 8 && PROGRESS.equals(values[0])) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = unescape(values[i]);
+            }
+            try {
+                return new HistoryEntry(values);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    String toLine() {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(escape(fields[i]));
+        }
+        return line.toString();
+    }
+
+    long getTime() {
+        return time;
+    }
+
+    boolean isOutcome() {
+        return OUTCOME.equals(fields[0]);
+    }
+
+    /**
+     * Entries in the same series describe the same thing at different times: the overall test results,
+     * or the progress of a given type of requirement.
+     */
+    String getSeries() {
+        return isOutcome() ? OUTCOME : PROGRESS + SEPARATOR + fields[2];
+    }
+
+    TestResultSnapshot toTestResultSnapshot() {
+        return new TestResultSnapshot(new DateTime(time),
+                                      intValueOf(2), intValueOf(3), intValueOf(4), intValueOf(5),
+                                      fields[6]);
+    }
+
+    ProgressSnapshot toProgressSnapshot() {
+        int completed = intValueOf(4);
+        int estimated = intValueOf(5);
+        ProgressSnapshot.ProgressSnapshotBuilder builder
+                = ProgressSnapshot.forRequirementType(fields[2])
+                                  .atTime(new DateTime(time))
+                                  .with(completed).completed()
+                                  .and(intValueOf(6)).failed()
+                                  .outOf(intValueOf(3));
+        if (estimated != completed) {
+            builder = builder.and(estimated).estimated();
+        }
+        return builder.forBuild(fields[7]);
+    }
+
+    private int intValueOf(final int field) {
+        return Integer.parseInt(fields[field]);
+    }
+
+    private static String escape(final String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(final String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't': unescaped.append('\t'); break;
+                    case 'n': unescaped.append('\n'); break;
+                    case 'r': unescaped.append('\r'); break;
+                    default: unescaped.append(next);
+                }
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -0,0 +1,151 @@
+package net.thucydides.core.reports.history;
+
+import com.google.common.base.Optional;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append-only file of history entries, with an index of where the entries of each day start.
+ * The index is a list of fixed-size (day, offset) records, so the entries from a given day onwards can be read
+ * with a binary search of the index and a single seek in the data file, however long the history is.
+ * Entries are expected to be appended in chronological order: an entry older than the last indexed day is
+ * stored, but only found by reads that start before it.
+ */
+class HistoryLog {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int INDEX_RECORD_SIZE = 16;
+
+    private final File dataFile;
+    private final File indexFile;
+
+    HistoryLog(final File directory, final String name) {
+        this.dataFile = new File(directory, name + ".log");
+        this.indexFile = new File(directory, name + ".idx");
+    }
+
+    boolean exists() {
+        return dataFile.exists();
+    }
+
+    /**
+     * @return the start of the most recent day that has entries in this log.
+     */
+    Optional<Long> getLastIndexedDay() throws IOException {
+        if (!indexFile.exists() || indexFile.length() < INDEX_RECORD_SIZE) {
+            return Optional.absent();
+        }
+        RandomAccessFile index = new RandomAccessFile(indexFile, "r");
+        try {
+            index.seek(lastIndexRecordPosition(index));
+            return Optional.of(index.readLong());
+        } finally {
+            close(index);
+        }
+    }
+
+    void append(final HistoryEntry entry, final long day) throws IOException {
+        long offset = dataFile.length();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(dataFile, true), UTF_8);
+        try {
+            writer.write(entry.toLine());
+            writer.write('\n');
+        } finally {
+            close(writer);
+        }
+        Optional<Long> lastIndexedDay = getLastIndexedDay();
+        if (!lastIndexedDay.isPresent() || day > lastIndexedDay.get()) {
+            appendIndexRecord(day, offset);
+        }
+    }
+
+    /**
+     * @return the entries stored since the start of the given day, in the order they were written.
+     */
+    List<HistoryEntry> entriesSince(final long day) throws IOException {
+        List<HistoryEntry> entries = new ArrayList<HistoryEntry>();
+        if (!dataFile.exists()) {
+            return entries;
+        }
+        FileInputStream in = new FileInputStream(dataFile);
+        BufferedReader reader = null;
+        try {
+            in.getChannel().position(offsetOfFirstEntrySince(day));
+            reader = new BufferedReader(new InputStreamReader(in, UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                HistoryEntry entry = HistoryEntry.parse(line);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        } finally {
+            close((reader != null) ? reader : in);
+        }
+        return entries;
+    }
+
+    void delete() {
+        //noinspection ResultOfMethodCallIgnored
+        dataFile.delete();
+        //noinspection ResultOfMethodCallIgnored
+        indexFile.delete();
+    }
+
+    private long offsetOfFirstEntrySince(final long day) throws IOException {
+        if (!indexFile.exists() || indexFile.length() < INDEX_RECORD_SIZE) {
+            return 0;
+        }
+        RandomAccessFile index = new RandomAccessFile(indexFile, "r");
+        try {
+            long low = 0;
+            long high = index.length() / INDEX_RECORD_SIZE - 1;
+            long offset = dataFile.length();
+            while (low <= high) {
+                long middle = (low + high) >>> 1;
+                index.seek(middle * INDEX_RECORD_SIZE);
+                long indexedDay = index.readLong();
+                if (indexedDay >= day) {
+                    offset = index.readLong();
+                    high = middle - 1;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return offset;
+        } finally {
+            close(index);
+        }
+    }
+
+    private void appendIndexRecord(final long day, final long offset) throws IOException {
+        RandomAccessFile index = new RandomAccessFile(indexFile, "rw");
+        try {
+            index.seek(index.length() - index.length() % INDEX_RECORD_SIZE);
+            index.writeLong(day);
+            index.writeLong(offset);
+        } finally {
+            close(index);
+        }
+    }
+
+    private long lastIndexRecordPosition(final RandomAccessFile index) throws IOException {
+        return (index.length() / INDEX_RECORD_SIZE - 1) * INDEX_RECORD_SIZE;
+    }
+
+    private void close(final Closeable closeable) throws IOException {
+        closeable.close();
+    }
+}
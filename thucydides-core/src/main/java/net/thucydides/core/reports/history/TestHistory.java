@@ -1,40 +1,33 @@
 package net.thucydides.core.reports.history;
 
-import com.thoughtworks.xstream.XStream;
-import com.thoughtworks.xstream.io.StreamException;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.requirements.reports.RequirementsOutcomes;
 import net.thucydides.core.util.EnvironmentVariables;
 
-import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Reader;
-import java.io.Writer;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Keep track of the test results over time.
+ * The snapshots are stored in compact append-only files in the project history directory, and read back
+ * in a bounded window, so that the cost of a report run does not grow with the length of the history.
  */
 public class TestHistory {
 
     private static final String BUILD_ID = "BUILD_ID";
+    private static final int DEFAULT_DETAIL_DAYS = 30;
     private final File dataDirectory;
     private final String projectName;
     private final DateProvider dateProvider;
+    private CompactHistoryStore outcomeStore;
+    private CompactHistoryStore progressStore;
+    private boolean xmlSnapshotsChecked = false;
 
     protected EnvironmentVariables environmentVariables;
 
@@ -123,155 +116,108 @@ public class TestHistory {
     }
 
     private void save(TestResultSnapshot snapshot) throws FileNotFoundException {
-        XStream xstream = new XStream();
-        File snapshotFile = new File(getDirectory(), outcomesPrefix() + snapshot.getTime().getMillis());
-        OutputStream out = null;
-        Writer writer = null;
-
-        try {
-            out = new FileOutputStream(snapshotFile);
-            writer = new OutputStreamWriter(out, Charset.forName("UTF-8"));
-            xstream.toXML(snapshot, writer);
-        } catch (IOException e) {
-            e.printStackTrace();  //To change body of catch statement use File | Settings | File Templates.
-        } finally {
-            close(writer);
-            close(out);
-        }
-
+        save(getOutcomeStore(), HistoryEntry.from(snapshot));
     }
 
     private void save(ProgressSnapshot snapshot) throws FileNotFoundException {
-        XStream xstream = new XStream();
-        File snapshotFile = new File(getDirectory(), progressPrefix() + snapshot.getTime().getMillis());
-        OutputStream out = null;
-        Writer writer = null;
+        save(getProgressStore(), HistoryEntry.from(snapshot));
+    }
+
+    private void save(CompactHistoryStore store, HistoryEntry entry) throws FileNotFoundException {
+        migrateXmlSnapshotsIfNeeded();
         try {
-            out = new FileOutputStream(snapshotFile);
-            writer = new OutputStreamWriter(out, Charset.forName("UTF-8"));
-            xstream.toXML(snapshot, writer);
+            store.append(entry);
+        } catch (FileNotFoundException e) {
+            throw e;
         } catch (IOException e) {
-            e.printStackTrace();  //To change body of catch statement use File | Settings | File Templates.
-
-        } finally {
-            close(writer);
-            close(out);
+            throw new IllegalArgumentException("Unable to store history data in " + getDirectory(), e);
         }
-
     }
 
+    /**
+     * The test results over time: every snapshot from the last few days, then one snapshot per day and one
+     * snapshot per week for older results.
+     */
     public List<TestResultSnapshot> getHistory() {
-        File[] historyFiles = getOutcomeFiles();
-
         List<TestResultSnapshot> resultSnapshots = new ArrayList<TestResultSnapshot>();
-
-        XStream xstream = new XStream();
-        for (File historyFile : historyFiles) {
-            TestResultSnapshot snapshot = null;
-            InputStream inputStream = null;
-            Reader reader = null;
-            try {
-                inputStream = new FileInputStream(historyFile);
-                reader = new InputStreamReader(inputStream, Charset.forName("UTF-8"));
-                snapshot = (TestResultSnapshot) xstream.fromXML(reader);
-            } catch (FileNotFoundException e) {
-                throw new IllegalArgumentException("Unable to read history data in " + historyFile, e);
-            } catch (StreamException streamException) {
-                throw new IllegalArgumentException("Unable to parse history data in " + historyFile, streamException);
-            } finally {
-                close(reader);
-                close(inputStream);
-            }
-            resultSnapshots.add(snapshot);
+        for (HistoryEntry entry : read(getOutcomeStore())) {
+            resultSnapshots.add(entry.toTestResultSnapshot());
         }
         Collections.sort(resultSnapshots);
         return resultSnapshots;
     }
 
+    /**
+     * The requirements progress over time, at the same level of detail as the test results.
+     */
     public List<ProgressSnapshot> getProgress() {
-        File[] historyFiles = getProgressFiles();
-
         List<ProgressSnapshot> resultSnapshots = new ArrayList<ProgressSnapshot>();
-
-        XStream xstream = new XStream();
-        for (File historyFile : historyFiles) {
-            ProgressSnapshot snapshot = null;
-            InputStream inputStream = null;
-            Reader reader = null;
-            try {
-                inputStream = new FileInputStream(historyFile);
-                reader = new InputStreamReader(inputStream, Charset.forName("UTF-8"));
-                snapshot = (ProgressSnapshot) xstream.fromXML(reader);
-
-            } catch (FileNotFoundException e) {
-                throw new IllegalArgumentException("Unable to read history data in " + historyFile, e);
-            } catch (StreamException streamException) {
-                throw new IllegalArgumentException("Unable to parse history data in " + historyFile, streamException);
-            } finally {
-                close(reader);
-                close(inputStream);
-            }
-            resultSnapshots.add(snapshot);
+        for (HistoryEntry entry : read(getProgressStore())) {
+            resultSnapshots.add(entry.toProgressSnapshot());
         }
         Collections.sort(resultSnapshots);
         return resultSnapshots;
     }
 
-    private void close(Closeable stream) {
+    private List<HistoryEntry> read(CompactHistoryStore store) {
+        migrateXmlSnapshotsIfNeeded();
         try {
-            stream.close();
+            return store.read();
         } catch (IOException e) {
-            throw new IllegalArgumentException("Unable to close history file", e);
+            throw new IllegalArgumentException("Unable to read history data in " + getDirectory(), e);
         }
     }
 
-    public File getDirectory() {
-        File projectDirectory = new File(dataDirectory, projectName);
-        if (!projectDirectory.exists()) {
-            //noinspection ResultOfMethodCallIgnored
-            projectDirectory.mkdirs();
-        }
-        return projectDirectory;
-    }
-
-    private File[] getOutcomeFiles() {
-        return getDirectory().listFiles(new FilenameFilter() {
-            public boolean accept(File directory, String filename) {
-                return filename.startsWith(outcomesPrefix());
+    /**
+     * Earlier versions stored each snapshot in its own XML file: these are moved into the compact history
+     * store the first time the history is used.
+     */
+    private synchronized void migrateXmlSnapshotsIfNeeded() {
+        if (!xmlSnapshotsChecked) {
+            try {
+                new XmlHistoryMigrator(getDirectory(), getOutcomeStore(), getProgressStore()).migrate();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Unable to migrate the history data in " + getDirectory(), e);
             }
-        });
+            xmlSnapshotsChecked = true;
+        }
     }
 
-
-    private File[] getProgressFiles() {
-        return getDirectory().listFiles(new FilenameFilter() {
-            public boolean accept(File directory, String filename) {
-                return filename.startsWith(progressPrefix());
-            }
-        });
+    private synchronized CompactHistoryStore getOutcomeStore() {
+        if (outcomeStore == null) {
+            outcomeStore = new CompactHistoryStore(getDirectory(), "outcome-history", getDetailDays());
+        }
+        return outcomeStore;
     }
 
-    private File[] getHistoryFiles() {
-        return getDirectory().listFiles(new FilenameFilter() {
-            public boolean accept(File directory, String filename) {
-                return filename.startsWith(outcomesPrefix()) || filename.startsWith(progressPrefix());
-            }
-        });
+    private synchronized CompactHistoryStore getProgressStore() {
+        if (progressStore == null) {
+            progressStore = new CompactHistoryStore(getDirectory(), "progress-history", getDetailDays());
+        }
+        return progressStore;
     }
 
-    private String outcomesPrefix() {
-        return "thucydides-outcome-";
+    private int getDetailDays() {
+        return environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.HISTORY_DETAIL_DAYS,
+                                                         DEFAULT_DETAIL_DAYS);
     }
 
-    private String progressPrefix() {
-        return "thucydides-progress-";
+    public File getDirectory() {
+        File projectDirectory = new File(dataDirectory, projectName);
+        if (!projectDirectory.exists()) {
+            //noinspection ResultOfMethodCallIgnored
+            projectDirectory.mkdirs();
+        }
+        return projectDirectory;
     }
 
-    public void clearHistory() {
-        File[] historyFiles = getHistoryFiles();
-        for(File historyFile : historyFiles) {
+    public synchronized void clearHistory() {
+        getOutcomeStore().clear();
+        getProgressStore().clear();
+        for(File historyFile : XmlHistoryMigrator.snapshotFilesIn(getDirectory())) {
             historyFile.delete();
         }
+        xmlSnapshotsChecked = true;
     }
 
     protected EnvironmentVariables getEnvironmentVariables() {
@@ -0,0 +1,187 @@
+package net.thucydides.core.reports.history;
+
+import com.google.common.base.Optional;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.StreamException;
+import net.thucydides.core.reports.SerializerRegistry;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves the history snapshots written by earlier versions, one XML file per snapshot, into the compact history
+ * store. Migrated files are moved into an archive directory rather than deleted.
+ * Each snapshot file is archived as soon as its entry has been stored, so an interrupted migration can simply be
+ * run again: the only snapshot that can have been stored without being archived is the last one stored, and it
+ * is not stored a second time. Files that cannot be moved are left where they are, and listed in a journal in the
+ * archive directory so that they are not migrated again.
+ */
+class XmlHistoryMigrator {
+
+    static final String OUTCOMES_PREFIX = "thucydides-outcome-";
+    static final String PROGRESS_PREFIX = "thucydides-progress-";
+    static final String ARCHIVE_DIRECTORY = "xml-snapshots";
+    static final String MIGRATED_SNAPSHOTS_JOURNAL = "migrated-snapshots.txt";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XmlHistoryMigrator.class);
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File directory;
+    private final File archiveDirectory;
+    private final CompactHistoryStore outcomeStore;
+    private final CompactHistoryStore progressStore;
+
+    XmlHistoryMigrator(final File directory,
+                       final CompactHistoryStore outcomeStore,
+                       final CompactHistoryStore progressStore) {
+        this.directory = directory;
+        this.archiveDirectory = new File(directory, ARCHIVE_DIRECTORY);
+        this.outcomeStore = outcomeStore;
+        this.progressStore = progressStore;
+    }
+
+    /**
+     * @return the number of snapshots migrated.
+     */
+    int migrate() throws IOException {
+        File[] outcomeFiles = snapshotFilesStartingWith(OUTCOMES_PREFIX);
+        File[] progressFiles = snapshotFilesStartingWith(PROGRESS_PREFIX);
+        if (outcomeFiles.length == 0 && progressFiles.length == 0) {
+            return 0;
+        }
+        XStream xstream = SerializerRegistry.historyXStream();
+        Set<String> alreadyMigrated = migratedSnapshotsInJournal();
+
+        List<SnapshotFile> outcomes = new ArrayList<SnapshotFile>();
+        for (File outcomeFile : notIn(alreadyMigrated, outcomeFiles)) {
+            outcomes.add(new SnapshotFile(outcomeFile, HistoryEntry.from((TestResultSnapshot) read(xstream, outcomeFile))));
+        }
+        List<SnapshotFile> progress = new ArrayList<SnapshotFile>();
+        for (File progressFile : notIn(alreadyMigrated, progressFiles)) {
+            progress.add(new SnapshotFile(progressFile, HistoryEntry.from((ProgressSnapshot) read(xstream, progressFile))));
+        }
+        return migrate(outcomes, outcomeStore) + migrate(progress, progressStore);
+    }
+
+    private int migrate(final List<SnapshotFile> snapshotFiles, final CompactHistoryStore store) throws IOException {
+        Collections.sort(snapshotFiles);
+        Optional<HistoryEntry> lastStoredEntry = store.getLastEntry();
+        boolean firstSnapshot = true;
+        for (SnapshotFile snapshotFile : snapshotFiles) {
+            if (!(firstSnapshot && alreadyStored(snapshotFile.entry, lastStoredEntry))) {
+                store.append(snapshotFile.entry);
+            }
+            archive(snapshotFile.file);
+            firstSnapshot = false;
+        }
+        return snapshotFiles.size();
+    }
+
+    /**
+     * A previous migration may have stopped after storing a snapshot but before archiving it.
+     */
+    private boolean alreadyStored(final HistoryEntry entry, final Optional<HistoryEntry> lastStoredEntry) {
+        return lastStoredEntry.isPresent() && lastStoredEntry.get().toLine().equals(entry.toLine());
+    }
+
+    static File[] snapshotFilesIn(final File directory) {
+        File[] files = directory.listFiles(new FilenameFilter() {
+            public boolean accept(File directory, String filename) {
+                return filename.startsWith(OUTCOMES_PREFIX) || filename.startsWith(PROGRESS_PREFIX);
+            }
+        });
+        return (files != null) ? files : new File[0];
+    }
+
+    private File[] snapshotFilesStartingWith(final String prefix) {
+        File[] files = directory.listFiles(new FilenameFilter() {
+            public boolean accept(File directory, String filename) {
+                return filename.startsWith(prefix);
+            }
+        });
+        return (files != null) ? files : new File[0];
+    }
+
+    private Object read(final XStream xstream, final File snapshotFile) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(snapshotFile), UTF_8);
+        try {
+            return xstream.fromXML(reader);
+        } catch (StreamException streamException) {
+            throw new IllegalArgumentException("Unable to parse history data in " + snapshotFile, streamException);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void archive(final File snapshotFile) throws IOException {
+        //noinspection ResultOfMethodCallIgnored
+        archiveDirectory.mkdirs();
+        File archivedFile = new File(archiveDirectory, snapshotFile.getName());
+        if (snapshotFile.renameTo(archivedFile)) {
+            return;
+        }
+        try {
+            FileUtils.copyFile(snapshotFile, archivedFile);
+            if (snapshotFile.delete()) {
+                return;
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not archive the history snapshot " + snapshotFile, e);
+        }
+        LOGGER.warn("Leaving the migrated history snapshot {} in place", snapshotFile);
+        recordInJournal(snapshotFile);
+    }
+
+    private Set<String> migratedSnapshotsInJournal() throws IOException {
+        File journal = new File(archiveDirectory, MIGRATED_SNAPSHOTS_JOURNAL);
+        Set<String> migratedSnapshots = new HashSet<String>();
+        if (journal.exists()) {
+            migratedSnapshots.addAll(FileUtils.readLines(journal, UTF_8.name()));
+        }
+        return migratedSnapshots;
+    }
+
+    private void recordInJournal(final File snapshotFile) throws IOException {
+        File journal = new File(archiveDirectory, MIGRATED_SNAPSHOTS_JOURNAL);
+        FileUtils.writeLines(journal, UTF_8.name(), Collections.singletonList(snapshotFile.getName()), true);
+    }
+
+    private List<File> notIn(final Set<String> migratedSnapshots, final File[] snapshotFiles) {
+        List<File> filesToMigrate = new ArrayList<File>();
+        for (File snapshotFile : snapshotFiles) {
+            if (!migratedSnapshots.contains(snapshotFile.getName())) {
+                filesToMigrate.add(snapshotFile);
+            }
+        }
+        return filesToMigrate;
+    }
+
+    private static class SnapshotFile implements Comparable<SnapshotFile> {
+        private final File file;
+        private final HistoryEntry entry;
+
+        private SnapshotFile(final File file, final HistoryEntry entry) {
+            this.file = file;
+            this.entry = entry;
+        }
+
+        public int compareTo(final SnapshotFile other) {
+            long time = entry.getTime();
+            long otherTime = other.entry.getTime();
+            return (time < otherTime) ? -1 : ((time == otherTime) ? 0 : 1);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.reports.renderer.Asciidoc;
+import net.thucydides.core.reports.renderer.AsciidocRenderingService;
 import net.thucydides.core.reports.renderer.MarkupRenderer;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.apache.commons.io.IOUtils;
@@ -46,7 +47,14 @@ public class Formatter {
         this.issueTracking = issueTracking;
         this.environmentVariables = environmentVariables;
         this.asciidocRenderer = Injectors.getInjector().getInstance(Key.get(MarkupRenderer.class, Asciidoc.class));
+        if (asciidocNarratives()) {
+            AsciidocRenderingService.getSharedService().warmUp();
+        }
+    }
 
+    private boolean asciidocNarratives() {
+        return environmentVariables.getProperty(ThucydidesSystemProperty.THUCYDIDES_NARRATIVE_FORMAT, "")
+                                   .equalsIgnoreCase(ASCIIDOC);
     }
 
     public Formatter(IssueTracking issueTracking) {
@@ -124,10 +132,9 @@ public class Formatter {
 
 
     public String renderDescription(final String text) {
-        String format = environmentVariables.getProperty(ThucydidesSystemProperty.THUCYDIDES_NARRATIVE_FORMAT,"");
         if (isRenderedHtml(text)) {
             return text;
-        } else if (format.equalsIgnoreCase(ASCIIDOC)) {
+        } else if (asciidocNarratives()) {
             return renderAsciidoc(text);
         } else {
             return addLineBreaks(text);
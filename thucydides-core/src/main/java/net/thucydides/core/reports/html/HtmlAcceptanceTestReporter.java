@@ -1,10 +1,11 @@
 package net.thucydides.core.reports.html;
 
-import ch.lambdaj.function.convert.Converter;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.thucydides.core.guice.Injectors;
-import net.thucydides.core.images.ResizableImage;
 import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.Screenshot;
 import net.thucydides.core.model.TestOutcome;
@@ -14,6 +15,7 @@ import net.thucydides.core.reports.AcceptanceTestReporter;
 import net.thucydides.core.reports.ReportOptions;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.reports.html.screenshots.ScreenshotFormatter;
+import net.thucydides.core.reports.html.screenshots.ScreenshotMetadataCache;
 import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.util.Inflector;
@@ -25,10 +27,16 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
-import static ch.lambdaj.Lambda.convert;
 import static com.google.common.collect.Iterables.any;
 import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_KEEP_UNSCALED_SCREENSHOTS;
+import static net.thucydides.core.ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_SCALING_THREADS;
 import static net.thucydides.core.model.ReportType.HTML;
 
 /**
@@ -48,6 +56,11 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
     private final IssueTracking issueTracking;
     private RequirementsService requirementsService;
 
+    /**
+     * Shared by all the reporters in the JVM, as a new reporter is created for each test class.
+     */
+    private static ExecutorService screenshotScalingService;
+
     public void setQualifier(final String qualifier) {
         this.qualifier = qualifier;
     }
@@ -130,7 +143,7 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
 
         Preconditions.checkNotNull(getOutputDirectory());
 
-        List<Screenshot> screenshots = expandScreenshots(testOutcome.getScreenshots());
+        List<Screenshot> screenshots = expandScreenshots(testOutcome);
 
         String screenshotReport = testOutcome.getReportName() + "_screenshots.html";
 
@@ -146,48 +159,98 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
 
     }
 
-    private List<Screenshot> expandScreenshots(List<Screenshot> screenshots) throws IOException {
-        return convert(screenshots, new ExpandedScreenshotConverter(maxScreenshotHeightIn(screenshots)));
-    }
+    private List<Screenshot> expandScreenshots(final TestOutcome testOutcome) throws IOException {
+        List<Screenshot> screenshots = testOutcome.getScreenshots();
+        ScreenshotMetadataCache metadata = ScreenshotMetadataCache.forReport(getOutputDirectory(), testOutcome.getReportName());
+        int maxHeight = maxScreenshotHeightIn(screenshots, metadata);
 
-    private class ExpandedScreenshotConverter implements Converter<Screenshot, Screenshot> {
-        private final int maxHeight;
+        Map<String, Future<Screenshot>> expandedScreenshots = Maps.newHashMap();
+        for (Screenshot screenshot : screenshots) {
+            if (!expandedScreenshots.containsKey(screenshot.getFilename())) {
+                expandedScreenshots.put(screenshot.getFilename(), expand(screenshot, maxHeight, metadata));
+            }
+        }
 
-        public ExpandedScreenshotConverter(int maxHeight) {
-            this.maxHeight = maxHeight;
+        List<Screenshot> results = Lists.newArrayList();
+        for (Screenshot screenshot : screenshots) {
+            results.add(expandedVersionOf(screenshot, expandedScreenshots.get(screenshot.getFilename())));
         }
+        metadata.save();
+        return results;
+    }
 
-        public Screenshot convert(Screenshot screenshot) {
-            try {
+    private Future<Screenshot> expand(final Screenshot screenshot, final int maxHeight, final ScreenshotMetadataCache metadata) {
+        Callable<Screenshot> expansion = new Callable<Screenshot>() {
+            public Screenshot call() throws IOException {
                 return ScreenshotFormatter.forScreenshot(screenshot)
                                           .inDirectory(getOutputDirectory())
                                           .keepOriginals(shouldKeepOriginalScreenshots())
+                                          .usingMetadataFrom(metadata)
                                           .expandToHeight(maxHeight);
-            } catch (IOException e) {
-                LOGGER.warn("Failed to write scaled screenshot for {}: {}", screenshot, e);
-                return screenshot;
             }
+        };
+        if (screenshotScalingThreads() > 1) {
+            return getScreenshotScalingService().submit(expansion);
+        }
+        FutureTask<Screenshot> inlineExpansion = new FutureTask<Screenshot>(expansion);
+        inlineExpansion.run();
+        return inlineExpansion;
+    }
+
+    private Screenshot expandedVersionOf(Screenshot screenshot, Future<Screenshot> expandedScreenshot) throws IOException {
+        try {
+            Screenshot expanded = expandedScreenshot.get();
+            return new Screenshot(expanded.getFilename(),
+                                  screenshot.getDescription(),
+                                  screenshot.getWidth(),
+                                  screenshot.getError());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scaling screenshot " + screenshot.getFilename(), e);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Failed to write scaled screenshot for {}: {}", screenshot, e.getCause());
+            return screenshot;
+        }
+    }
+
+    private int screenshotScalingThreads() {
+        return getEnvironmentVariables().getPropertyAsInteger(THUCYDIDES_SCREENSHOT_SCALING_THREADS,
+                                                              Runtime.getRuntime().availableProcessors());
+    }
+
+    private ExecutorService getScreenshotScalingService() {
+        return sharedScreenshotScalingService(screenshotScalingThreads());
+    }
+
+    private static synchronized ExecutorService sharedScreenshotScalingService(final int screenshotScalingThreads) {
+        if (screenshotScalingService == null) {
+            screenshotScalingService = Executors.newFixedThreadPool(screenshotScalingThreads,
+                                                                    new ThreadFactoryBuilder()
+                                                                            .setNameFormat("thucydides-screenshot-scaling-%d")
+                                                                            .setDaemon(true)
+                                                                            .build());
         }
+        return screenshotScalingService;
     }
 
     private boolean shouldKeepOriginalScreenshots() {
         return getEnvironmentVariables().getPropertyAsBoolean(THUCYDIDES_KEEP_UNSCALED_SCREENSHOTS, false);
     }
 
-    private int maxScreenshotHeightIn(List<Screenshot> screenshots) throws IOException {
+    private int maxScreenshotHeightIn(List<Screenshot> screenshots, ScreenshotMetadataCache metadata) throws IOException {
         int maxHeight = 0;
         for (Screenshot screenshot : screenshots) {
             File screenshotFile = new File(getOutputDirectory(),screenshot.getFilename());
             if (screenshotFile.exists()) {
-                maxHeight = maxHeightOf(maxHeight, screenshotFile);
+                maxHeight = maxHeightOf(maxHeight, metadata.dimensionsOf(screenshotFile));
             }
         }
         return maxHeight;
     }
 
-    private int maxHeightOf(int maxHeight, File screenshotFile) throws IOException {
-        int height = ResizableImage.loadFrom(screenshotFile).getHeight();
-        int width = ResizableImage.loadFrom(screenshotFile).getWitdh();
+    private int maxHeightOf(int maxHeight, ScreenshotMetadataCache.ImageDimensions screenshotDimensions) {
+        int height = screenshotDimensions.getHeight();
+        int width = screenshotDimensions.getWidth();
         if (width > MAXIMUM_SCREENSHOT_WIDTH) {
             height = (int) ((height * 1.0) * (MAXIMUM_SCREENSHOT_WIDTH * 1.0 / width));
         }
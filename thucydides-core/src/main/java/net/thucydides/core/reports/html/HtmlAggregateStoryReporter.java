@@ -23,6 +23,7 @@ import net.thucydides.core.requirements.model.RequirementsConfiguration;
 import net.thucydides.core.requirements.reports.RequirementOutcome;
 import net.thucydides.core.requirements.reports.RequirementsOutcomes;
 import net.thucydides.core.requirements.reports.RequirmentsOutcomeFactory;
+import net.thucydides.core.statistics.service.TagResolutionStatistics;
 import net.thucydides.core.util.Inflector;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -30,6 +31,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +64,10 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     private final HtmlProgressReporter htmlProgressReporter;
     private List<String> requirementTypes;
     private final RequirementsConfiguration requirementsConfiguration;
+    private ReportGenerationScheduler scheduler;
+    private Map<String, Object> sharedContext;
+    private ReportManifest manifest;
+    private String historyDigest;
 
     public HtmlAggregateStoryReporter(final String projectName) {
         this(projectName, "");
@@ -107,13 +114,58 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         return testHistory;
     }
 
-    private void addFormattersToContext(final Map<String, Object> context) {
-        Formatter formatter = new Formatter(issueTracking);
-        context.put("formatter", formatter);
+    /**
+     * The parts of the report context that are the same for every page. They are built once per report run
+     * and shared by all the pages, so they must be safe to use from several threads.
+     */
+    private Map<String, Object> buildSharedContext() {
+        Map<String, Object> context = new HashMap<String, Object>();
+        context.put("absoluteReportName", new ReportNameProvider());
+        context.put("timestamp", timestampFrom(currentTime()));
+        context.put("requirementTypes", requirementsService.getRequirementTypes());
+        context.put("formatter", new Formatter(issueTracking));
         context.put("formatted", new NumericalFormatter());
         context.put("inflection", Inflector.getInstance());
         context.put("relativeLink", relativeLink);
         context.put("reportOptions", new ReportOptions(getEnvironmentVariables()));
+        return Collections.unmodifiableMap(context);
+    }
+
+    /**
+     * The inputs that every page depends on. If any of these change, every page is generated again.
+     */
+    private String sharedReportInputsFor(TestOutcomes testOutcomes) {
+        ReportOptions reportOptions = new ReportOptions(getEnvironmentVariables());
+        return StringUtils.join(new Object[] {
+                HtmlAggregateStoryReporter.class.getPackage().getImplementationVersion(),
+                projectName,
+                relativeLink,
+                requirementsService.getRequirementTypes(),
+                testOutcomes.getTagTypes(),
+                testOutcomes.getFirstClassTagTypes(),
+                reportOptions.getProjectName(),
+                reportOptions.isShowStepDetails(),
+                reportOptions.isShowManualTests(),
+                reportOptions.isShowReleases(),
+                reportOptions.isShowProgress(),
+                reportOptions.isShowHistory(),
+                reportOptions.isShowTagMenus(),
+                reportOptions.isShowRelatedTags(),
+                reportOptions.isDisplayPiechart(),
+                issueTracking.getIssueTrackerUrl(),
+                issueTracking.getShortenedIssueTrackerUrl(),
+                ThucydidesSystemProperty.DASHBOARD_TAG_LIST.from(getEnvironmentVariables()),
+                ThucydidesSystemProperty.DASHBOARD_EXCLUDED_TAG_LIST.from(getEnvironmentVariables()),
+                ThucydidesSystemProperty.THUCYDIDES_NARRATIVE_FORMAT.from(getEnvironmentVariables())}, ";");
+    }
+
+    private boolean incrementalReportsEnabled() {
+        return getEnvironmentVariables().getPropertyAsBoolean(ThucydidesSystemProperty.THUCYDIDES_REPORT_INCREMENTAL, false);
+    }
+
+    private int getReportThreadCount() {
+        return getEnvironmentVariables().getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_REPORT_THREADS,
+                                                              Runtime.getRuntime().availableProcessors());
     }
 
     public TestOutcomes generateReportsForTestResultsFrom(final File sourceDirectory) throws IOException {
@@ -122,7 +174,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         return allTestOutcomes;
     }
 
-    public void generateReportsForTestResultsIn(TestOutcomes testOutcomes) throws IOException {
+    public void generateReportsForTestResultsIn(final TestOutcomes testOutcomes) throws IOException {
         RequirementsOutcomes requirementsOutcomes = requirementsFactory.buildRequirementsOutcomesFrom(testOutcomes);
 
         updateHistoryFor(requirementsOutcomes);
@@ -130,29 +182,65 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         copyResourcesToOutputDirectory();
         copyTestResultsToOutputDirectory();
 
-        generateAggregateReportFor(testOutcomes);
-        generateTagReportsFor(testOutcomes);
-        generateTagTypeReportsFor(testOutcomes);
-        for (String name : testOutcomes.getTagNames()) {
-            generateTagTypeReportsFor(testOutcomes.withTag(name), new ReportNameProvider(name));
-        }
-        generateRequirementTypeReports(requirementsOutcomes);
-        generateResultReportsFor(testOutcomes);
-        generateHistoryReportFor(testOutcomes);
+        // Tags are worked out lazily, so make sure this happens before the outcomes are shared between threads
+        testOutcomes.getTags();
+
+        sharedContext = buildSharedContext();
+        manifest = incrementalReportsEnabled() ? ReportManifest.in(getOutputDirectory(), sharedReportInputsFor(testOutcomes)) : null;
+        historyDigest = (manifest != null) ? manifest.digestOf(getTestHistory().getHistory(), getTestHistory().getProgress()) : "";
+        scheduler = new ReportGenerationScheduler(getReportThreadCount());
+        try {
+            scheduler.schedule(new ReportGenerationTask() {
+                public void generateReports() throws IOException {
+                    generateAggregateReportFor(testOutcomes);
+                }
+            });
+            generateTagReportsFor(testOutcomes);
+            generateTagTypeReportsFor(testOutcomes);
+            for (final String name : testOutcomes.getTagNames()) {
+                scheduler.schedule(new ReportGenerationTask() {
+                    public void generateReports() throws IOException {
+                        generateTagTypeReportsFor(testOutcomes.withTag(name), new ReportNameProvider(name));
+                    }
+                });
+            }
+            generateRequirementTypeReports(requirementsOutcomes);
+            generateResultReportsFor(testOutcomes);
+            scheduler.schedule(new ReportGenerationTask() {
+                public void generateReports() throws IOException {
+                    generateHistoryReportFor(testOutcomes);
+                }
+            });
 //        generateCoverageReportsFor(testOutcomes);
+        } finally {
+            scheduler.waitUntilDone();
+        }
 
         generateRequirementsReportsFor(requirementsOutcomes);
 
         generateReleasesReportFor(testOutcomes, requirementsOutcomes);
 
+        if (manifest != null) {
+            manifest.save();
+        }
+
+        LOGGER.debug("Resolved tags for {} test outcomes in {} ms ({} requirement tag cache hits, {} misses)",
+                     new Object[]{TagResolutionStatistics.getResolutionCount(),
+                                  TagResolutionStatistics.getTotalResolutionTimeInMilliseconds(),
+                                  TagResolutionStatistics.getCacheHits(),
+                                  TagResolutionStatistics.getCacheMisses()});
     }
 
-    private void generateRequirementTypeReports(RequirementsOutcomes requirementsOutcomes) throws IOException {
+    private void generateRequirementTypeReports(final RequirementsOutcomes requirementsOutcomes) throws IOException {
         List<String> requirementTypes = requirementsOutcomes.getTypes();
-        for (String requirementType : requirementTypes) {
-            generateRequirementTypeReportFor(requirementType,
-                    requirementsOutcomes.requirementsOfType(requirementType),
-                    new ReportNameProvider());
+        for (final String requirementType : requirementTypes) {
+            scheduler.schedule(new ReportGenerationTask() {
+                public void generateReports() throws IOException {
+                    generateRequirementTypeReportFor(requirementType,
+                            requirementsOutcomes.requirementsOfType(requirementType),
+                            new ReportNameProvider());
+                }
+            });
         }
     }
 
@@ -165,26 +253,89 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         context.put("requirements", requirementsOutcomes);
 
         String reportName = reporter.forRequirementType(requirementType);
-        generateReportPage(context, REQUIREMENT_TYPE_TEMPLATE_PATH, reportName);
+        generateReportPage(context, REQUIREMENT_TYPE_TEMPLATE_PATH, reportName, requirementsOutcomes.getTestOutcomes(),
+                           requirementType, requirementsDigestOf(requirementsOutcomes), historyDigest);
 
     }
 
-    private void generateCSVReportFor(TestOutcomes testOutcomes, String reportName) throws IOException {
-        CSVReporter csvReporter = new CSVReporter(getOutputDirectory(), getEnvironmentVariables());
-        csvReporter.generateReportFor(testOutcomes, reportName);
+    private void generateCSVReportFor(final TestOutcomes testOutcomes, final String reportName) throws IOException {
+        final CSVReporter csvReporter = new CSVReporter(getOutputDirectory(), getEnvironmentVariables());
+        if (manifest == null) {
+            scheduler.write(reportName, new ReportGenerationScheduler.ReportWriter() {
+                public void write() throws IOException {
+                    csvReporter.generateReportFor(testOutcomes, reportName);
+                }
+            });
+        } else {
+            final String fingerprint = manifest.fingerprintOf(reportName, "csv", testOutcomes);
+            scheduler.write(reportName, new ReportGenerationScheduler.IncrementalReportWriter() {
+                public void write(boolean alreadyWritten) throws IOException {
+                    if (alreadyWritten || !manifest.isUpToDate(reportName, fingerprint)) {
+                        csvReporter.generateReportFor(testOutcomes, reportName);
+                    }
+                    manifest.record(reportName, fingerprint);
+                }
+            });
+        }
     }
 
-    public void generateRequirementsReportsFor(RequirementsOutcomes requirementsOutcomes) throws IOException {
+    public void generateRequirementsReportsFor(final RequirementsOutcomes requirementsOutcomes) throws IOException {
 
         htmlRequirementsReporter.setOutputDirectory(getOutputDirectory());
-        htmlRequirementsReporter.generateReportFor(requirementsOutcomes);
+        generateRequirementsReportFor(requirementsOutcomes, requirementsOutcomes.getTestOutcomes(),
+                                      HtmlRequirementsReporter.REPORT_NAME);
 
         htmlProgressReporter.setOutputDirectory(getOutputDirectory());
-        htmlProgressReporter.generateReportFor(requirementsOutcomes);
+        if (manifest == null) {
+            htmlProgressReporter.generateReportFor(requirementsOutcomes);
+        } else {
+            writeReportIfOutOfDate(HtmlProgressReporter.REPORT_NAME, HtmlProgressReporter.DEFAULT_PROGRESS_REPORT,
+                    requirementsOutcomes.getTestOutcomes(),
+                    new ReportGenerationScheduler.ReportWriter() {
+                        public void write() throws IOException {
+                            htmlProgressReporter.generateReportFor(requirementsOutcomes);
+                        }
+                    },
+                    requirementsDigestOf(requirementsOutcomes), historyDigest);
+        }
 
         generateRequirementsReportsForChildRequirements(requirementsOutcomes);
     }
 
+    private void generateRequirementsReportFor(final RequirementsOutcomes requirementsOutcomes,
+                                               final TestOutcomes testOutcomes,
+                                               final String reportName) throws IOException {
+        if (manifest == null) {
+            htmlRequirementsReporter.generateReportFor(requirementsOutcomes, testOutcomes, reportName);
+        } else {
+            writeReportIfOutOfDate(reportName, HtmlRequirementsReporter.DEFAULT_REQUIREMENTS_REPORT, testOutcomes,
+                    new ReportGenerationScheduler.ReportWriter() {
+                        public void write() throws IOException {
+                            htmlRequirementsReporter.generateReportFor(requirementsOutcomes, testOutcomes, reportName);
+                        }
+                    },
+                    requirementsDigestOf(requirementsOutcomes), historyDigest);
+        }
+    }
+
+    /**
+     * The requirements shown on a page, including the parent requirement of nested requirement pages.
+     * Only needed for incremental reports.
+     */
+    private String requirementsDigestOf(RequirementsOutcomes requirementsOutcomes) {
+        if (manifest == null) {
+            return "";
+        }
+        List<Requirement> requirements = new ArrayList<Requirement>();
+        if (requirementsOutcomes.getParentRequirement().isPresent()) {
+            requirements.add(requirementsOutcomes.getParentRequirement().get());
+        }
+        for (RequirementOutcome requirementOutcome : requirementsOutcomes.getRequirementOutcomes()) {
+            requirements.add(requirementOutcome.getRequirement());
+        }
+        return manifest.digestOf(requirements);
+    }
+
     private void generateRequirementsReportsForChildRequirements(RequirementsOutcomes requirementsOutcomes) throws IOException {
         List<RequirementOutcome> requirementOutcomes = requirementsOutcomes.getRequirementOutcomes();
         for (RequirementOutcome outcome : requirementOutcomes) {
@@ -198,7 +349,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     private void generateNestedRequirementsReportsFor(Requirement parentRequirement, RequirementsOutcomes requirementsOutcomes) throws IOException {
         htmlRequirementsReporter.setOutputDirectory(getOutputDirectory());
         String reportName = reportNameProvider.forRequirement(parentRequirement);
-        htmlRequirementsReporter.generateReportFor(requirementsOutcomes, requirementsOutcomes.getTestOutcomes(), reportName);
+        generateRequirementsReportFor(requirementsOutcomes, requirementsOutcomes.getTestOutcomes(), reportName);
 
         generateRequirementsReportsForChildRequirements(requirementsOutcomes);
 
@@ -215,7 +366,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         context.put("report", ReportProperties.forAggregateResultsReport());
         context.put("csvReport", "results.csv");
 
-        generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, "index.html");
+        generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, "index.html", testOutcomes);
         generateCSVReportFor(testOutcomes, "results.csv");
     }
 
@@ -250,7 +401,8 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
             context.put("releaseData", releaseData);
             context.put("requirements", requirementsOutcomes);
 
-            generateReportPage(context, RELEASES_TEMPLATE_PATH, "releases.html");
+            generateReportPage(context, RELEASES_TEMPLATE_PATH, "releases.html", testOutcomes,
+                               releaseData, requirementsDigestOf(requirementsOutcomes), historyDigest);
             generateReleaseDetailsReportsFor(testOutcomes, requirementsOutcomes);
         }
     }
@@ -288,20 +440,30 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
 
             // capability | features | total automated tests | %automated pass | total manual | % manual
             String reportName = getReportNameProvider().forRelease(release);
-            generateReportPage(context, RELEASE_TEMPLATE_PATH, reportName);
+            generateReportPage(context, RELEASE_TEMPLATE_PATH, reportName, testOutcomes,
+                               context.get("releaseData"), topLevelRequirementTypeTitle, secondLevelRequirementTypeTitle,
+                               requirementsDigestOf(releaseRequirements), historyDigest);
         }
     }
 
-    private void generateTagReportsFor(TestOutcomes testOutcomes) throws IOException {
+    private void generateTagReportsFor(final TestOutcomes testOutcomes) throws IOException {
 
-        for (TestTag tag : testOutcomes.getTags()) {
-            generateTagReport(testOutcomes, reportNameProvider, tag);
-            generateAssociatedTagReportsForTag(testOutcomes.withTag(tag.getName()), tag.getName());
+        for (final TestTag tag : testOutcomes.getTags()) {
+            scheduler.schedule(new ReportGenerationTask() {
+                public void generateReports() throws IOException {
+                    generateTagReport(testOutcomes, reportNameProvider, tag);
+                    generateAssociatedTagReportsForTag(testOutcomes.withTag(tag.getName()), tag.getName());
+                }
+            });
         }
     }
 
-    private void generateTagTypeReportsFor(TestOutcomes testOutcomes) throws IOException {
-        generateTagTypeReportsFor(testOutcomes, reportNameProvider);
+    private void generateTagTypeReportsFor(final TestOutcomes testOutcomes) throws IOException {
+        scheduler.schedule(new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                generateTagTypeReportsFor(testOutcomes, reportNameProvider);
+            }
+        });
     }
 
     private void generateTagTypeReportsFor(TestOutcomes testOutcomes, ReportNameProvider reportNameProvider) throws IOException {
@@ -311,11 +473,19 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         }
     }
 
-    private void generateResultReportsFor(TestOutcomes testOutcomes) throws IOException {
-        generateResultReports(testOutcomes, reportNameProvider);
-
-        for (TestTag tag : testOutcomes.getTags()) {
-            generateResultReports(testOutcomes.withTag(tag.getName()), new ReportNameProvider(tag.getName()), tag);
+    private void generateResultReportsFor(final TestOutcomes testOutcomes) throws IOException {
+        scheduler.schedule(new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                generateResultReports(testOutcomes, reportNameProvider);
+            }
+        });
+
+        for (final TestTag tag : testOutcomes.getTags()) {
+            scheduler.schedule(new ReportGenerationTask() {
+                public void generateReports() throws IOException {
+                    generateResultReports(testOutcomes.withTag(tag.getName()), new ReportNameProvider(tag.getName()), tag);
+                }
+            });
         }
     }
 
@@ -353,7 +523,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         String csvReport = reportName.forCSVFiles().forTestResult(testResult);
         context.put("csvReport", csvReport);
         String report = reportName.withPrefix(tag).forTestResult(testResult);
-        generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, report);
+        generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, report, testOutcomes, tag, testResult);
         generateCSVReportFor(testOutcomes, csvReport);
     }
 
@@ -368,7 +538,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         context.put("csvReport", csvReport);
 
         String report = reportName.forTag(tag.getName());
-        generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, report);
+        generateReportPage(context, TEST_OUTCOME_TEMPLATE_PATH, report, testOutcomesForTag, tag);
         generateCSVReportFor(testOutcomesForTag, csvReport);
     }
 
@@ -384,7 +554,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         context.put("csvReport", csvReport);
 
         String report = reportName.forTagType(tagType);
-        generateReportPage(context, TAGTYPE_TEMPLATE_PATH, report);
+        generateReportPage(context, TAGTYPE_TEMPLATE_PATH, report, testOutcomesForTagType, tagType);
         generateCSVReportFor(testOutcomesForTagType, csvReport);
     }
 
@@ -397,23 +567,23 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
 
     private Map<String, Object> buildContext(TestOutcomes testOutcomesForTagType,
                                              ReportNameProvider reportName) {
-        Map<String, Object> context = new HashMap<String, Object>();
+        Map<String, Object> context = new HashMap<String, Object>(getSharedContext());
         TagFilter tagFilter = new TagFilter(getEnvironmentVariables());
         context.put("testOutcomes", testOutcomesForTagType);
         context.put("allTestOutcomes", testOutcomesForTagType.getRootOutcomes());
         context.put("tagTypes", tagFilter.filteredTagTypes(testOutcomesForTagType.getTagTypes()));
         context.put("currentTag", TestTag.EMPTY_TAG);
         context.put("reportName", reportName);
-        context.put("absoluteReportName", new ReportNameProvider());
-
-        context.put("reportOptions", new ReportOptions(getEnvironmentVariables()));
-        //context.put("timestamp", timestampFrom(testOutcomesForTagType.getRootOutcomes()));
-        context.put("timestamp", timestampFrom(currentTime()));
-        context.put("requirementTypes",requirementsService.getRequirementTypes());
-        addFormattersToContext(context);
         return context;
     }
 
+    private Map<String, Object> getSharedContext() {
+        if (sharedContext == null) {
+            sharedContext = buildSharedContext();
+        }
+        return sharedContext;
+    }
+
 
     private void updateHistoryFor(final RequirementsOutcomes requirementsOutcomes) {
         getTestHistory().updateData(requirementsOutcomes);
@@ -424,11 +594,9 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         Map<String, Object> context = buildContext(testOutcomes, reportNameProvider);
         context.put("history", history);
         context.put("rowcount", history.size());
-        addFormattersToContext(context);
 
-        String htmlContents = mergeTemplate(HISTORY_TEMPLATE_PATH).usingContext(context);
         LOGGER.debug("Writing history page");
-        writeReportToOutputDirectory("history.html", htmlContents);
+        generateReportPage(context, HISTORY_TEMPLATE_PATH, "history.html", testOutcomes, historyDigest);
 
     }
 
@@ -439,6 +607,60 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
         writeReportToOutputDirectory(outputFile, htmlContents);
     }
 
+    /**
+     * Generate a page that only depends on the given test outcomes and other inputs. In incremental mode,
+     * the page is left as it is if it was generated from the same inputs during the previous run.
+     */
+    private void generateReportPage(final Map<String, Object> context,
+                                    final String template,
+                                    final String outputFile,
+                                    final TestOutcomes pageOutcomes,
+                                    final Object... otherInputs) throws IOException {
+        if (manifest == null) {
+            generateReportPage(context, template, outputFile);
+            return;
+        }
+        writeReportIfOutOfDate(outputFile, template, pageOutcomes, new ReportGenerationScheduler.ReportWriter() {
+            public void write() throws IOException {
+                String htmlContents = mergeTemplate(template).usingContext(context);
+                HtmlAggregateStoryReporter.super.writeReportToOutputDirectory(outputFile, htmlContents);
+            }
+        }, otherInputs);
+    }
+
+    /**
+     * Write a report file only if it was not generated from the same inputs during the previous run.
+     * Only used for incremental reports.
+     */
+    private void writeReportIfOutOfDate(final String outputFile,
+                                        final String template,
+                                        final TestOutcomes pageOutcomes,
+                                        final ReportGenerationScheduler.ReportWriter writer,
+                                        final Object... otherInputs) throws IOException {
+        final String fingerprint = manifest.fingerprintOf(outputFile, template, pageOutcomes, otherInputs);
+        scheduler.write(outputFile, new ReportGenerationScheduler.IncrementalReportWriter() {
+            public void write(boolean alreadyWritten) throws IOException {
+                if (alreadyWritten || !manifest.isUpToDate(outputFile, fingerprint)) {
+                    writer.write();
+                }
+                manifest.record(outputFile, fingerprint);
+            }
+        });
+    }
+
+    @Override
+    protected File writeReportToOutputDirectory(final String reportFilename, final String htmlContents) throws IOException {
+        if (scheduler == null) {
+            return super.writeReportToOutputDirectory(reportFilename, htmlContents);
+        }
+        scheduler.write(reportFilename, new ReportGenerationScheduler.ReportWriter() {
+            public void write() throws IOException {
+                HtmlAggregateStoryReporter.super.writeReportToOutputDirectory(reportFilename, htmlContents);
+            }
+        });
+        return new File(getOutputDirectory(), reportFilename);
+    }
+
 //    private void generateCoverageData(final TestOutcomes testOutcomes, String tagType) throws IOException {
 //        Map<String, Object> context = new HashMap<String, Object>();
 //
@@ -25,8 +25,8 @@ import java.util.Map;
 
 public class HtmlProgressReporter extends HtmlReporter {
 
-    private static final String DEFAULT_PROGRESS_REPORT = "freemarker/progress-report.ftl";
-    private static final String REPORT_NAME = "progress-report.html";
+    static final String DEFAULT_PROGRESS_REPORT = "freemarker/progress-report.ftl";
+    static final String REPORT_NAME = "progress-report.html";
 
     private final IssueTracking issueTracking;
     private final TestHistory testHistory;
@@ -17,8 +17,8 @@ import java.util.Map;
 
 public class HtmlRequirementsReporter extends HtmlReporter {
 
-    private static final String DEFAULT_REQUIREMENTS_REPORT = "freemarker/requirements.ftl";
-    private static final String REPORT_NAME = "capabilities.html";
+    static final String DEFAULT_REQUIREMENTS_REPORT = "freemarker/requirements.ftl";
+    static final String REPORT_NAME = "capabilities.html";
 
     private final IssueTracking issueTracking;
     private final RequirementsService requirementsService;
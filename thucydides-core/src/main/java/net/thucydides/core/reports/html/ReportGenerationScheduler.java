@@ -0,0 +1,160 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs report generation tasks on a pool of worker threads.
+ * Tasks are numbered in the order they are scheduled. When several tasks write a file with the same name,
+ * the file ends up with the contents written by the task scheduled last, exactly as if the tasks had been
+ * run one after the other. With a single thread, tasks are simply run as soon as they are scheduled.
+ */
+public class ReportGenerationScheduler {
+
+    /**
+     * Writes a report file.
+     */
+    public interface ReportWriter {
+        void write() throws IOException;
+    }
+
+    /**
+     * Writes a report file that may be left as it is if it is already up to date.
+     */
+    public interface IncrementalReportWriter {
+        /**
+         * @param alreadyWritten true if another task has already written a file with this name during this run,
+         *                       in which case the file must be written again even if it was up to date.
+         */
+        void write(boolean alreadyWritten) throws IOException;
+    }
+
+    private static final int NOT_IN_A_TASK = Integer.MAX_VALUE;
+    private static final int NOT_WRITTEN = -1;
+
+    private final int threadCount;
+    private final ExecutorService executorService;
+    private final List<Future<Void>> scheduledTasks = Lists.newArrayList();
+    private final ConcurrentMap<String, WrittenReport> writtenReports = new ConcurrentHashMap<String, WrittenReport>();
+    private final ThreadLocal<Integer> currentTaskNumber = new ThreadLocal<Integer>() {
+        @Override
+        protected Integer initialValue() {
+            return NOT_IN_A_TASK;
+        }
+    };
+    private int taskCount = 0;
+
+    public ReportGenerationScheduler(int threadCount) {
+        this.threadCount = Math.max(threadCount, 1);
+        if (this.threadCount > 1) {
+            executorService = Executors.newFixedThreadPool(this.threadCount,
+                                                           new ThreadFactoryBuilder()
+                                                                   .setNameFormat("thucydides-reports-%d")
+                                                                   .setDaemon(true)
+                                                                   .build());
+        } else {
+            executorService = null;
+        }
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void schedule(final ReportGenerationTask task) throws IOException {
+        final int taskNumber = taskCount++;
+        if (executorService == null) {
+            runAs(taskNumber, task);
+        } else {
+            scheduledTasks.add(executorService.submit(new Callable<Void>() {
+                public Void call() throws IOException {
+                    runAs(taskNumber, task);
+                    return null;
+                }
+            }));
+        }
+    }
+
+    private void runAs(int taskNumber, ReportGenerationTask task) throws IOException {
+        currentTaskNumber.set(taskNumber);
+        try {
+            task.generateReports();
+        } finally {
+            currentTaskNumber.remove();
+        }
+    }
+
+    /**
+     * Wait for all the scheduled tasks to finish, and shut down the worker threads.
+     * If any task failed, the remaining tasks are cancelled and the first failure is rethrown.
+     */
+    public void waitUntilDone() throws IOException {
+        if (executorService == null) {
+            return;
+        }
+        try {
+            for (Future<Void> scheduledTask : scheduledTasks) {
+                scheduledTask.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating reports", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to generate reports", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Write a report file, unless a task scheduled later has already written a file with the same name.
+     */
+    public void write(String reportFilename, ReportWriter writer) throws IOException {
+        int taskNumber = currentTaskNumber.get();
+        WrittenReport writtenReport = writtenReportCalled(reportFilename);
+        synchronized (writtenReport) {
+            if (taskNumber >= writtenReport.writtenByTask) {
+                writer.write();
+                writtenReport.writtenByTask = taskNumber;
+            }
+        }
+    }
+
+    /**
+     * Write a report file that may not need to be regenerated, unless a task scheduled later has already
+     * written a file with the same name.
+     */
+    public void write(String reportFilename, IncrementalReportWriter writer) throws IOException {
+        int taskNumber = currentTaskNumber.get();
+        WrittenReport writtenReport = writtenReportCalled(reportFilename);
+        synchronized (writtenReport) {
+            if (taskNumber >= writtenReport.writtenByTask) {
+                writer.write(writtenReport.writtenByTask != NOT_WRITTEN);
+                writtenReport.writtenByTask = taskNumber;
+            }
+        }
+    }
+
+    private WrittenReport writtenReportCalled(String reportFilename) {
+        WrittenReport newReport = new WrittenReport();
+        WrittenReport existingReport = writtenReports.putIfAbsent(reportFilename, newReport);
+        return (existingReport != null) ? existingReport : newReport;
+    }
+
+    private static class WrittenReport {
+        int writtenByTask = NOT_WRITTEN;
+    }
+}
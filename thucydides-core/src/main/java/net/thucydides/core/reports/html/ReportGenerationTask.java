@@ -0,0 +1,10 @@
+package net.thucydides.core.reports.html;
+
+import java.io.IOException;
+
+/**
+ * An independent unit of report generation work, such as the pages for a single tag.
+ */
+public interface ReportGenerationTask {
+    void generateReports() throws IOException;
+}
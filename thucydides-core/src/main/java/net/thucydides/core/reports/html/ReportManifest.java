@@ -0,0 +1,171 @@
+package net.thucydides.core.reports.html;
+
+import com.google.common.collect.MapMaker;
+import com.thoughtworks.xstream.XStream;
+import net.thucydides.core.digest.Digest;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.SerializerRegistry;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.history.ProgressSnapshot;
+import net.thucydides.core.reports.history.TestResultSnapshot;
+import net.thucydides.core.requirements.model.Example;
+import net.thucydides.core.requirements.model.Requirement;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records a fingerprint of the inputs of each generated report page, so that pages whose inputs have not changed
+ * since the previous report run do not need to be rendered again.
+ * A page fingerprint is a digest of the page name, its template, a digest of each test outcome shown on the page,
+ * and of anything else the page depends on, such as the requirements read from the narrative files or the test
+ * history. The fingerprints are stored in the report output directory.
+ */
+public class ReportManifest {
+
+    public static final String MANIFEST_FILE = "report-manifest.properties";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportManifest.class);
+
+    private final File outputDirectory;
+    private final String sharedInputs;
+    private final Map<String, String> previousFingerprints = new ConcurrentHashMap<String, String>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<String, String>();
+
+    /**
+     * Outcome digests, worked out once per outcome instance.
+     */
+    private final ConcurrentMap<TestOutcome, String> outcomeDigests = new MapMaker().weakKeys().makeMap();
+
+    private ReportManifest(File outputDirectory, String sharedInputs) {
+        this.outputDirectory = outputDirectory;
+        this.sharedInputs = sharedInputs;
+        File manifestFile = new File(outputDirectory, MANIFEST_FILE);
+        if (manifestFile.exists()) {
+            loadFingerprintsFrom(manifestFile);
+        }
+    }
+
+    /**
+     * @param sharedInputs a description of the inputs that every page depends on, such as the report options.
+     *                     If it changes, every page is considered out of date.
+     */
+    public static ReportManifest in(File outputDirectory, String sharedInputs) {
+        return new ReportManifest(outputDirectory, sharedInputs);
+    }
+
+    /**
+     * Is the page already in the output directory, and was it generated from the same inputs?
+     */
+    public boolean isUpToDate(String pageName, String fingerprint) {
+        return fingerprint.equals(previousFingerprints.get(pageName)) && new File(outputDirectory, pageName).exists();
+    }
+
+    public void record(String pageName, String fingerprint) {
+        fingerprints.put(pageName, fingerprint);
+    }
+
+    public String fingerprintOf(String pageName, String template, TestOutcomes testOutcomes, Object... otherInputs) {
+        StringBuilder inputs = new StringBuilder();
+        inputs.append(sharedInputs).append('\n').append(pageName).append('\n').append(template).append('\n');
+        for (Object input : otherInputs) {
+            inputs.append(input).append('\n');
+        }
+        inputs.append(testOutcomes.getLabel()).append('\n');
+        for (TestOutcome testOutcome : testOutcomes.getOutcomes()) {
+            inputs.append(digestOf(testOutcome)).append('\n');
+        }
+        return Digest.ofTextValue(inputs.toString());
+    }
+
+    public String digestOf(TestOutcome testOutcome) {
+        String digest = outcomeDigests.get(testOutcome);
+        if (digest == null) {
+            digest = Digest.ofTextValue(SerializerRegistry.testOutcomeXStream().toXML(testOutcome));
+            outcomeDigests.put(testOutcome, digest);
+        }
+        return digest;
+    }
+
+    /**
+     * A digest of the requirements shown on a page, including the narrative text read from the requirement files,
+     * the release versions, the examples and the nested requirements.
+     */
+    public String digestOf(List<Requirement> requirements) {
+        StringBuilder inputs = new StringBuilder();
+        appendRequirements(inputs, requirements);
+        return Digest.ofTextValue(inputs.toString());
+    }
+
+    private void appendRequirements(StringBuilder inputs, List<Requirement> requirements) {
+        for (Requirement requirement : requirements) {
+            inputs.append(requirement.getType()).append('\n')
+                  .append(requirement.getName()).append('\n')
+                  .append(requirement.getDisplayName()).append('\n')
+                  .append(requirement.getCardNumber()).append('\n')
+                  .append(requirement.getNarrativeText()).append('\n')
+                  .append(requirement.getReleaseVersions()).append('\n');
+            for (Example example : requirement.getExamples()) {
+                inputs.append(example.getDescription()).append('\n')
+                      .append(example.getCardNumber()).append('\n');
+            }
+            inputs.append('[').append('\n');
+            appendRequirements(inputs, requirement.getChildren());
+            inputs.append(']').append('\n');
+        }
+    }
+
+    /**
+     * A digest of the test result and progress history shown on the requirement, release and history pages.
+     */
+    public String digestOf(List<TestResultSnapshot> history, List<ProgressSnapshot> progress) {
+        XStream xstream = SerializerRegistry.historyXStream();
+        return Digest.ofTextValue(xstream.toXML(history) + '\n' + xstream.toXML(progress));
+    }
+
+    /**
+     * Save the fingerprints of the pages generated or kept during this run.
+     * Pages that were not produced by this run are dropped from the manifest.
+     */
+    public void save() {
+        Properties properties = new Properties();
+        properties.putAll(fingerprints);
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(new File(outputDirectory, MANIFEST_FILE));
+            properties.store(out, "Report page fingerprints");
+        } catch (IOException e) {
+            LOGGER.warn("Could not save the report manifest: {}", e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+    }
+
+    private void loadFingerprintsFrom(File manifestFile) {
+        Properties properties = new Properties();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(manifestFile);
+            properties.load(in);
+            for (Map.Entry<Object, Object> property : properties.entrySet()) {
+                previousFingerprints.put(property.getKey().toString(), property.getValue().toString());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the report manifest, all pages will be generated: {}", e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+}
@@ -1,40 +1,55 @@
 package net.thucydides.core.reports.html.screenshots;
 
+import com.google.common.util.concurrent.Striped;
 import net.thucydides.core.images.ResizableImage;
 import net.thucydides.core.model.Screenshot;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Class designed to help resize and scale screenshots to a format that is compatible with the Thucydides reports.
+ * The image is decoded and encoded at most once, and only when its canvas actually needs to be expanded.
  */
 public class ScreenshotFormatter {
 
+    /**
+     * Identical screenshots share the same file, so a file is only rewritten by one thread at a time.
+     */
+    private static final Striped<Lock> SCREENSHOT_FILE_LOCKS = Striped.lock(64);
+
     private final Screenshot screenshot;
     private final File sourceDirectory;
     private final boolean shouldKeepOriginalScreenshots;
+    private final ScreenshotMetadataCache metadata;
 
     private ScreenshotFormatter(final Screenshot screenshot,
                                 final File sourceDirectory,
-                                final boolean shouldKeepOriginalScreenshots) {
+                                final boolean shouldKeepOriginalScreenshots,
+                                final ScreenshotMetadataCache metadata) {
         this.screenshot = screenshot;
         this.sourceDirectory = sourceDirectory;
         this.shouldKeepOriginalScreenshots = shouldKeepOriginalScreenshots;
+        this.metadata = metadata;
     }
 
     public static ScreenshotFormatter forScreenshot(final Screenshot screenshot) {
-        return new ScreenshotFormatter(screenshot, null, false);
+        return new ScreenshotFormatter(screenshot, null, false, ScreenshotMetadataCache.inMemory());
     }
 
     public ScreenshotFormatter inDirectory(final File sourceDirectory) {
-        return new ScreenshotFormatter(screenshot, sourceDirectory, shouldKeepOriginalScreenshots);
+        return new ScreenshotFormatter(screenshot, sourceDirectory, shouldKeepOriginalScreenshots, metadata);
     }
 
 
     public ScreenshotFormatter keepOriginals(boolean shouldKeepOriginalScreenshots) {
-        return new ScreenshotFormatter(screenshot, sourceDirectory, shouldKeepOriginalScreenshots);
+        return new ScreenshotFormatter(screenshot, sourceDirectory, shouldKeepOriginalScreenshots, metadata);
+    }
+
+    public ScreenshotFormatter usingMetadataFrom(final ScreenshotMetadataCache metadata) {
+        return new ScreenshotFormatter(screenshot, sourceDirectory, shouldKeepOriginalScreenshots, metadata);
     }
 
     public Screenshot expandToHeight(final int targetHeight) throws IOException {
@@ -51,19 +66,36 @@ public class ScreenshotFormatter {
     }
 
     private File resizedImage(File screenshotFile, int maxHeight) throws IOException {
-        String resizedScreenshotFilename = "scaled_" + screenshotFile.getName();
-        ResizableImage scaledImage = ResizableImage.loadFrom(screenshotFile).rescaleCanvas(maxHeight);
+        Lock lock = SCREENSHOT_FILE_LOCKS.get(screenshotFile.getAbsolutePath());
+        lock.lock();
+        try {
+            ScreenshotMetadataCache.ImageDimensions dimensions = metadata.dimensionsOf(screenshotFile);
+            ResizableImage image = ResizableImage.loadFrom(screenshotFile, dimensions.getWidth(), dimensions.getHeight());
+            ResizableImage scaledImage = image.rescaleCanvas(maxHeight);
+
+            if (shouldKeepOriginalScreenshots) {
+                saveCopyOf(screenshotFile);
+            }
+            if (scaledImage != image) {
+                replaceWithScaledImage(screenshotFile, scaledImage);
+                metadata.update(screenshotFile, scaledImage.getWitdh(), scaledImage.getHeight());
+            }
+            return screenshotFile;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        File scaledFile = new File(sourceDirectory, resizedScreenshotFilename);
+    /**
+     * The scaled image is written to a separate file first, so that a failed write never corrupts the original screenshot.
+     */
+    private void replaceWithScaledImage(File screenshotFile, ResizableImage scaledImage) throws IOException {
+        File scaledFile = new File(sourceDirectory, "scaled_" + screenshotFile.getName());
         scaledImage.saveTo(scaledFile);
-
-        if (shouldKeepOriginalScreenshots) {
-            saveCopyOf(screenshotFile);
+        if (!scaledFile.renameTo(screenshotFile)) {
+            screenshotFile.delete();
+            FileUtils.moveFile(scaledFile, screenshotFile);
         }
-        screenshotFile.delete();
-
-        FileUtils.moveFile(scaledFile, screenshotFile);
-        return screenshotFile;
     }
 
     private void saveCopyOf(File screenshotFile) throws IOException {
@@ -72,4 +104,3 @@ public class ScreenshotFormatter {
     }
 
 }
-
@@ -0,0 +1,150 @@
+package net.thucydides.core.reports.html.screenshots;
+
+import net.thucydides.core.images.SimpleImageInfo;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the dimensions of the screenshots of a test outcome, so that they only need to be read from the
+ * image files once. The dimensions are kept in a properties file stored next to the test outcome reports,
+ * along with the size and modification time of each screenshot so that stale entries are ignored.
+ */
+public class ScreenshotMetadataCache {
+
+    /**
+     * The width and height of a screenshot, in pixels.
+     */
+    public static class ImageDimensions {
+        private final int width;
+        private final int height;
+
+        public ImageDimensions(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+
+    private static final String METADATA_FILE_SUFFIX = ".screenshots.properties";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotMetadataCache.class);
+
+    private final File metadataFile;
+    private final ConcurrentMap<String, String> entries = new ConcurrentHashMap<String, String>();
+    private volatile boolean modified = false;
+
+    private ScreenshotMetadataCache(File metadataFile) {
+        this.metadataFile = metadataFile;
+        if (metadataFile != null && metadataFile.exists()) {
+            loadEntriesFrom(metadataFile);
+        }
+    }
+
+    /**
+     * The cache for the test outcome report with a given name, in the report output directory.
+     */
+    public static ScreenshotMetadataCache forReport(File outputDirectory, String reportName) {
+        return new ScreenshotMetadataCache(new File(outputDirectory, reportName + METADATA_FILE_SUFFIX));
+    }
+
+    /**
+     * A cache that is never saved.
+     */
+    public static ScreenshotMetadataCache inMemory() {
+        return new ScreenshotMetadataCache(null);
+    }
+
+    public ImageDimensions dimensionsOf(File screenshotFile) throws IOException {
+        ImageDimensions cachedDimensions = cachedDimensionsOf(screenshotFile);
+        if (cachedDimensions != null) {
+            return cachedDimensions;
+        }
+        SimpleImageInfo imageInfo = new SimpleImageInfo(screenshotFile);
+        update(screenshotFile, imageInfo.getWidth(), imageInfo.getHeight());
+        return new ImageDimensions(imageInfo.getWidth(), imageInfo.getHeight());
+    }
+
+    /**
+     * Record the new dimensions of a screenshot file that has just been written.
+     */
+    public void update(File screenshotFile, int width, int height) {
+        entries.put(screenshotFile.getName(),
+                    width + "," + height + "," + screenshotFile.length() + "," + screenshotFile.lastModified());
+        modified = true;
+    }
+
+    /**
+     * Write the cached dimensions to the metadata file, if anything has changed since it was read.
+     */
+    public void save() {
+        if (metadataFile == null || !modified) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.putAll(entries);
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(metadataFile);
+            properties.store(out, "Screenshot dimensions");
+            modified = false;
+        } catch (IOException e) {
+            LOGGER.warn("Could not save screenshot metadata to {}: {}", metadataFile, e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+    }
+
+    private ImageDimensions cachedDimensionsOf(File screenshotFile) {
+        String entry = entries.get(screenshotFile.getName());
+        if (entry == null) {
+            return null;
+        }
+        String[] fields = StringUtils.split(entry, ',');
+        try {
+            if (fields.length == 4
+                    && Long.parseLong(fields[2]) == screenshotFile.length()
+                    && Long.parseLong(fields[3]) == screenshotFile.lastModified()) {
+                return new ImageDimensions(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]));
+            }
+        } catch (NumberFormatException e) {
+            LOGGER.debug("Ignoring invalid screenshot metadata for {}: {}", screenshotFile, entry);
+        }
+        return null;
+    }
+
+    private void loadEntriesFrom(File metadataFile) {
+        Properties properties = new Properties();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(metadataFile);
+            properties.load(in);
+            for (Map.Entry<Object, Object> property : properties.entrySet()) {
+                entries.put(property.getKey().toString(), property.getValue().toString());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read screenshot metadata from {}: {}", metadataFile, e.getMessage());
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+}
@@ -5,11 +5,11 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Files;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import net.thucydides.core.model.ReportType;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.AcceptanceTestLoader;
 import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.SerializerRegistry;
 import net.thucydides.core.reports.TestOutcomes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,15 +33,10 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
 
     private transient String qualifier;
 
-    private Gson gson;
+    private final Gson gson;
 
     public JSONTestOutcomeReporter() {
-        GsonBuilder builder = new GsonBuilder();
-        builder.setPrettyPrinting();
-        builder.registerTypeAdapter(TestOutcome.class, new TestOutcomeSerializer());
-        builder.registerTypeAdapter(Class.class, new ClassTypeAdapter());
-        builder.registerTypeAdapter(Throwable.class, new ThrowableClassAdapter());
-        gson = builder.create();
+        gson = SerializerRegistry.testOutcomeGson();
     }
 
     @Override
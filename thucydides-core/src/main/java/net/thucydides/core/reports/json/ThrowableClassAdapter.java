@@ -8,7 +8,7 @@ import com.google.gson.JsonSerializer;
 
 import java.lang.reflect.Type;
 
-class ThrowableClassAdapter implements JsonSerializer<Throwable> {
+public class ThrowableClassAdapter implements JsonSerializer<Throwable> {
 
     @Override
     public JsonElement serialize(Throwable src, Type typeOfSrc,
@@ -0,0 +1,220 @@
+package net.thucydides.core.reports.renderer;
+
+import com.google.common.cache.CacheBuilder;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.digest.Digest;
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.reports.ReportGenerationFailedError;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Attributes;
+import org.asciidoctor.Options;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.asciidoctor.Asciidoctor.Factory.create;
+
+/**
+ * Renders Asciidoc text for all the reports generated in this JVM.
+ * Asciidoctor instances are expensive to start and are not thread-safe, so a small pool of them is shared
+ * between the report generation threads, and created only when no idle instance is available.
+ * Rendered text is kept by content hash, so each narrative is only rendered once, however many pages show it.
+ * Only the most recently used renderings are kept, so that the cache does not grow for the life of the JVM.
+ */
+public class AsciidocRenderingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsciidocRenderingService.class);
+
+    private static final int DEFAULT_MAXIMUM_RENDERERS = 2;
+    private static final long RENDERER_WAIT_IN_MILLISECONDS = 500;
+    private static final int MAXIMUM_CACHED_RENDERINGS = 1000;
+
+    private static AsciidocRenderingService sharedService;
+
+    private final int maximumRenderers;
+    private final BlockingQueue<Asciidoctor> idleRenderers = new LinkedBlockingQueue<Asciidoctor>();
+    private final AtomicInteger createdRenderers = new AtomicInteger(0);
+    private final AtomicInteger renderCount = new AtomicInteger(0);
+    private final AtomicBoolean warmingUp = new AtomicBoolean(false);
+    private final ConcurrentMap<String, Future<String>> renderedText
+            = CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_RENDERINGS).<String, Future<String>>build().asMap();
+    private final Options options = defaultOptions();
+
+    public static synchronized AsciidocRenderingService getSharedService() {
+        if (sharedService == null) {
+            EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+            sharedService = new AsciidocRenderingService(environmentVariables);
+        }
+        return sharedService;
+    }
+
+    public AsciidocRenderingService(final EnvironmentVariables environmentVariables) {
+        this(environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_ASCIIDOC_RENDERERS,
+                                                       DEFAULT_MAXIMUM_RENDERERS));
+    }
+
+    protected AsciidocRenderingService(final int maximumRenderers) {
+        this.maximumRenderers = Math.max(maximumRenderers, 1);
+    }
+
+    /**
+     * Start the first Asciidoctor instance in a background thread, so that it is ready by the time
+     * the first narrative needs to be rendered. Only the first call has any effect.
+     */
+    public void warmUp() {
+        if (warmingUp.compareAndSet(false, true)) {
+            Thread warmUpThread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        releaseRenderer(acquireRenderer());
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Could not start the Asciidoc renderer in the background", e);
+                    }
+                }
+            }, "thucydides-asciidoc-warm-up");
+            warmUpThread.setDaemon(true);
+            warmUpThread.start();
+        }
+    }
+
+    /**
+     * Render the Asciidoc text as HTML. If the same text has already been rendered, or is being rendered
+     * by another thread, the same result is returned without rendering it again.
+     */
+    public String render(final String asciidocText) {
+        String key = Digest.ofTextValue(asciidocText);
+        Future<String> rendering = renderedText.get(key);
+        if (rendering == null) {
+            FutureTask<String> newRendering = new FutureTask<String>(new Callable<String>() {
+                public String call() {
+                    return renderWithPooledRenderer(asciidocText);
+                }
+            });
+            rendering = renderedText.putIfAbsent(key, newRendering);
+            if (rendering == null) {
+                rendering = newRendering;
+                newRendering.run();
+            }
+        }
+        return renderedTextFrom(key, rendering);
+    }
+
+    /**
+     * The number of times text has actually been rendered by Asciidoctor, rather than read from the cache.
+     */
+    public int getRenderCount() {
+        return renderCount.get();
+    }
+
+    private String renderedTextFrom(final String key, final Future<String> rendering) {
+        try {
+            return rendering.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportGenerationFailedError("Interrupted while rendering Asciidoc text", e);
+        } catch (ExecutionException e) {
+            renderedText.remove(key, rendering);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ReportGenerationFailedError("Could not render Asciidoc text", cause);
+        }
+    }
+
+    protected String renderWithPooledRenderer(final String asciidocText) {
+        Asciidoctor asciidoctor = acquireRenderer();
+        try {
+            renderCount.incrementAndGet();
+            return asciidoctor.render(asciidocText, options);
+        } finally {
+            releaseRenderer(asciidoctor);
+        }
+    }
+
+    /**
+     * Use an idle renderer if there is one, or start a new one if the pool is not full yet.
+     * Otherwise wait for another thread to release one, checking again from time to time in case
+     * a renderer that was being started failed to start.
+     */
+    private Asciidoctor acquireRenderer() {
+        while (true) {
+            Asciidoctor asciidoctor = idleRenderers.poll();
+            if (asciidoctor != null) {
+                return asciidoctor;
+            }
+            if (reserveNewRenderer()) {
+                return startReservedRenderer();
+            }
+            asciidoctor = waitForIdleRenderer();
+            if (asciidoctor != null) {
+                return asciidoctor;
+            }
+        }
+    }
+
+    private Asciidoctor startReservedRenderer() {
+        try {
+            return newRenderer();
+        } catch (RuntimeException e) {
+            createdRenderers.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private Asciidoctor waitForIdleRenderer() {
+        try {
+            return idleRenderers.poll(RENDERER_WAIT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportGenerationFailedError("Interrupted while waiting for an Asciidoc renderer", e);
+        }
+    }
+
+    private boolean reserveNewRenderer() {
+        while (true) {
+            int created = createdRenderers.get();
+            if (created >= maximumRenderers) {
+                return false;
+            }
+            if (createdRenderers.compareAndSet(created, created + 1)) {
+                return true;
+            }
+        }
+    }
+
+    protected Asciidoctor newRenderer() {
+        return create();
+    }
+
+    private void releaseRenderer(final Asciidoctor asciidoctor) {
+        idleRenderers.offer(asciidoctor);
+    }
+
+    private static Options defaultOptions() {
+        Options options = new Options();
+        options.setCompact(true);
+        options.setDocType("inline");
+
+        Attributes attributes = new Attributes();
+        attributes.setExperimental(true);
+        attributes.setDataUri(true);
+
+        options.setAttributes(attributes);
+
+        return options;
+    }
+}
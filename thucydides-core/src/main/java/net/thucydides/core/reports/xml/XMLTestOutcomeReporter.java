@@ -8,6 +8,7 @@ import com.thoughtworks.xstream.mapper.CannotResolveClassException;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.AcceptanceTestLoader;
 import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.SerializerRegistry;
 import net.thucydides.core.reports.TestOutcomes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,9 +60,7 @@ public class XMLTestOutcomeReporter implements AcceptanceTestReporter, Acceptanc
     public File generateReportFor(final TestOutcome testOutcome, final TestOutcomes allTestOutcomes) throws IOException {
         TestOutcome storedTestOutcome = testOutcome.withQualifier(qualifier);
         Preconditions.checkNotNull(outputDirectory);
-        XStream xstream = new XStream();
-        xstream.alias("acceptance-test-run", TestOutcome.class);
-        xstream.registerConverter(usingXmlConverter());
+        XStream xstream = SerializerRegistry.testOutcomeXStream();
 
         String reportFilename = reportFor(storedTestOutcome);
         LOGGER.debug("Generating XML report for {} to file {}", testOutcome.getTitle(), storedTestOutcome);
@@ -84,10 +83,6 @@ public class XMLTestOutcomeReporter implements AcceptanceTestReporter, Acceptanc
         return report;
     }
 
-    private TestOutcomeConverter usingXmlConverter() {
-        return new TestOutcomeConverter();
-    }
-
     private String reportFor(final TestOutcome testOutcome) {
         return testOutcome.withQualifier(qualifier).getReportName(XML);
     }
@@ -96,9 +91,7 @@ public class XMLTestOutcomeReporter implements AcceptanceTestReporter, Acceptanc
         InputStream input = null;
         InputStreamReader reader = null;
         try {
-            XStream xstream = new XStream();
-            xstream.alias("acceptance-test-run", TestOutcome.class);
-            xstream.registerConverter(usingXmlConverter());
+            XStream xstream = SerializerRegistry.testOutcomeXStream();
             input = new FileInputStream(reportFile);
             reader = new InputStreamReader(input, Charset.forName("UTF-8"));
             return Optional.of((TestOutcome) xstream.fromXML(reader));
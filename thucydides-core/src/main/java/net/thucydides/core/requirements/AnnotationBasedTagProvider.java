@@ -49,6 +49,8 @@ public class AnnotationBasedTagProvider extends AbstractRequirementsTagProvider
     private final String rootPackage;
 
     private List<Requirement> leafRequirements;
+    private final RequirementTagCache tagCache = new RequirementTagCache();
+    private volatile List<RequirementPathMatcher> requirementPathMatchers;
     SortedMap<String, Requirement> requirementsByPath = Maps.newTreeMap();
     Map<Requirement, String> requirementPaths = Maps.newHashMap();
 
@@ -69,22 +71,45 @@ public class AnnotationBasedTagProvider extends AbstractRequirementsTagProvider
     }
 
     @Override
-    public Set<TestTag> getTagsFor(TestOutcome testOutcome) {
+    public Set<TestTag> getTagsFor(final TestOutcome testOutcome) {
+        String storyPath = testOutcome.getPathId() + ";" + testOutcome.getPath();
+        return tagCache.tagsFor(storyPath, new RequirementTagCache.TagResolver() {
+            public Set<TestTag> resolveTags() {
+                return resolveTagsFor(testOutcome);
+            }
+        });
+    }
+
+    private Set<TestTag> resolveTagsFor(TestOutcome testOutcome) {
+        String normalizedPathId = normalizedPath(testOutcome.getPathId());
+        String normalizedPath = normalizedPath(testOutcome.getPath());
         Set<TestTag> result = new HashSet<TestTag>();
-        for (Requirement requirement : getAllRequirements()) {
-            if (isMatchingRequirementFor(testOutcome, requirement)) {
-                result.add(TestTag.withName(humanReadableVersionOf(requirement.getName())).andType(requirement.getType()));
+        for (RequirementPathMatcher requirementPath : getRequirementPathMatchers()) {
+            if (requirementPath.matchesOrIsADescendantOf(normalizedPathId)
+                    || requirementPath.matchesOrIsADescendantOf(normalizedPath)) {
+                result.add(requirementPath.getTag());
             }
         }
         return result;
     }
 
-    private boolean isMatchingRequirementFor(TestOutcome testOutcome, Requirement requirement) {
-        return (fullPathOf(requirement).matchesOrIsADescendantOf(normalizedPath(testOutcome.getPathId())))
-                || (fullPathOf(requirement).matchesOrIsADescendantOf(normalizedPath(testOutcome.getPath())));
+    private List<RequirementPathMatcher> getRequirementPathMatchers() {
+        List<RequirementPathMatcher> matchers = requirementPathMatchers;
+        if (matchers == null) {
+            List<RequirementPathMatcher> newMatchers = Lists.newArrayList();
+            for (Requirement requirement : getAllRequirements()) {
+                newMatchers.add(new RequirementPathMatcher(requirement));
+            }
+            matchers = ImmutableList.copyOf(newMatchers);
+            requirementPathMatchers = matchers;
+        }
+        return matchers;
     }
 
     private String normalizedPath(String path) {
+        if (path == null) {
+            return null;
+        }
         path = path.replaceAll("/",".");
         for(String supportedSuffix: SUPPORTED_SUFFIXES) {
             if (path.endsWith("." + supportedSuffix)) {
@@ -97,11 +122,6 @@ public class AnnotationBasedTagProvider extends AbstractRequirementsTagProvider
         return path;
     }
 
-
-    private RequirementPathMatcher fullPathOf(Requirement requirement) {
-        return new RequirementPathMatcher(requirement);
-    }
-
     @Override
     public List<Requirement> getRequirements() {
         if (requirements == null) {
@@ -353,10 +373,16 @@ public class AnnotationBasedTagProvider extends AbstractRequirementsTagProvider
     }
 
     private class RequirementPathMatcher {
-        String requirementPath;
+        private final String requirementPath;
+        private final TestTag tag;
 
         public RequirementPathMatcher(Requirement requirement) {
             requirementPath = rootPackage + "." + requirementPaths.get(requirement);
+            tag = TestTag.withName(humanReadableVersionOf(requirement.getName())).andType(requirement.getType());
+        }
+
+        public TestTag getTag() {
+            return tag;
         }
 
         public boolean matchesOrIsADescendantOf(String path) {
@@ -23,8 +23,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static ch.lambdaj.Lambda.convert;
@@ -52,6 +54,8 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 
 //    @Transient
     private List<Requirement> requirements;
+    private final RequirementTagCache tagCache = new RequirementTagCache();
+    private volatile Map<String, Requirement> requirementsByTag;
 
     public FileSystemRequirementsTagProvider() {
         this(getDefaultRootDirectoryPathFrom(Injectors.getInjector().getInstance(EnvironmentVariables.class)));
@@ -186,13 +190,24 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     public Set<TestTag> getTagsFor(final TestOutcome testOutcome) {
-        Set<TestTag> tags = new HashSet<TestTag>();
-        if (testOutcome.getPath() != null) {
-            List<String> storyPathElements = stripRootFrom(pathElements(stripRootPathFrom(testOutcome.getPath())));
-            addStoryTagIfPresent(tags, storyPathElements);
-            storyPathElements = stripStorySuffixFrom(storyPathElements);
-            tags.addAll(getMatchingCapabilities(getRequirements(), storyPathElements));
+        if (testOutcome.getPath() == null) {
+            return new HashSet<TestTag>();
         }
+        final String path = testOutcome.getPath();
+        String testRoot = ThucydidesSystemProperty.THUCYDIDES_TEST_ROOT.from(environmentVariables);
+        return tagCache.tagsFor(testRoot + ";" + path, new RequirementTagCache.TagResolver() {
+            public Set<TestTag> resolveTags() {
+                return resolveTagsFor(path);
+            }
+        });
+    }
+
+    private Set<TestTag> resolveTagsFor(String path) {
+        Set<TestTag> tags = new HashSet<TestTag>();
+        List<String> storyPathElements = stripRootFrom(pathElements(stripRootPathFrom(path)));
+        addStoryTagIfPresent(tags, storyPathElements);
+        storyPathElements = stripStorySuffixFrom(storyPathElements);
+        tags.addAll(getMatchingCapabilities(getRequirements(), storyPathElements));
         return tags;
     }
 
@@ -262,12 +277,30 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     public Optional<Requirement> getRequirementFor(TestTag testTag) {
-        for(Requirement requirement : getFlattenedRequirements()) {
-            if (requirement.getName().equalsIgnoreCase(testTag.getName()) && requirement.getType().equalsIgnoreCase(testTag.getType())) {
-                return Optional.of(requirement);
+        return Optional.fromNullable(getRequirementsByTag().get(requirementKeyFor(testTag.getType(), testTag.getName())));
+    }
+
+    /**
+     * Requirements indexed by type and name, ignoring case. Where several requirements share the same type and name,
+     * the first one in the requirements tree is used.
+     */
+    private Map<String, Requirement> getRequirementsByTag() {
+        Map<String, Requirement> index = requirementsByTag;
+        if (index == null) {
+            index = new HashMap<String, Requirement>();
+            for (Requirement requirement : getFlattenedRequirements()) {
+                String key = requirementKeyFor(requirement.getType(), requirement.getName());
+                if (!index.containsKey(key)) {
+                    index.put(key, requirement);
+                }
             }
+            requirementsByTag = index;
         }
-        return Optional.absent();
+        return index;
+    }
+
+    private String requirementKeyFor(String type, String name) {
+        return type.toLowerCase() + ":" + name.toLowerCase();
     }
 
     private List<Requirement> getFlattenedRequirements() {
@@ -355,8 +388,8 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private Optional<Requirement> findMatchingRequirementIn(String storyPathElement, List<Requirement> requirements) {
+        String normalizedStoryPathElement = Inflector.getInstance().humanize(Inflector.getInstance().underscore(storyPathElement));
         for (Requirement requirement : requirements) {
-            String normalizedStoryPathElement = Inflector.getInstance().humanize(Inflector.getInstance().underscore(storyPathElement));
             if (requirement.getName().equals(normalizedStoryPathElement)) {
                 return Optional.of(requirement);
             }
@@ -0,0 +1,43 @@
+package net.thucydides.core.requirements;
+
+import com.google.common.collect.ImmutableSet;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.statistics.service.TagResolutionStatistics;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the requirement tags worked out for a given test outcome path.
+ * Requirement tag providers only look at the path and story of a test outcome, so every outcome
+ * from the same story gets the same tags, and the requirement tree only needs to be searched once per story.
+ */
+class RequirementTagCache {
+
+    /**
+     * Works out the tags for a path that is not in the cache yet.
+     */
+    interface TagResolver {
+        Set<TestTag> resolveTags();
+    }
+
+    private final ConcurrentMap<String, Set<TestTag>> tagsByPath = new ConcurrentHashMap<String, Set<TestTag>>();
+
+    Set<TestTag> tagsFor(String path, TagResolver resolver) {
+        Set<TestTag> tags = tagsByPath.get(path);
+        if (tags == null) {
+            TagResolutionStatistics.recordCacheMiss();
+            tags = ImmutableSet.copyOf(resolver.resolveTags());
+            tagsByPath.putIfAbsent(path, tags);
+        } else {
+            TagResolutionStatistics.recordCacheHit();
+        }
+        return new HashSet<TestTag>(tags);
+    }
+
+    void clear() {
+        tagsByPath.clear();
+    }
+}
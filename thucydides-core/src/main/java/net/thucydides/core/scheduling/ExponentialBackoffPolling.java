@@ -0,0 +1,24 @@
+package net.thucydides.core.scheduling;
+
+/**
+ * Start polling with a short interval and double it after each poll, until the configured polling interval
+ * is reached. Conditions that become true quickly (as most do) are detected within a few milliseconds,
+ * while slow conditions are polled no more often than with a fixed interval.
+ */
+public class ExponentialBackoffPolling implements PollingStrategy {
+
+    private final long initialInterval;
+
+    public ExponentialBackoffPolling(long initialInterval) {
+        this.initialInterval = Math.max(initialInterval, 1);
+    }
+
+    @Override
+    public long intervalBeforePoll(int pollNumber, long maximumInterval) {
+        long interval = initialInterval;
+        for (int poll = 1; (poll < pollNumber) && (interval < maximumInterval); poll++) {
+            interval = interval * 2;
+        }
+        return Math.min(interval, maximumInterval);
+    }
+}
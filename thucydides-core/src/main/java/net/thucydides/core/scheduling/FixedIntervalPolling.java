@@ -0,0 +1,12 @@
+package net.thucydides.core.scheduling;
+
+/**
+ * Always wait for the configured polling interval between two polls.
+ */
+public class FixedIntervalPolling implements PollingStrategy {
+
+    @Override
+    public long intervalBeforePoll(int pollNumber, long maximumInterval) {
+        return maximumInterval;
+    }
+}
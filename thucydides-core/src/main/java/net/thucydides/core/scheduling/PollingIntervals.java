@@ -0,0 +1,58 @@
+package net.thucydides.core.scheduling;
+
+/**
+ * Works out the successive intervals for a single wait, using a given polling strategy.
+ * Create a new instance for each wait. The time saved compared to polling at a fixed interval is
+ * recorded in the PollingStatistics as the wait progresses.
+ */
+public class PollingIntervals {
+
+    private final PollingStrategy pollingStrategy;
+
+    private int pollNumber = 0;
+    private long totalWaitTime = 0;
+    private long estimatedTimeSaved = 0;
+
+    public PollingIntervals(PollingStrategy pollingStrategy) {
+        this.pollingStrategy = pollingStrategy;
+    }
+
+    /**
+     * @param maximumInterval The polling interval configured for this wait, in milliseconds.
+     * @return How long to wait before the next poll, in milliseconds.
+     */
+    public long nextInterval(long maximumInterval) {
+        pollNumber++;
+        long interval = pollingStrategy.intervalBeforePoll(pollNumber, maximumInterval);
+        totalWaitTime += interval;
+        updateEstimatedTimeSaved(maximumInterval);
+        PollingStatistics.recordPoll(interval);
+        return interval;
+    }
+
+    /**
+     * Polling at a fixed interval, the condition would have been detected at the first multiple
+     * of the interval following the time already spent waiting.
+     */
+    private void updateEstimatedTimeSaved(long maximumInterval) {
+        if (maximumInterval <= 0) {
+            return;
+        }
+        long fixedIntervalWaitTime = ((totalWaitTime + maximumInterval - 1) / maximumInterval) * maximumInterval;
+        long newEstimatedTimeSaved = fixedIntervalWaitTime - totalWaitTime;
+        PollingStatistics.recordTimeSaved(newEstimatedTimeSaved - estimatedTimeSaved);
+        estimatedTimeSaved = newEstimatedTimeSaved;
+    }
+
+    public int getPollCount() {
+        return pollNumber;
+    }
+
+    public long getTotalWaitTime() {
+        return totalWaitTime;
+    }
+
+    public long getEstimatedTimeSaved() {
+        return estimatedTimeSaved;
+    }
+}
@@ -0,0 +1,32 @@
+package net.thucydides.core.scheduling;
+
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A WebDriver Sleeper that applies a polling strategy to the intervals requested by a wait.
+ * The requested interval is used as the maximum interval, so fluent waits can use this sleeper unchanged.
+ * Create a new sleeper for each wait.
+ */
+public class PollingSleeper implements Sleeper {
+
+    private final PollingIntervals pollingIntervals;
+    private final Sleeper sleeper;
+
+    public PollingSleeper(PollingStrategy pollingStrategy) {
+        this(pollingStrategy, Sleeper.SYSTEM_SLEEPER);
+    }
+
+    public PollingSleeper(PollingStrategy pollingStrategy, Sleeper sleeper) {
+        this.pollingIntervals = new PollingIntervals(pollingStrategy);
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+        long interval = pollingIntervals.nextInterval(duration.in(MILLISECONDS));
+        sleeper.sleep(new Duration(interval, MILLISECONDS));
+    }
+}
@@ -0,0 +1,41 @@
+package net.thucydides.core.scheduling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the time spent polling for conditions across all threads, and of the time saved
+ * by the polling strategy compared to polling at fixed intervals.
+ */
+public class PollingStatistics {
+
+    private static final AtomicLong pollCount = new AtomicLong();
+    private static final AtomicLong totalPollingTime = new AtomicLong();
+    private static final AtomicLong estimatedTimeSaved = new AtomicLong();
+
+    static void recordPoll(long interval) {
+        pollCount.incrementAndGet();
+        totalPollingTime.addAndGet(interval);
+    }
+
+    static void recordTimeSaved(long timeSaved) {
+        estimatedTimeSaved.addAndGet(timeSaved);
+    }
+
+    public static long getPollCount() {
+        return pollCount.get();
+    }
+
+    public static long getTotalPollingTime() {
+        return totalPollingTime.get();
+    }
+
+    public static long getEstimatedTimeSaved() {
+        return estimatedTimeSaved.get();
+    }
+
+    public static void reset() {
+        pollCount.set(0);
+        totalPollingTime.set(0);
+        estimatedTimeSaved.set(0);
+    }
+}
@@ -0,0 +1,27 @@
+package net.thucydides.core.scheduling;
+
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+
+/**
+ * Find the polling strategy configured using the thucydides.polling.strategy property:
+ * "fixed" (the default) polls at the configured interval, "backoff" starts with a short interval
+ * (thucydides.polling.initial.interval milliseconds, 10 by default) and doubles it after each poll.
+ */
+public class PollingStrategies {
+
+    public static final String FIXED = "fixed";
+    public static final String BACKOFF = "backoff";
+
+    private static final int DEFAULT_INITIAL_INTERVAL = 10;
+
+    public static PollingStrategy definedIn(EnvironmentVariables environmentVariables) {
+        String strategy = ThucydidesSystemProperty.THUCYDIDES_POLLING_STRATEGY.from(environmentVariables, FIXED);
+        if (strategy.trim().equalsIgnoreCase(BACKOFF)) {
+            int initialInterval = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_POLLING_INITIAL_INTERVAL,
+                                                                            DEFAULT_INITIAL_INTERVAL);
+            return new ExponentialBackoffPolling(initialInterval);
+        }
+        return new FixedIntervalPolling();
+    }
+}
@@ -0,0 +1,15 @@
+package net.thucydides.core.scheduling;
+
+/**
+ * Decides how long to wait between two checks of a condition that is being polled.
+ */
+public interface PollingStrategy {
+
+    /**
+     * @param pollNumber Which poll is about to happen - 1 for the first poll after the initial check.
+     * @param maximumInterval The polling interval configured for this wait, in milliseconds.
+     *                        A strategy should never wait longer than this between two polls.
+     * @return How long to wait before the next poll, in milliseconds.
+     */
+    long intervalBeforePoll(int pollNumber, long maximumInterval);
+}
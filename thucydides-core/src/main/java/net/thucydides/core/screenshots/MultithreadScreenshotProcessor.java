@@ -0,0 +1,115 @@
+package net.thucydides.core.screenshots;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Processes queued screenshots on a bounded pool of worker threads.
+ * When the work queue is full, the thread queuing the screenshot processes it itself,
+ * which stops fast-running tests from piling up an unbounded backlog of images in memory.
+ */
+public class MultithreadScreenshotProcessor implements ScreenshotProcessor {
+
+    private static final int QUEUE_SIZE_PER_THREAD = 16;
+
+    private final QueuedScreenshotSaver saver;
+    private final ExecutorService executorService;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition allScreenshotsProcessed = lock.newCondition();
+    private int pendingScreenshots = 0;
+
+    @Inject
+    public MultithreadScreenshotProcessor(EnvironmentVariables environmentVariables) {
+        this(environmentVariables, threadCountDefinedIn(environmentVariables));
+    }
+
+    public MultithreadScreenshotProcessor(EnvironmentVariables environmentVariables, int threadCount) {
+        this.saver = new QueuedScreenshotSaver(environmentVariables);
+        this.executorService = new ThreadPoolExecutor(threadCount, threadCount,
+                                                      0L, TimeUnit.MILLISECONDS,
+                                                      new ArrayBlockingQueue<Runnable>(threadCount * QUEUE_SIZE_PER_THREAD),
+                                                      new ThreadFactoryBuilder()
+                                                              .setNameFormat("thucydides-screenshots-%d")
+                                                              .setDaemon(true)
+                                                              .build(),
+                                                      new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static int threadCountDefinedIn(EnvironmentVariables environmentVariables) {
+        int threadCount = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_PROCESSOR_THREADS,
+                                                                    Runtime.getRuntime().availableProcessors());
+        return Math.max(threadCount, 1);
+    }
+
+    public void queueScreenshot(final QueuedScreenshot queuedScreenshot) {
+        screenshotQueued();
+        try {
+            executorService.execute(new Runnable() {
+                public void run() {
+                    try {
+                        saver.save(queuedScreenshot);
+                    } finally {
+                        screenshotProcessed();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            screenshotProcessed();
+            throw e;
+        }
+    }
+
+    public void waitUntilDone() {
+        lock.lock();
+        try {
+            while (pendingScreenshots > 0) {
+                allScreenshotsProcessed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return pendingScreenshots == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void screenshotQueued() {
+        lock.lock();
+        try {
+            pendingScreenshots++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void screenshotProcessed() {
+        lock.lock();
+        try {
+            pendingScreenshots--;
+            if (pendingScreenshots == 0) {
+                allScreenshotsProcessed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
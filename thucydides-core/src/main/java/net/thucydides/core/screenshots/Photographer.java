@@ -44,6 +44,7 @@ public class Photographer {
     private final Logger logger = LoggerFactory.getLogger(Photographer.class);
     private ScreenshotProcessor screenshotProcessor;
     private EnvironmentVariables environmentVariables;
+    private final ScreenshotDigests screenshotDigests;
 
     protected Logger getLogger() {
         return logger;
@@ -86,6 +87,11 @@ public class Photographer {
         this.screenshotSequence = DEFAULT_SCREENSHOT_SEQUENCE;
         this.blurLevel = Optional.fromNullable(blurLevel);
         this.environmentVariables = environmentVariables;
+        this.screenshotDigests = ScreenshotDigests.forDirectory(targetDirectory);
+    }
+
+    public ScreenshotDigests getScreenshotDigests() {
+        return screenshotDigests;
     }
 
     public Optional<BlurLevel> getBlurLevel() {
@@ -118,8 +124,21 @@ public class Photographer {
                     screenshotFile = blur(screenshotFile);
                 }
                 if (screenshotFile != null) {
-                    File savedScreenshot = targetScreenshot(prefix);
-                    screenshotProcessor.queueScreenshot(new QueuedScreenshot(screenshotFile, savedScreenshot));
+                    final File savedScreenshot = targetScreenshot(prefix);
+                    Optional<String> digest = digestOf(screenshotFile);
+                    if (digest.isPresent()) {
+                        File storedScreenshot = screenshotDigests.store(digest.get(), savedScreenshot);
+                        if (!storedScreenshot.equals(savedScreenshot)) {
+                            screenshotFile.delete();
+                            return Optional.of(storedScreenshot);
+                        }
+                    }
+                    screenshotProcessor.queueScreenshot(new QueuedScreenshot(screenshotFile, savedScreenshot) {
+                        @Override
+                        public void processed() {
+                            screenshotDigests.screenshotProcessed(savedScreenshot);
+                        }
+                    });
 
                     if (!blurLevel.isPresent() && shouldSavePageSource()) {
                         savePageSourceFor(savedScreenshot.getAbsolutePath());
@@ -134,6 +153,15 @@ public class Photographer {
         return Optional.absent();
     }
 
+    private Optional<String> digestOf(File screenshotFile) {
+        try {
+            return Optional.of(Digest.ofFile(screenshotFile));
+        } catch (IOException e) {
+            getLogger().warn("Could not read the screenshot to check for duplicates: " + e.getMessage());
+            return Optional.absent();
+        }
+    }
+
     private boolean shouldSavePageSource() {
         return environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.THUCYDIDES_STORE_HTML_SOURCE, false);
     }
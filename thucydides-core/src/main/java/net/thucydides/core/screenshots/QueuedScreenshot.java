@@ -19,4 +19,10 @@ public class QueuedScreenshot {
     public File getSourceFile() {
         return sourceFilename;
     }
+
+    /**
+     * Called once the screenshot processor has tried to save the screenshot, whether or not it succeeded.
+     */
+    public void processed() {
+    }
 }
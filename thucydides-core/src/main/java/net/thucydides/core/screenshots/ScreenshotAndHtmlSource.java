@@ -18,16 +18,30 @@ public class ScreenshotAndHtmlSource {
     private final File screenshot;
     private final File sourcecode;
 
+    /**
+     * Digest of the screenshot contents, worked out when the screenshot was taken.
+     * Not stored in the reports, so it is unknown for screenshots loaded from a report.
+     */
+    private final transient String digest;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotAndHtmlSource.class);
 
     public ScreenshotAndHtmlSource(File screenshot, File sourcecode) {
-        this.screenshot = screenshot;
-        this.sourcecode = sourcecode;
+        this(screenshot, sourcecode, null);
     }
 
     public ScreenshotAndHtmlSource(File screenshot) {
+        this(screenshot, null, null);
+    }
+
+    public ScreenshotAndHtmlSource(File screenshot, File sourcecode, String digest) {
         this.screenshot = screenshot;
-        this.sourcecode = null;
+        this.sourcecode = sourcecode;
+        this.digest = digest;
+    }
+
+    public Optional<String> getDigest() {
+        return Optional.fromNullable(digest);
     }
 
     public File getScreenshotFile() {
@@ -72,6 +86,12 @@ public class ScreenshotAndHtmlSource {
         if (hasNoScreenshot() || anotherScreenshotAndHtmlSource.hasNoScreenshot()) {
             return false;
         }
+        if (getDigest().isPresent() && anotherScreenshotAndHtmlSource.getDigest().isPresent()) {
+            return getDigest().get().equals(anotherScreenshotAndHtmlSource.getDigest().get());
+        }
+        if (getScreenshotFile().getName().equals(anotherScreenshotAndHtmlSource.getScreenshotFile().getName())) {
+            return true;
+        }
         try {
             File screenshotTargetDirectory = new File(getScreenshotFile().getParent());
             return (checksumCRC32(getScreenshotFile(screenshotTargetDirectory))
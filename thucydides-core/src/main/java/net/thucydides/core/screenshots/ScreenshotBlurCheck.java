@@ -1,10 +1,7 @@
 package net.thucydides.core.screenshots;
 
 import com.google.common.base.Optional;
-import net.thucydides.core.annotations.BlurScreenshots;
-import net.thucydides.core.reflection.StackTraceAnalyser;
-
-import java.lang.reflect.Method;
+import net.thucydides.core.steps.StepEventBus;
 
 public class ScreenshotBlurCheck {
 
@@ -14,13 +11,10 @@ public class ScreenshotBlurCheck {
     }
 
     private Optional<BlurLevel> fromAnnotation() {
-        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
-        for (StackTraceElement stackTraceElement : stackTrace) {
-            Method callingMethod = StackTraceAnalyser.forStackTraceElement(stackTraceElement).getMethod();
-            if (callingMethod != null && callingMethod.getAnnotation(BlurScreenshots.class) != null) {
-                return Optional.of(BlurLevel.valueOf(callingMethod.getAnnotation(BlurScreenshots.class).value().toUpperCase()));
-            }
+        Optional<ScreenshotPolicy> stepPolicy = StepEventBus.getEventBus().getCurrentScreenshotPolicy();
+        if (stepPolicy.isPresent()) {
+            return stepPolicy.get().getBlurLevel();
         }
-        return Optional.absent();
+        return ScreenshotPolicy.fromCallingMethods().getBlurLevel();
     }
 }
@@ -0,0 +1,119 @@
+package net.thucydides.core.screenshots;
+
+import com.google.common.base.Optional;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps track of the screenshots stored in an output directory, indexed by the digest of their contents.
+ * The first screenshot with a given content is stored under its own name; later screenshots with exactly
+ * the same content reuse the stored file instead of being written again, as long as the stored file is
+ * still waiting to be written, or has been written and is still there.
+ * There is one registry per output directory, shared by all the tests in the run, and the registries are
+ * cleared when the run finishes.
+ */
+public class ScreenshotDigests {
+
+    private static final ConcurrentMap<File, ScreenshotDigests> DIGESTS_BY_DIRECTORY
+            = new ConcurrentHashMap<File, ScreenshotDigests>();
+
+    private static volatile boolean shutdownHookRegistered = false;
+
+    private final File screenshotDirectory;
+    private final Map<String, File> storedScreenshots = new HashMap<String, File>();
+    private final Map<File, String> digests = new HashMap<File, String>();
+    private final Set<File> pendingScreenshots = new HashSet<File>();
+
+    ScreenshotDigests(final File screenshotDirectory) {
+        this.screenshotDirectory = screenshotDirectory.getAbsoluteFile();
+    }
+
+    /**
+     * The registry of the screenshots stored in a given output directory during this run.
+     */
+    public static ScreenshotDigests forDirectory(final File screenshotDirectory) {
+        File directory = screenshotDirectory.getAbsoluteFile();
+        ScreenshotDigests screenshotDigests = DIGESTS_BY_DIRECTORY.get(directory);
+        if (screenshotDigests == null) {
+            registerShutdownHookIfNeeded();
+            DIGESTS_BY_DIRECTORY.putIfAbsent(directory, new ScreenshotDigests(directory));
+            screenshotDigests = DIGESTS_BY_DIRECTORY.get(directory);
+        }
+        return screenshotDigests;
+    }
+
+    /**
+     * Forget the screenshots stored in every output directory, so that a new run starts with empty registries.
+     */
+    public static void clearAll() {
+        DIGESTS_BY_DIRECTORY.clear();
+    }
+
+    private static void registerShutdownHookIfNeeded() {
+        if (!shutdownHookRegistered) {
+            synchronized (ScreenshotDigests.class) {
+                if (!shutdownHookRegistered) {
+                    Runtime.getRuntime().addShutdownHook(new Thread("thucydides-screenshot-digests-shutdown") {
+                        @Override
+                        public void run() {
+                            clearAll();
+                        }
+                    });
+                    shutdownHookRegistered = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Record a new screenshot, unless a screenshot with the same content has already been stored.
+     * A newly recorded screenshot is pending until {@link #screenshotProcessed(File)} is called for it.
+     * Screenshots saved in other directories are never shared.
+     *
+     * @return the screenshot file to use: either the new screenshot file, or the one that was stored previously.
+     */
+    public synchronized File store(String digest, File screenshot) {
+        if (!screenshotDirectory.equals(screenshot.getAbsoluteFile().getParentFile())) {
+            return screenshot;
+        }
+        File storedScreenshot = storedScreenshots.get(digest);
+        if ((storedScreenshot != null) && isAvailable(storedScreenshot)) {
+            return storedScreenshot;
+        }
+        if (storedScreenshot != null) {
+            digests.remove(storedScreenshot);
+        }
+        storedScreenshots.put(digest, screenshot);
+        digests.put(screenshot, digest);
+        pendingScreenshots.add(screenshot);
+        return screenshot;
+    }
+
+    /**
+     * Called once the screenshot processor has tried to write a screenshot, whether or not it succeeded.
+     */
+    public synchronized void screenshotProcessed(File screenshot) {
+        pendingScreenshots.remove(screenshot);
+    }
+
+    /**
+     * A stored screenshot can be reused while it is waiting to be written, or once it has been written.
+     * A screenshot that is missing after it was processed could not be saved, or was deleted.
+     */
+    private boolean isAvailable(File storedScreenshot) {
+        return pendingScreenshots.contains(storedScreenshot) || storedScreenshot.exists();
+    }
+
+    /**
+     * @return the digest worked out when the screenshot was taken, if it was taken during this run.
+     */
+    public synchronized Optional<String> digestOf(File screenshot) {
+        return Optional.fromNullable(digests.get(screenshot));
+    }
+}
@@ -0,0 +1,113 @@
+package net.thucydides.core.screenshots;
+
+import com.google.common.base.Optional;
+import net.thucydides.core.annotations.BlurScreenshots;
+import net.thucydides.core.annotations.Screenshots;
+import net.thucydides.core.model.TakeScreenshots;
+import net.thucydides.core.reflection.StackTraceAnalyser;
+
+import java.lang.reflect.Method;
+
+/**
+ * The screenshot level and blur level requested through the @Screenshots and @BlurScreenshots annotations.
+ * A policy is worked out once when a step method is entered, and nested steps inherit the values
+ * their own annotations do not override.
+ */
+public class ScreenshotPolicy {
+
+    public static final ScreenshotPolicy NONE
+            = new ScreenshotPolicy(Optional.<TakeScreenshots>absent(), Optional.<BlurLevel>absent());
+
+    private final Optional<TakeScreenshots> screenshotLevel;
+    private final Optional<BlurLevel> blurLevel;
+
+    private ScreenshotPolicy(Optional<TakeScreenshots> screenshotLevel, Optional<BlurLevel> blurLevel) {
+        this.screenshotLevel = screenshotLevel;
+        this.blurLevel = blurLevel;
+    }
+
+    /**
+     * The policy defined by the annotations on a single method.
+     */
+    public static ScreenshotPolicy forMethod(Method method) {
+        if (method == null) {
+            return NONE;
+        }
+        return new ScreenshotPolicy(screenshotLevelDefinedOn(method), blurLevelDefinedOn(method));
+    }
+
+    /**
+     * The policy defined by the annotations on the methods in the current call stack.
+     * The innermost annotated method wins. This walks the whole stack, so it should only be
+     * used when no step is running.
+     */
+    public static ScreenshotPolicy fromCallingMethods() {
+        Optional<TakeScreenshots> screenshotLevel = Optional.absent();
+        Optional<BlurLevel> blurLevel = Optional.absent();
+        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+        for (StackTraceElement stackTraceElement : stackTrace) {
+            Method callingMethod = StackTraceAnalyser.forStackTraceElement(stackTraceElement).getMethod();
+            if (callingMethod != null) {
+                if (!screenshotLevel.isPresent()) {
+                    screenshotLevel = screenshotLevelDefinedOn(callingMethod);
+                }
+                if (!blurLevel.isPresent()) {
+                    blurLevel = blurLevelDefinedOn(callingMethod);
+                }
+                if (screenshotLevel.isPresent() && blurLevel.isPresent()) {
+                    break;
+                }
+            }
+        }
+        return new ScreenshotPolicy(screenshotLevel, blurLevel);
+    }
+
+    /**
+     * Use the values of this policy where they are defined, and those of the enclosing policy otherwise.
+     */
+    public ScreenshotPolicy within(ScreenshotPolicy enclosingPolicy) {
+        if (enclosingPolicy == NONE || (screenshotLevel.isPresent() && blurLevel.isPresent())) {
+            return this;
+        }
+        return new ScreenshotPolicy(screenshotLevel.or(enclosingPolicy.screenshotLevel),
+                                    blurLevel.or(enclosingPolicy.blurLevel));
+    }
+
+    public Optional<TakeScreenshots> getScreenshotLevel() {
+        return screenshotLevel;
+    }
+
+    public Optional<BlurLevel> getBlurLevel() {
+        return blurLevel;
+    }
+
+    private static Optional<TakeScreenshots> screenshotLevelDefinedOn(Method method) {
+        Screenshots screenshots = method.getAnnotation(Screenshots.class);
+        if (screenshots == null) {
+            return Optional.absent();
+        }
+        return Optional.of(screenshotLevelFrom(screenshots));
+    }
+
+    private static Optional<BlurLevel> blurLevelDefinedOn(Method method) {
+        BlurScreenshots blurScreenshots = method.getAnnotation(BlurScreenshots.class);
+        if (blurScreenshots == null) {
+            return Optional.absent();
+        }
+        return Optional.of(BlurLevel.valueOf(blurScreenshots.value().toUpperCase()));
+    }
+
+    private static TakeScreenshots screenshotLevelFrom(Screenshots screenshots) {
+        if (screenshots.onlyOnFailures()) {
+            return TakeScreenshots.FOR_FAILURES;
+        } else if (screenshots.forEachAction()) {
+            return TakeScreenshots.FOR_EACH_ACTION;
+        } else if (screenshots.afterEachStep()) {
+            return TakeScreenshots.AFTER_EACH_STEP;
+        } else if (screenshots.beforeAndAfterEachStep()) {
+            return TakeScreenshots.BEFORE_AND_AFTER_EACH_STEP;
+        } else {
+            return TakeScreenshots.BEFORE_AND_AFTER_EACH_STEP;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.thucydides.core.screenshots;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+
+/**
+ * Provides the screenshot processor defined by the thucydides.screenshot.processor property.
+ * Use "multithread" to process screenshots on a pool of worker threads, or "single" (the default)
+ * to process them one at a time on a single background thread.
+ */
+public class ScreenshotProcessorProvider implements Provider<ScreenshotProcessor> {
+
+    public static final String SINGLE_THREAD = "single";
+    public static final String MULTITHREAD = "multithread";
+
+    private final EnvironmentVariables environmentVariables;
+
+    @Inject
+    public ScreenshotProcessorProvider(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
+    }
+
+    @Override
+    public ScreenshotProcessor get() {
+        String processorType = ThucydidesSystemProperty.THUCYDIDES_SCREENSHOT_PROCESSOR.from(environmentVariables,
+                                                                                             SINGLE_THREAD);
+        if (processorType.trim().equalsIgnoreCase(MULTITHREAD)) {
+            return new MultithreadScreenshotProcessor(environmentVariables);
+        } else {
+            return new SingleThreadScreenshotProcessor(environmentVariables);
+        }
+    }
+}
@@ -1,56 +1,61 @@
 package net.thucydides.core.screenshots;
 
-import com.google.common.io.Files;
 import com.google.inject.Inject;
-import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.util.EnvironmentVariables;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Processes queued screenshots one at a time on a single background thread.
+ * A screenshot counts as pending until it has been written, so that waitUntilDone() only returns
+ * once every screenshot queued so far is on disk.
+ */
 public class SingleThreadScreenshotProcessor implements ScreenshotProcessor {
 
     Thread screenshotThread;
-    final Queue<QueuedScreenshot> queue;
+    final BlockingQueue<QueuedScreenshot> queue;
 
-    private final EnvironmentVariables environmentVariables;
+    private final QueuedScreenshotSaver saver;
 
-    private final Logger logger = LoggerFactory.getLogger(SingleThreadScreenshotProcessor.class);
+    private final Lock lock = new ReentrantLock();
+    private final Condition allScreenshotsProcessed = lock.newCondition();
+    private int pendingScreenshots = 0;
 
     @Inject
     public SingleThreadScreenshotProcessor(EnvironmentVariables environmentVariables) {
-        this.environmentVariables = environmentVariables;
-        this.queue = new ConcurrentLinkedQueue<QueuedScreenshot>();
+        this.saver = new QueuedScreenshotSaver(environmentVariables);
+        this.queue = new LinkedBlockingQueue<QueuedScreenshot>();
         start();
     }
 
     public void start() {
-        screenshotThread = new Thread(new Processor(queue));
+        screenshotThread = new Thread(new Processor(queue), "thucydides-screenshots");
         screenshotThread.setDaemon(true);
         screenshotThread.start();
     }
 
-
     public void waitUntilDone() {
-        while (!isEmpty()) {
-            try {
-                Thread.sleep(10);
-            } catch (InterruptedException ignore) {
+        lock.lock();
+        try {
+            while (pendingScreenshots > 0) {
+                allScreenshotsProcessed.await();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
         }
     }
 
     class Processor implements Runnable {
 
-        private final Queue<QueuedScreenshot> queue;
+        private final BlockingQueue<QueuedScreenshot> queue;
 
-        Processor(Queue<QueuedScreenshot> queue) {
+        Processor(BlockingQueue<QueuedScreenshot> queue) {
             this.queue = queue;
         }
 
@@ -58,115 +63,54 @@ public class SingleThreadScreenshotProcessor implements ScreenshotProcessor {
 
         public void run() {
             while (!done) {
-                synchronized (queue) {
-                    saveQueuedScreenshot();
-                    try {
-                        queue.wait();
-                    } catch (InterruptedException ignore) {
-                    }
-                }
-            }
-        }
-
-        private void saveQueuedScreenshot() {
-            while (!queue.isEmpty()) {
-                QueuedScreenshot queuedScreenshot = queue.poll();
-                if (queuedScreenshot != null) {
-                    processScreenshot(queuedScreenshot);
+                try {
+                    processScreenshot(queue.take());
+                } catch (InterruptedException ignore) {
                 }
             }
         }
 
         private void processScreenshot(QueuedScreenshot queuedScreenshot) {
-            if (shouldResize(queuedScreenshot)) {
-                resizeScreenshot(queuedScreenshot);
-            } else {
-                moveScreenshot(queuedScreenshot);
-            }
-        }
-
-        private int getResizedWidth() {
-            return environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.RESIZED_WIDTH, 0);
-        }
-
-        private boolean shouldResize(QueuedScreenshot queuedScreenshot) {
-            if (getResizedWidth() > 0) {
-                BufferedImage image = readImage(queuedScreenshot);
-                if (image != null) {
-                    int width = image.getData().getWidth();
-                    return (width != getResizedWidth());
-                }
-            }
-            return false;
-        }
-
-        private BufferedImage readImage(QueuedScreenshot queuedScreenshot) {
-            BufferedImage image = null;
             try {
-                image = ImageIO.read(queuedScreenshot.getSourceFile());
-            } catch (IOException e) {
-                logger.warn("Failed to read the stored screenshot (possibly an out of memory error): " + e.getMessage());
+                saver.save(queuedScreenshot);
+            } finally {
+                screenshotProcessed();
             }
-            return image;
-        }
-
-        private void moveScreenshot(QueuedScreenshot queuedScreenshot) {
-            try {
-                Files.move(queuedScreenshot.getSourceFile(),
-                           queuedScreenshot.getDestinationFile());
-            } catch (Throwable e) {
-                logger.warn("Failed to move the screenshot to the destination directory: " + e.getMessage());
-            }
-        }
-
-        private void resizeScreenshot(QueuedScreenshot queuedScreenshot) {
-            try {
-                BufferedImage image = ImageIO.read(queuedScreenshot.getSourceFile());
-                int width = image.getData().getWidth();
-                int height = image.getData().getHeight();
-                int targetWidth = getResizedWidth();
-                int targetHeight = (int) (((double) targetWidth / (double) width) * (double) height);
-
-                BufferedImage resizedImage = resize(image, targetWidth, targetHeight);
-                ImageIO.write(resizedImage, "png", queuedScreenshot.getDestinationFile());
-                queuedScreenshot.getSourceFile().delete();
-            } catch (Throwable e) {
-                logger.warn("Failed to resize screenshot: using original size " + e.getMessage());
-                moveScreenshot(queuedScreenshot);
-            }
-        }
-
-        private BufferedImage resize(BufferedImage image, int width, int height) {
-            int type = image.getType() == 0? BufferedImage.TYPE_INT_ARGB : image.getType();
-            BufferedImage resizedImage = new BufferedImage(width, height, type);
-            Graphics2D g = resizedImage.createGraphics();
-            g.setComposite(AlphaComposite.Src);
-
-            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-
-            g.setRenderingHint(RenderingHints.KEY_RENDERING,
-                    RenderingHints.VALUE_RENDER_QUALITY);
-
-            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                    RenderingHints.VALUE_ANTIALIAS_ON);
-
-            g.drawImage(image, 0, 0, width, height, null);
-            g.dispose();
-            return resizedImage;
         }
     }
 
     public void queueScreenshot(QueuedScreenshot queuedScreenshot) {
+        screenshotQueued();
         queue.offer(queuedScreenshot);
-        synchronized (queue) {
-            queue.notifyAll();
-        }
     }
 
-    public synchronized boolean isEmpty() {
-        return queue.isEmpty();
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return pendingScreenshots == 0;
+        } finally {
+            lock.unlock();
+        }
     }
 
+    private void screenshotQueued() {
+        lock.lock();
+        try {
+            pendingScreenshots++;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-}
\ No newline at end of file
+    private void screenshotProcessed() {
+        lock.lock();
+        try {
+            pendingScreenshots--;
+            if (pendingScreenshots == 0) {
+                allScreenshotsProcessed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package net.thucydides.core.statistics.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how much time is spent working out the tags of test outcomes, across all threads,
+ * and of how often the requirement tag providers could reuse tags already worked out for the same path.
+ */
+public class TagResolutionStatistics {
+
+    private static final AtomicLong resolutionCount = new AtomicLong();
+    private static final AtomicLong totalResolutionTime = new AtomicLong();
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong cacheMisses = new AtomicLong();
+
+    public static void recordResolution(long elapsedNanos) {
+        resolutionCount.incrementAndGet();
+        totalResolutionTime.addAndGet(elapsedNanos);
+    }
+
+    public static void recordCacheHit() {
+        cacheHits.incrementAndGet();
+    }
+
+    public static void recordCacheMiss() {
+        cacheMisses.incrementAndGet();
+    }
+
+    /**
+     * @return the number of test outcomes whose tags have been worked out using the tag providers.
+     */
+    public static long getResolutionCount() {
+        return resolutionCount.get();
+    }
+
+    public static long getTotalResolutionTimeInMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(totalResolutionTime.get());
+    }
+
+    public static long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public static long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    public static void reset() {
+        resolutionCount.set(0);
+        totalResolutionTime.set(0);
+        cacheHits.set(0);
+        cacheMisses.set(0);
+    }
+}
@@ -2,6 +2,9 @@ package net.thucydides.core.steps;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import net.thucydides.core.annotations.Step;
 import net.thucydides.core.annotations.StepGroup;
@@ -14,7 +17,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static net.thucydides.core.util.NameConverter.humanize;
 
@@ -25,6 +30,25 @@ public final class AnnotatedStepDescription {
 
     private static final List<String> VALID_STEP_ANNOTATIONS = ImmutableList.of("Step", "Given", "When", "Then");
 
+    /**
+     * Step descriptions only know the name of the step method, so the method is looked up by name each time
+     * the step is described. The test classes are weak keys, and since the methods refer back to their class,
+     * the values are soft references.
+     * Where several public methods share a name, the last one returned by getMethods() is used.
+     */
+    private static final LoadingCache<Class<?>, Map<String, Method>> PUBLIC_METHODS_BY_NAME
+            = CacheBuilder.newBuilder().weakKeys().softValues().build(
+                    new CacheLoader<Class<?>, Map<String, Method>>() {
+                        @Override
+                        public Map<String, Method> load(final Class<?> testClass) {
+                            Map<String, Method> methodsByName = new HashMap<String, Method>();
+                            for (Method method : testClass.getMethods()) {
+                                methodsByName.put(method.getName(), method);
+                            }
+                            return methodsByName;
+                        }
+                    });
+
     private final ExecutedStepDescription description;
 
     public static AnnotatedStepDescription from(final ExecutedStepDescription description) {
@@ -104,17 +128,10 @@ public final class AnnotatedStepDescription {
     }
 
     private Method findMethodCalled(final String methodName, final Class<?> testClass) {
-        Method methodFound = null;
-
-        if (testClass != null) {
-            Method[] methods = testClass.getMethods();
-            for (Method method : methods) {
-                if (method.getName().equals(methodName)) {
-                    methodFound = method;
-                }
-            }
+        if (testClass == null) {
+            return null;
         }
-        return methodFound;
+        return PUBLIC_METHODS_BY_NAME.getUnchecked(testClass).get(methodName);
     }
 
     public String getAnnotatedTitle() {
@@ -160,12 +177,7 @@ public final class AnnotatedStepDescription {
     }
 
     private Optional<String> getNameFromStepAnnotationIn(final Method testMethod) {
-        Step step = testMethod.getAnnotation(Step.class);
-
-        if ((step != null) && (!StringUtils.isEmpty(step.value()))) {
-            return Optional.of(step.value());
-        }
-        return Optional.absent();
+        return Optional.fromNullable(StepMethodMetadata.of(testMethod).getStepTitleTemplate());
     }
 
     public String getName() {
@@ -19,6 +19,7 @@ import net.thucydides.core.model.TestStep;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.pages.Pages;
 import net.thucydides.core.pages.SystemClock;
+import net.thucydides.core.screenshots.BlurLevel;
 import net.thucydides.core.screenshots.Photographer;
 import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
 import net.thucydides.core.screenshots.ScreenshotBlurCheck;
@@ -623,13 +624,15 @@ public class BaseStepListener implements StepListener, StepPublisher {
     private Optional<ScreenshotAndHtmlSource> grabScreenshotFor(final String testName) {
         String snapshotName = underscore(testName);
 
-        Optional<File> screenshot = getPhotographer().takeScreenshot(snapshotName);
+        Photographer photographer = getPhotographer();
+        Optional<File> screenshot = photographer.takeScreenshot(snapshotName);
         if (screenshot.isPresent()) {
+            String digest = photographer.getScreenshotDigests().digestOf(screenshot.get()).orNull();
             if (shouldStoreSourcecode()) {
-                File sourcecode = getPhotographer().getMatchingSourceCodeFor(screenshot.get());
-                return Optional.of(new ScreenshotAndHtmlSource(screenshot.get(), sourcecode));
+                File sourcecode = photographer.getMatchingSourceCodeFor(screenshot.get());
+                return Optional.of(new ScreenshotAndHtmlSource(screenshot.get(), sourcecode, digest));
             } else {
-                return Optional.of(new ScreenshotAndHtmlSource(screenshot.get()));
+                return Optional.of(new ScreenshotAndHtmlSource(screenshot.get(), null, digest));
             }
         }
         return Optional.absent();
@@ -640,9 +643,9 @@ public class BaseStepListener implements StepListener, StepPublisher {
     }
 
     public Photographer getPhotographer() {
-        ScreenshotBlurCheck blurCheck = new ScreenshotBlurCheck();
-        if (blurCheck.blurLevel().isPresent()) {
-            return new Photographer(driver, outputDirectory, blurCheck.blurLevel().get());
+        Optional<BlurLevel> blurLevel = new ScreenshotBlurCheck().blurLevel();
+        if (blurLevel.isPresent()) {
+            return new Photographer(driver, outputDirectory, blurLevel.get());
         } else {
             return new Photographer(driver, outputDirectory);
         }
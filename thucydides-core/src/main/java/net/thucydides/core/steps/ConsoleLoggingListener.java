@@ -10,6 +10,7 @@ import net.thucydides.core.logging.LoggingLevel;
 import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.scheduling.PollingStatistics;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.util.NameConverter;
 import org.apache.commons.lang3.StringUtils;
@@ -159,6 +160,10 @@ public class ConsoleLoggingListener implements StepListener {
 
     
     public void testSuiteFinished() {
+        if (loggingLevelIsAtLeast(LoggingLevel.VERBOSE) && (PollingStatistics.getEstimatedTimeSaved() > 0)) {
+            getLogger().info("Polling strategy saved an estimated " + PollingStatistics.getEstimatedTimeSaved()
+                    + " ms of waiting over " + PollingStatistics.getPollCount() + " polls");
+        }
     }
 
     public void testStarted(String description) {
@@ -0,0 +1,55 @@
+package net.thucydides.core.steps;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how many step library proxy classes have been generated, across all threads,
+ * and of how many step library instances have been created from them.
+ */
+public class ProxyCreationStatistics {
+
+    private static final AtomicLong proxyClassCount = new AtomicLong();
+    private static final AtomicLong totalClassGenerationTime = new AtomicLong();
+    private static final AtomicLong proxyInstanceCount = new AtomicLong();
+    private static final AtomicLong totalInstanceCreationTime = new AtomicLong();
+
+    static void recordProxyClassGeneration(long elapsedNanos) {
+        proxyClassCount.incrementAndGet();
+        totalClassGenerationTime.addAndGet(elapsedNanos);
+    }
+
+    static void recordProxyInstanceCreation(long elapsedNanos) {
+        proxyInstanceCount.incrementAndGet();
+        totalInstanceCreationTime.addAndGet(elapsedNanos);
+    }
+
+    /**
+     * @return the number of proxy classes generated, one for each step library class and interceptor type.
+     */
+    public static long getProxyClassCount() {
+        return proxyClassCount.get();
+    }
+
+    public static long getTotalClassGenerationTimeInMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(totalClassGenerationTime.get());
+    }
+
+    /**
+     * @return the number of step library instances created from the proxy classes.
+     */
+    public static long getProxyInstanceCount() {
+        return proxyInstanceCount.get();
+    }
+
+    public static long getTotalInstanceCreationTimeInMilliseconds() {
+        return TimeUnit.NANOSECONDS.toMillis(totalInstanceCreationTime.get());
+    }
+
+    public static void reset() {
+        proxyClassCount.set(0);
+        totalClassGenerationTime.set(0);
+        proxyInstanceCount.set(0);
+        totalInstanceCreationTime.set(0);
+    }
+}
@@ -1,5 +1,6 @@
 package net.thucydides.core.steps;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
@@ -9,12 +10,14 @@ import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.Story;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
+import net.thucydides.core.screenshots.ScreenshotPolicy;
 import net.thucydides.core.screenshots.ScreenshotProcessor;
 import net.thucydides.core.webdriver.ThucydidesWebDriverSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import sun.misc.Service;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -38,22 +41,29 @@ import java.util.Stack;
  */
 public class StepEventBus {
 
-    private static ThreadLocal<StepEventBus> stepEventBusThreadLocal = new ThreadLocal<StepEventBus>();
+    private static final ThreadLocal<StepEventBus> stepEventBusThreadLocal = new ThreadLocal<StepEventBus>() {
+        @Override
+        protected StepEventBus initialValue() {
+            return Injectors.getInjector().getInstance(StepEventBus.class);
+        }
+    };
     private static final String CORE_THUCYDIDES_PACKAGE = "net.thucydides.core";
     private static final Logger LOGGER = LoggerFactory.getLogger(StepEventBus.class);
 
     /**
      * The event bus used to inform listening classes about when tests and test steps start and finish.
-     * There is a separate event bus for each thread.
+     * There is a separate event bus for each thread, so no lock is needed to look it up.
      */
-    public static synchronized StepEventBus getEventBus() {
-        if (stepEventBusThreadLocal.get() == null) {
-            stepEventBusThreadLocal.set(Injectors.getInjector().getInstance(StepEventBus.class));
-        }
+    public static StepEventBus getEventBus() {
         return stepEventBusThreadLocal.get();
     }
 
     private List<StepListener> registeredListeners = new ArrayList<StepListener>();
+
+    /**
+     * The registered and custom listeners, rebuilt only when the registered listeners change.
+     */
+    private List<StepListener> allListeners;
     /**
      * A reference to the base step listener, if registered.
      */
@@ -63,6 +73,10 @@ public class StepEventBus {
 
     private Stack<String> stepStack = new Stack<String>();
     private Stack<Boolean> webdriverSuspensions = new Stack<Boolean>();
+    /**
+     * The screenshot policy of each step method currently being executed, innermost last.
+     */
+    private Stack<ScreenshotPolicy> screenshotPolicies = new Stack<ScreenshotPolicy>();
 
     private Set<StepListener> customListeners;
 
@@ -89,6 +103,7 @@ public class StepEventBus {
     public StepEventBus registerListener(final StepListener listener) {
         if (!registeredListeners.contains(listener)) {
             registeredListeners.add(listener);
+            allListeners = null;
             if (BaseStepListener.class.isAssignableFrom(listener.getClass())) {
                 baseStepListener = (BaseStepListener) listener;
                 baseStepListener.setEventBus(this);
@@ -135,9 +150,12 @@ public class StepEventBus {
     }
 
     protected List<StepListener> getAllListeners() {
-        List<StepListener> allListeners = Lists.newArrayList(registeredListeners);
-        allListeners.addAll(getCustomListeners());
-        return ImmutableList.copyOf(allListeners);
+        if (allListeners == null) {
+            List<StepListener> listeners = Lists.newArrayList(registeredListeners);
+            listeners.addAll(getCustomListeners());
+            allListeners = ImmutableList.copyOf(listeners);
+        }
+        return allListeners;
     }
 
     private Set<StepListener> getCustomListeners() {
@@ -194,6 +212,7 @@ public class StepEventBus {
         resultTally = null;
         classUnderTest = null;
         webdriverSuspensions.clear();
+        screenshotPolicies.clear();
     }
 
     private void currentTestIsNotPending() {
@@ -275,6 +294,40 @@ public class StepEventBus {
         }
     }
 
+    /**
+     * Record the screenshot policy of a step method that is about to run.
+     * The annotations of the outermost step's callers (typically the test method) are read once here,
+     * so that screenshot decisions made during the step do not need to walk the call stack.
+     */
+    public void stepMethodEntered(final Method stepMethod) {
+        stepMethodEntered(ScreenshotPolicy.forMethod(stepMethod));
+    }
+
+    /**
+     * @param stepMethodPolicy the screenshot policy defined by the annotations of the step method itself.
+     */
+    public void stepMethodEntered(final ScreenshotPolicy stepMethodPolicy) {
+        ScreenshotPolicy enclosingPolicy = screenshotPolicies.empty() ? ScreenshotPolicy.fromCallingMethods()
+                                                                      : screenshotPolicies.peek();
+        screenshotPolicies.push(stepMethodPolicy.within(enclosingPolicy));
+    }
+
+    public void stepMethodExited() {
+        if (!screenshotPolicies.empty()) {
+            screenshotPolicies.pop();
+        }
+    }
+
+    /**
+     * The screenshot policy of the step method currently being executed, if any.
+     */
+    public Optional<ScreenshotPolicy> getCurrentScreenshotPolicy() {
+        if (screenshotPolicies.empty()) {
+            return Optional.absent();
+        }
+        return Optional.of(screenshotPolicies.peek());
+    }
+
     public void stepFinished() {
         stepDone();
         getResultTally().logExecutedTest();
@@ -351,10 +404,12 @@ public class StepEventBus {
 
     public void dropListener(final StepListener stepListener) {
         registeredListeners.remove(stepListener);
+        allListeners = null;
     }
 
     public void dropAllListeners() {
         registeredListeners.clear();
+        allListeners = null;
     }
 
     public boolean webdriverCallsAreSuspended() {
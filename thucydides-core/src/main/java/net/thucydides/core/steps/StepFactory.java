@@ -4,7 +4,6 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
-import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.pages.Pages;
@@ -14,21 +13,22 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.collect.ImmutableSet.copyOf;
 
 /**
  * Produces an instance of a set of requirement steps for use in the acceptance tests.
  * Requirement steps navigate through pages using a WebDriver driver.
+ * The proxy classes used for the step libraries are generated once per JVM and shared between step factories.
  */
 public class StepFactory {
 
     private final Pages pages;
 
-    private final Map<Class<?>, Object> index = new HashMap<Class<?>, Object>();
+    private final Map<Class<?>, Object> index = new ConcurrentHashMap<Class<?>, Object>();
     private static final Logger LOGGER = LoggerFactory.getLogger(StepFactory.class);
     private final DependencyInjectorService dependencyInjectorService;
     private boolean throwExceptionImmediately = false;
@@ -140,27 +140,22 @@ public class StepFactory {
         return steps;
     }
 
-    @SuppressWarnings("unchecked")
     private <T> T createProxyStepLibrary(Class<T> scenarioStepsClass,
                                          MethodInterceptor interceptor) {
-        Enhancer e = new Enhancer();
-        e.setSuperclass(scenarioStepsClass);
-        e.setCallback(interceptor);
-
         if (isWebdriverStepClass(scenarioStepsClass)) {
-            return webEnabledStepLibrary(scenarioStepsClass, e);
+            return webEnabledStepLibrary(scenarioStepsClass, interceptor);
         } else {
-            return (T) e.create();
+            return StepLibraryProxyClasses.newProxyFor(scenarioStepsClass, interceptor);
         }
     }
 
-    private <T> T webEnabledStepLibrary(final Class<T> scenarioStepsClass, final Enhancer e) {
+    private <T> T webEnabledStepLibrary(final Class<T> scenarioStepsClass, final MethodInterceptor interceptor) {
         if (hasAPagesConstructor(scenarioStepsClass)) {
             Object[] arguments = new Object[1];
             arguments[0] = pages;
-            return (T) e.create(CONSTRUCTOR_ARG_TYPES, arguments);
+            return StepLibraryProxyClasses.newProxyFor(scenarioStepsClass, interceptor, CONSTRUCTOR_ARG_TYPES, arguments);
         } else {
-            T newStepLibrary = (T) e.create();
+            T newStepLibrary = StepLibraryProxyClasses.newProxyFor(scenarioStepsClass, interceptor);
             return injectPagesInto(scenarioStepsClass, newStepLibrary);
         }
     }
@@ -5,22 +5,14 @@ import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 import net.thucydides.core.IgnoredStepException;
 import net.thucydides.core.PendingStepException;
-import net.thucydides.core.annotations.Pending;
-import net.thucydides.core.annotations.Step;
-import net.thucydides.core.annotations.StepGroup;
-import net.thucydides.core.annotations.TestAnnotations;
 import org.junit.internal.AssumptionViolatedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.List;
 
 import static net.thucydides.core.steps.ErrorConvertor.forError;
-import static org.apache.commons.lang3.StringUtils.split;
 
 /**
  * Listen to step results and publish notification messages.
@@ -45,86 +37,35 @@ public class StepInterceptor implements MethodInterceptor, Serializable {
                             final Object[] args, final MethodProxy proxy) throws Throwable {
 
         Object result;
-        if (baseClassMethod(method, obj.getClass())) {
+        StepMethodMetadata metadata = StepMethodMetadata.of(method);
+        if (metadata.isBaseClassMethodFor(obj.getClass())) {
             result = runBaseObjectMethod(obj, method, args, proxy);
         } else {
-            result = testStepResult(obj, method, args, proxy);
+            result = testStepResult(obj, method, metadata, args, proxy);
         }
         return result;
 
     }
 
-    private final List<String> OBJECT_METHODS
-       = Arrays.asList("toString",
-            "equals",
-            "hashcode",
-            "clone",
-            "notify",
-            "notifyAll",
-            "wait",
-            "finalize",
-            "getMetaClass");
-
-    private boolean baseClassMethod(final Method method, final Class callingClass) {
-        boolean isACoreLanguageMethod = (OBJECT_METHODS.contains(method.getName()));
-        boolean methodDoesNotComeFromThisClassOrARelatedParentClass = !declaredInSameDomain(method, callingClass);
-        return (isACoreLanguageMethod || methodDoesNotComeFromThisClassOrARelatedParentClass);
-    }
-
-    private boolean declaredInSameDomain(Method method, final Class callingClass) {
-        return domainPackageOf(getRoot(method)).equals(domainPackageOf(callingClass));
-    }
-
-    private String domainPackageOf(Class callingClass) {
-        Package classPackage = callingClass.getPackage();
-        String classPackageName = (classPackage != null) ? classPackage.getName() : "";
-        return packageDomainName(classPackageName);
-    }
-
-    private String packageDomainName(String methodPackage) {
-        String[] packages = split(methodPackage, ".");
-
-        if (packages.length == 0) {
-            return "";
-        } else if (packages.length == 1) {
-            return packages[0];
-        } else {
-            return packages[0] + "." + packages[1];
-        }
-    }
-
-    private String domainPackageOf(Method method) {
-        Package methodPackage = method.getDeclaringClass().getPackage();
-        String methodPackageName = (methodPackage != null) ? methodPackage.getName() : "";
-        return packageDomainName(methodPackageName);
-    }
-
-    private Method getRoot(Method method) {
-        try {
-            method.getClass().getDeclaredField("root").setAccessible(true);
-            return (Method) method.getClass().getDeclaredField("root").get(method);
-        } catch (IllegalAccessException e) {
-            return method;
-        } catch (NoSuchFieldException e) {
-            return method;
-        }
-    }
-
-    private Object testStepResult(final Object obj, final Method method,
+    private Object testStepResult(final Object obj, final Method method, final StepMethodMetadata metadata,
                                   final Object[] args, final MethodProxy proxy) throws Throwable {
 
-        if (!isATestStep(method)) {
-            return runNormalMethod(obj, method, args, proxy);
+        if (!metadata.isATestStep()) {
+            return runNormalMethod(obj, method, metadata, args, proxy);
         }
 
-        if (shouldSkip(method)) {
-            notifySkippedStepStarted(method, args);
-            return skipTestStep(obj, method, args, proxy);
-        } else {
-            notifyStepStarted(method, args);
-            return runTestStep(obj, method, args, proxy);
+        StepEventBus.getEventBus().stepMethodEntered(metadata.getScreenshotPolicy());
+        try {
+            if (shouldSkip(metadata)) {
+                notifySkippedStepStarted(method, args);
+                return skipTestStep(obj, method, args, proxy);
+            } else {
+                notifyStepStarted(method, args);
+                return runTestStep(obj, method, args, proxy);
+            }
+        } finally {
+            StepEventBus.getEventBus().stepMethodExited();
         }
-
     }
 
     private Object skipTestStep(Object obj, Method method, Object[] args, MethodProxy proxy) throws Exception {
@@ -163,16 +104,16 @@ public class StepInterceptor implements MethodInterceptor, Serializable {
         }
     }
 
-    private boolean shouldNotSkipMethod(final Method methodOrStep, final Class callingClass) {
+    private boolean shouldNotSkipMethod(final StepMethodMetadata methodOrStep, final Class callingClass) {
         return !shouldSkipMethod(methodOrStep, callingClass);
     }
 
-    private boolean shouldSkipMethod(final Method methodOrStep, final Class callingClass) {
-        return ((aPreviousStepHasFailed() || testIsPending()) && declaredInSameDomain(methodOrStep, callingClass));
+    private boolean shouldSkipMethod(final StepMethodMetadata methodOrStep, final Class callingClass) {
+        return ((aPreviousStepHasFailed() || testIsPending()) && methodOrStep.isDeclaredInSameDomainAs(callingClass));
     }
 
-    private boolean shouldSkip(final Method methodOrStep) {
-        return aPreviousStepHasFailed() ||  testIsPending() || isPending(methodOrStep) || isIgnored(methodOrStep);
+    private boolean shouldSkip(final StepMethodMetadata methodOrStep) {
+        return aPreviousStepHasFailed() ||  testIsPending() || methodOrStep.isPending() || methodOrStep.isIgnored();
     }
 
     private boolean testIsPending() {
@@ -193,12 +134,12 @@ public class StepInterceptor implements MethodInterceptor, Serializable {
         return invokeMethod(obj, method, args, proxy);
     }
 
-    private Object runNormalMethod(final Object obj, final Method method, final Object[] args, final MethodProxy proxy)
-            throws Throwable {
+    private Object runNormalMethod(final Object obj, final Method method, final StepMethodMetadata metadata,
+                                   final Object[] args, final MethodProxy proxy) throws Throwable {
 
         Object result = defaultReturnValueFor(method);
 
-        if (shouldNotSkipMethod(method, obj.getClass())) {
+        if (shouldNotSkipMethod(metadata, obj.getClass())) {
             result = invokeMethodAndNotifyFailures(obj, method, args, proxy, result);
         }
         return result;
@@ -224,28 +165,6 @@ public class StepInterceptor implements MethodInterceptor, Serializable {
         }
     }
 
-    private boolean isAnnotatedWithAValidStepAnnotation(final Method method) {
-        Annotation[] annotations = method.getAnnotations();
-        for (Annotation annotation : annotations) {
-            if (isAThucydidesStep(annotation) || (AnnotatedStepDescription.isACompatibleStep(annotation))) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean isAThucydidesStep(Annotation annotation) {
-        return (annotation instanceof Step) || (annotation instanceof StepGroup);
-    }
-
-    private boolean isATestStep(final Method method) {
-        return isAnnotatedWithAValidStepAnnotation(method);
-    }
-
-    private boolean isIgnored(final Method method) {
-        return TestAnnotations.isIgnored(method);
-    }
-
     private Object runTestStep(final Object obj, final Method method,
                                final Object[] args, final MethodProxy proxy) throws Throwable {
         LOGGER.info("STARTING STEP: {}", method.getName());
@@ -292,10 +211,6 @@ public class StepInterceptor implements MethodInterceptor, Serializable {
         return proxy.invokeSuper(obj, args);
     }
 
-    private boolean isPending(final Method method) {
-        return (method.getAnnotation(Pending.class) != null);
-    }
-
     private void notifyStepFinishedFor(final Method method, final Object[] args) {
         StepEventBus.getEventBus().stepFinished();
     }
@@ -349,7 +264,7 @@ public class StepInterceptor implements MethodInterceptor, Serializable {
     private void notifyStepSkippedFor(final Method method, final Object[] args)
             throws Exception {
 
-        if (isPending(method)) {
+        if (StepMethodMetadata.of(method).isPending()) {
             StepEventBus.getEventBus().stepPending();
         } else {
             StepEventBus.getEventBus().stepIgnored();
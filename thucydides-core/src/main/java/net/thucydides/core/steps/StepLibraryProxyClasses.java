@@ -0,0 +1,116 @@
+package net.thucydides.core.steps;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import net.sf.cglib.core.ReflectUtils;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The proxy classes generated for step libraries, shared by all the step factories in the JVM.
+ * A proxy class is generated once for each step library class and interceptor type: each new step library
+ * is then created from the cached constructor, with its own interceptor instance.
+ * The proxy classes are held by weak references to the step library classes, so that step libraries loaded
+ * by a class loader that is no longer used (in a container, or when tests are re-run in an IDE) can be unloaded.
+ * Because a proxy class refers back to its step library class, the proxy classes themselves are held by soft
+ * references, and are only dropped (and generated again if needed) when memory runs low.
+ */
+class StepLibraryProxyClasses {
+
+    private static final LoadingCache<Class<?>, ConcurrentMap<Class<?>, ProxyClass>> PROXY_CLASSES
+            = CacheBuilder.newBuilder().weakKeys().softValues().build(
+                    new CacheLoader<Class<?>, ConcurrentMap<Class<?>, ProxyClass>>() {
+                        @Override
+                        public ConcurrentMap<Class<?>, ProxyClass> load(final Class<?> stepLibraryClass) {
+                            return new ConcurrentHashMap<Class<?>, ProxyClass>();
+                        }
+                    });
+
+    private static final Class<?>[] NO_ARGUMENT_TYPES = new Class<?>[0];
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private StepLibraryProxyClasses() {
+    }
+
+    static <T> T newProxyFor(final Class<T> stepLibraryClass, final MethodInterceptor interceptor) {
+        return newProxyFor(stepLibraryClass, interceptor, NO_ARGUMENT_TYPES, NO_ARGUMENTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T newProxyFor(final Class<T> stepLibraryClass,
+                             final MethodInterceptor interceptor,
+                             final Class<?>[] argumentTypes,
+                             final Object[] arguments) {
+        ProxyClass proxyClass = proxyClassFor(stepLibraryClass, interceptor.getClass());
+        long startTime = System.nanoTime();
+        T proxy = (T) proxyClass.newInstance(interceptor, argumentTypes, arguments);
+        ProxyCreationStatistics.recordProxyInstanceCreation(System.nanoTime() - startTime);
+        return proxy;
+    }
+
+    private static ProxyClass proxyClassFor(final Class<?> stepLibraryClass,
+                                            final Class<? extends MethodInterceptor> interceptorType) {
+        ConcurrentMap<Class<?>, ProxyClass> proxyClasses = PROXY_CLASSES.getUnchecked(stepLibraryClass);
+        ProxyClass proxyClass = proxyClasses.get(interceptorType);
+        if (proxyClass == null) {
+            proxyClasses.putIfAbsent(interceptorType, generateProxyClass(stepLibraryClass, interceptorType));
+            proxyClass = proxyClasses.get(interceptorType);
+        }
+        return proxyClass;
+    }
+
+    private static ProxyClass generateProxyClass(final Class<?> stepLibraryClass,
+                                                 final Class<? extends MethodInterceptor> interceptorType) {
+        long startTime = System.nanoTime();
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(stepLibraryClass);
+        enhancer.setCallbackType(interceptorType);
+        ProxyClass proxyClass = new ProxyClass(enhancer.createClass());
+        ProxyCreationStatistics.recordProxyClassGeneration(System.nanoTime() - startTime);
+        return proxyClass;
+    }
+
+    private static class ProxyClass {
+        private final Class<?> type;
+        private final ConcurrentMap<List<Class<?>>, Constructor> constructors
+                = new ConcurrentHashMap<List<Class<?>>, Constructor>();
+
+        private ProxyClass(final Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * The interceptor is handed to the new instance through a thread-local registration,
+         * so that it is already in place for any method the step library constructor calls.
+         */
+        private Object newInstance(final MethodInterceptor interceptor,
+                                   final Class<?>[] argumentTypes,
+                                   final Object[] arguments) {
+            Constructor constructor = constructorFor(argumentTypes);
+            Enhancer.registerCallbacks(type, new Callback[]{interceptor});
+            try {
+                return ReflectUtils.newInstance(constructor, arguments);
+            } finally {
+                Enhancer.registerCallbacks(type, null);
+            }
+        }
+
+        private Constructor constructorFor(final Class<?>[] argumentTypes) {
+            List<Class<?>> signature = Arrays.asList(argumentTypes);
+            Constructor constructor = constructors.get(signature);
+            if (constructor == null) {
+                constructor = ReflectUtils.getConstructor(type, argumentTypes);
+                constructors.putIfAbsent(signature, constructor);
+            }
+            return constructor;
+        }
+    }
+}
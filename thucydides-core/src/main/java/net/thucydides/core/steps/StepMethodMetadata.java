@@ -0,0 +1,179 @@
+package net.thucydides.core.steps;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.MapMaker;
+import net.thucydides.core.annotations.Pending;
+import net.thucydides.core.annotations.Step;
+import net.thucydides.core.annotations.StepGroup;
+import net.thucydides.core.annotations.TestAnnotations;
+import net.thucydides.core.screenshots.ScreenshotPolicy;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apache.commons.lang3.StringUtils.split;
+
+/**
+ * What the step interceptor needs to know about a step library method, worked out once per method.
+ * Step library methods are typically called thousands of times during a test run, so the annotations and
+ * package names are read the first time a method is intercepted, and looked up after that.
+ * The caches are held through weak references to the step library classes, so that they do not keep classes
+ * from unused class loaders in memory. The methods of a class refer back to the class, so the metadata of each
+ * class is held by a soft reference, and is only worked out again if it was dropped when memory ran low.
+ */
+final class StepMethodMetadata {
+
+    private static final LoadingCache<Class<?>, ConcurrentMap<Method, StepMethodMetadata>> METHOD_METADATA
+            = CacheBuilder.newBuilder().weakKeys().softValues().build(
+                    new CacheLoader<Class<?>, ConcurrentMap<Method, StepMethodMetadata>>() {
+                        @Override
+                        public ConcurrentMap<Method, StepMethodMetadata> load(final Class<?> declaringClass) {
+                            return new ConcurrentHashMap<Method, StepMethodMetadata>();
+                        }
+                    });
+
+    private static final ConcurrentMap<Class<?>, String> CLASS_DOMAINS = new MapMaker().weakKeys().makeMap();
+
+    private static final List<String> OBJECT_METHODS
+       = Arrays.asList("toString",
+            "equals",
+            "hashcode",
+            "clone",
+            "notify",
+            "notifyAll",
+            "wait",
+            "finalize",
+            "getMetaClass");
+
+    private final boolean coreLanguageMethod;
+    private final String domainPackage;
+    private final boolean testStep;
+    private final boolean pending;
+    private final boolean ignored;
+    private final String stepTitleTemplate;
+    private final ScreenshotPolicy screenshotPolicy;
+
+    private StepMethodMetadata(final Method method) {
+        this.coreLanguageMethod = OBJECT_METHODS.contains(method.getName());
+        this.domainPackage = domainPackageOf(getRoot(method).getDeclaringClass());
+        this.testStep = isAnnotatedWithAValidStepAnnotation(method);
+        this.pending = (method.getAnnotation(Pending.class) != null);
+        this.ignored = TestAnnotations.isIgnored(method);
+        this.stepTitleTemplate = stepTitleTemplateFrom(method);
+        this.screenshotPolicy = ScreenshotPolicy.forMethod(method);
+    }
+
+    public static StepMethodMetadata of(final Method method) {
+        ConcurrentMap<Method, StepMethodMetadata> classMetadata = METHOD_METADATA.getUnchecked(method.getDeclaringClass());
+        StepMethodMetadata metadata = classMetadata.get(method);
+        if (metadata == null) {
+            metadata = new StepMethodMetadata(method);
+            StepMethodMetadata existingMetadata = classMetadata.putIfAbsent(method, metadata);
+            if (existingMetadata != null) {
+                metadata = existingMetadata;
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Methods from Object, or from classes outside the domain of the step library (such as the framework
+     * classes a step library extends), are run as they are rather than being reported as steps.
+     */
+    public boolean isBaseClassMethodFor(final Class<?> callingClass) {
+        return coreLanguageMethod || !isDeclaredInSameDomainAs(callingClass);
+    }
+
+    public boolean isDeclaredInSameDomainAs(final Class<?> callingClass) {
+        return domainPackage.equals(domainPackageOf(callingClass));
+    }
+
+    public boolean isATestStep() {
+        return testStep;
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    public boolean isIgnored() {
+        return ignored;
+    }
+
+    /**
+     * The title given in the @Step annotation, if any.
+     */
+    public String getStepTitleTemplate() {
+        return stepTitleTemplate;
+    }
+
+    public ScreenshotPolicy getScreenshotPolicy() {
+        return screenshotPolicy;
+    }
+
+    private static String domainPackageOf(final Class<?> callingClass) {
+        String domain = CLASS_DOMAINS.get(callingClass);
+        if (domain == null) {
+            Package classPackage = callingClass.getPackage();
+            String classPackageName = (classPackage != null) ? classPackage.getName() : "";
+            domain = packageDomainName(classPackageName);
+            CLASS_DOMAINS.putIfAbsent(callingClass, domain);
+        }
+        return domain;
+    }
+
+    private static String packageDomainName(final String methodPackage) {
+        String[] packages = split(methodPackage, ".");
+
+        if (packages.length == 0) {
+            return "";
+        } else if (packages.length == 1) {
+            return packages[0];
+        } else {
+            return packages[0] + "." + packages[1];
+        }
+    }
+
+    private static Method getRoot(final Method method) {
+        try {
+            Field rootField = method.getClass().getDeclaredField("root");
+            rootField.setAccessible(true);
+            Method root = (Method) rootField.get(method);
+            return (root != null) ? root : method;
+        } catch (IllegalAccessException e) {
+            return method;
+        } catch (NoSuchFieldException e) {
+            return method;
+        }
+    }
+
+    private static boolean isAnnotatedWithAValidStepAnnotation(final Method method) {
+        Annotation[] annotations = method.getAnnotations();
+        for (Annotation annotation : annotations) {
+            if (isAThucydidesStep(annotation) || (AnnotatedStepDescription.isACompatibleStep(annotation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAThucydidesStep(final Annotation annotation) {
+        return (annotation instanceof Step) || (annotation instanceof StepGroup);
+    }
+
+    private static String stepTitleTemplateFrom(final Method method) {
+        Step step = method.getAnnotation(Step.class);
+        if ((step != null) && (!StringUtils.isEmpty(step.value()))) {
+            return step.value();
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package net.thucydides.core.webdriver;
 
 import com.gargoylesoftware.htmlunit.ScriptException;
+import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.webdriver.stubs.NavigationStub;
 import net.thucydides.core.webdriver.stubs.OptionsStub;
@@ -35,6 +36,8 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
     private final WebDriverFactory webDriverFactory;
 
+    private final WebDriverPool webDriverPool;
+
     protected WebDriver proxiedWebDriver;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverFacade.class);
@@ -43,6 +46,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
                            final WebDriverFactory webDriverFactory) {
         this.driverClass = driverClass;
         this.webDriverFactory = webDriverFactory;
+        this.webDriverPool = Injectors.getInjector().getInstance(WebDriverPool.class);
     }
 
     public Class<? extends WebDriver>  getDriverClass() {
@@ -71,7 +75,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
     private void forcedQuit() {
         try {
-            getDriverInstance().quit();
+            quitOrReleaseDriverInstance();
             proxiedWebDriver = null;
         } catch (WebDriverException e) {
             LOGGER.warn("Closing a driver that was already closed: " + e.getMessage());
@@ -85,6 +89,14 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
     private WebDriver newDriverInstance() {
         try {
             webDriverFactory.setupFixtureServices();
+            String configurationKey = pooledDriverKey();
+            if (configurationKey != null) {
+                return webDriverPool.lease(configurationKey, new DriverSource() {
+                    public WebDriver newDriver() {
+                        return webDriverFactory.newWebdriverInstance(driverClass);
+                    }
+                });
+            }
             return webDriverFactory.newWebdriverInstance(driverClass);
         } catch (UnsupportedDriverException e) {
             LOGGER.error("FAILED TO CREATE NEW DRIVER INSTANCE " + driverClass + ": " + e.getMessage(), e);
@@ -92,6 +104,25 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         }
     }
 
+    private String pooledDriverKey() {
+        if (!webDriverPool.isEnabled() || driverClass == null) {
+            return null;
+        }
+        return webDriverFactory.getDriverConfigurationKey(driverClass);
+    }
+
+    /**
+     * Browsers that came from the browser pool are given back to it rather than being closed.
+     */
+    private void quitOrReleaseDriverInstance() {
+        WebDriver driver = getDriverInstance();
+        if (webDriverPool.isLeased(driver)) {
+            webDriverPool.release(driver);
+        } else {
+            driver.quit();
+        }
+    }
+
     public <X> X getScreenshotAs(final OutputType<X> target) {
         if (proxyInstanciated() && driverCanTakeScreenshots()) {
             try {
@@ -196,7 +227,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
     public void quit() {
         if (proxyInstanciated()) {
             try {
-                getDriverInstance().quit();
+                quitOrReleaseDriverInstance();
             } catch (WebDriverException e) {
                 LOGGER.warn("Error while quitting the driver (" + e.getMessage() + ")");
             }
@@ -77,6 +77,22 @@ public class WebDriverFactory {
 
     private final Integer EXTRA_TIME_TO_TAKE_SCREENSHOTS = 180;
 
+    private static final ThucydidesSystemProperty[] DRIVER_CONFIGURATION_PROPERTIES = {
+            ThucydidesSystemProperty.DRIVER,
+            ThucydidesSystemProperty.REMOTE_URL,
+            ThucydidesSystemProperty.REMOTE_DRIVER,
+            ThucydidesSystemProperty.DRIVER_CAPABILITIES,
+            ThucydidesSystemProperty.SAUCELABS_URL,
+            ThucydidesSystemProperty.SAUCELABS_TARGET_PLATFORM,
+            ThucydidesSystemProperty.SAUCELABS_DRIVER_VERSION,
+            ThucydidesSystemProperty.FIREFOX_PROFILE,
+            ThucydidesSystemProperty.CHROME_SWITCHES,
+            ThucydidesSystemProperty.PROXY_URL,
+            ThucydidesSystemProperty.PROXY_PORT,
+            ThucydidesSystemProperty.SNAPSHOT_WIDTH,
+            ThucydidesSystemProperty.SNAPSHOT_HEIGHT
+    };
+
     public WebDriverFactory() {
         this(new WebdriverInstanceFactory(), Injectors.getInjector().getInstance(EnvironmentVariables.class));
     }
@@ -149,6 +165,18 @@ public class WebDriverFactory {
         return StringUtils.isNotEmpty(ThucydidesSystemProperty.SAUCELABS_URL.from(environmentVariables));
     }
 
+    /**
+     * Identifies the kind of browser this factory would create for a given driver class:
+     * two browsers with the same key can be used interchangeably.
+     */
+    public String getDriverConfigurationKey(final Class<? extends WebDriver> driverClass) {
+        StringBuilder key = new StringBuilder(driverClass.getName());
+        for (ThucydidesSystemProperty property : DRIVER_CONFIGURATION_PROPERTIES) {
+            key.append('|').append(property.from(environmentVariables, ""));
+        }
+        return key.toString();
+    }
+
     /**
      * This method is synchronized because multiple webdriver instances can be created in parallel.
      * However, they may use common system resources such as ports, so may potentially interfere
@@ -0,0 +1,259 @@
+package net.thucydides.core.webdriver;
+
+import com.google.common.collect.MapMaker;
+import com.google.inject.Inject;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of open browsers, shared by all test threads.
+ * Starting a browser is one of the slowest parts of a web test, so rather than closing a browser when a test
+ * is done with it, the browser is cleaned up and kept until another test asks for the same kind of browser.
+ * Browsers are pooled by driver type and driver configuration, and a browser is replaced by a new one
+ * after a given number of leases or if it no longer responds.
+ * Only cookies for the current domain and the storage of the current page can be cleared between leases.
+ */
+public class WebDriverPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverPool.class);
+
+    private static final int DEFAULT_POOL_SIZE = 4;
+    private static final int DEFAULT_MAX_LEASES = 20;
+
+    private static final String CLEAR_STORAGE_SCRIPT
+            = "try { if (window.localStorage) { window.localStorage.clear(); } } catch (e) {}"
+            + "try { if (window.sessionStorage) { window.sessionStorage.clear(); } } catch (e) {}";
+
+    private final boolean enabled;
+    private final int poolSize;
+    private final int maxLeases;
+
+    private final Map<String, LinkedList<PooledDriver>> idleDrivers = new HashMap<String, LinkedList<PooledDriver>>();
+    private int idleDriverCount = 0;
+    private final ConcurrentMap<WebDriver, PooledDriver> leasedDrivers = new MapMaker().weakKeys().makeMap();
+    private volatile boolean shutdownHookRegistered = false;
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong startups = new AtomicLong();
+    private final AtomicLong totalStartupTime = new AtomicLong();
+
+    @Inject
+    public WebDriverPool(EnvironmentVariables environmentVariables) {
+        this.enabled = environmentVariables.getPropertyAsBoolean(ThucydidesSystemProperty.THUCYDIDES_WEBDRIVER_POOL, false);
+        this.poolSize = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_WEBDRIVER_POOL_SIZE,
+                                                                  DEFAULT_POOL_SIZE);
+        this.maxLeases = environmentVariables.getPropertyAsInteger(ThucydidesSystemProperty.THUCYDIDES_WEBDRIVER_POOL_MAX_LEASES,
+                                                                   DEFAULT_MAX_LEASES);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Hand out an idle browser with the given configuration, or start a new one if there is none.
+     */
+    public WebDriver lease(final String configurationKey, final DriverSource driverSource) {
+        leases.incrementAndGet();
+        PooledDriver pooledDriver = idleDriverFor(configurationKey);
+        if (pooledDriver != null) {
+            hits.incrementAndGet();
+        } else {
+            pooledDriver = new PooledDriver(configurationKey, startNewDriver(driverSource));
+        }
+        pooledDriver.leaseCount++;
+        leasedDrivers.put(pooledDriver.driver, pooledDriver);
+        return pooledDriver.driver;
+    }
+
+    /**
+     * @return true if this driver was handed out by the pool, and should be given back rather than closed.
+     */
+    public boolean isLeased(final WebDriver driver) {
+        return (driver != null) && leasedDrivers.containsKey(driver);
+    }
+
+    /**
+     * Give a browser back to the pool. It is cleaned up so that the next test starts without the cookies or
+     * storage of this one, or closed if it has been used too often, does not respond, or the pool is full.
+     */
+    public void release(final WebDriver driver) {
+        PooledDriver pooledDriver = leasedDrivers.remove(driver);
+        if (pooledDriver == null) {
+            quitQuietly(driver);
+            return;
+        }
+        if (pooledDriver.leaseCount >= maxLeases || !cleanedUp(driver)) {
+            quitQuietly(driver);
+            return;
+        }
+        if (!returnToIdleDrivers(pooledDriver)) {
+            quitQuietly(driver);
+        }
+    }
+
+    /**
+     * Close all of the idle browsers.
+     */
+    public void shutdown() {
+        List<PooledDriver> driversToClose = new ArrayList<PooledDriver>();
+        synchronized (idleDrivers) {
+            for (LinkedList<PooledDriver> drivers : idleDrivers.values()) {
+                driversToClose.addAll(drivers);
+            }
+            idleDrivers.clear();
+            idleDriverCount = 0;
+        }
+        for (PooledDriver pooledDriver : driversToClose) {
+            quitQuietly(pooledDriver.driver);
+        }
+        if (leases.get() > 0) {
+            LOGGER.info("Browser pool: {} leases, {}% served by an open browser, about {} ms of browser startup time saved",
+                        new Object[]{leases.get(), getHitRate(), getStartupTimeSavedInMilliseconds()});
+        }
+    }
+
+    public long getLeaseCount() {
+        return leases.get();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the percentage of leases that were served by a browser that was already open.
+     */
+    public int getHitRate() {
+        long leaseCount = leases.get();
+        return (leaseCount == 0) ? 0 : (int) (hits.get() * 100 / leaseCount);
+    }
+
+    /**
+     * @return an estimate of the browser startup time saved by the pool, based on the average startup time
+     * of the browsers it has started.
+     */
+    public long getStartupTimeSavedInMilliseconds() {
+        long startupCount = startups.get();
+        if (startupCount == 0) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(totalStartupTime.get() / startupCount * hits.get());
+    }
+
+    private PooledDriver idleDriverFor(final String configurationKey) {
+        while (true) {
+            PooledDriver pooledDriver;
+            synchronized (idleDrivers) {
+                LinkedList<PooledDriver> drivers = idleDrivers.get(configurationKey);
+                if (drivers == null || drivers.isEmpty()) {
+                    return null;
+                }
+                pooledDriver = drivers.removeFirst();
+                idleDriverCount--;
+            }
+            if (isResponding(pooledDriver.driver)) {
+                return pooledDriver;
+            }
+            LOGGER.debug("Discarding a pooled browser that no longer responds");
+            quitQuietly(pooledDriver.driver);
+        }
+    }
+
+    private boolean returnToIdleDrivers(final PooledDriver pooledDriver) {
+        synchronized (idleDrivers) {
+            if (idleDriverCount >= poolSize) {
+                return false;
+            }
+            LinkedList<PooledDriver> drivers = idleDrivers.get(pooledDriver.configurationKey);
+            if (drivers == null) {
+                drivers = new LinkedList<PooledDriver>();
+                idleDrivers.put(pooledDriver.configurationKey, drivers);
+            }
+            drivers.addLast(pooledDriver);
+            idleDriverCount++;
+        }
+        registerShutdownHookIfNeeded();
+        return true;
+    }
+
+    private WebDriver startNewDriver(final DriverSource driverSource) {
+        long startTime = System.nanoTime();
+        WebDriver driver = driverSource.newDriver();
+        startups.incrementAndGet();
+        totalStartupTime.addAndGet(System.nanoTime() - startTime);
+        return driver;
+    }
+
+    private boolean cleanedUp(final WebDriver driver) {
+        try {
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not clean up a browser for reuse: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isResponding(final WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void quitQuietly(final WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Error while quitting a browser: {}", e.getMessage());
+        }
+    }
+
+    private void registerShutdownHookIfNeeded() {
+        if (!shutdownHookRegistered) {
+            synchronized (this) {
+                if (!shutdownHookRegistered) {
+                    Runtime.getRuntime().addShutdownHook(new Thread("thucydides-webdriver-pool-shutdown") {
+                        @Override
+                        public void run() {
+                            shutdown();
+                        }
+                    });
+                    shutdownHookRegistered = true;
+                }
+            }
+        }
+    }
+
+    private static class PooledDriver {
+        private final String configurationKey;
+        private final WebDriver driver;
+        private int leaseCount = 0;
+
+        private PooledDriver(final String configurationKey, final WebDriver driver) {
+            this.configurationKey = configurationKey;
+            this.driver = driver;
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import net.thucydides.core.pages.jquery.JQueryEnabledPage;
 import net.thucydides.core.webdriver.WebDriverFacade;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -21,6 +20,8 @@ import static net.thucydides.core.webdriver.javascript.JavascriptSupport.javascr
  * Simple encapsulation of Javascript execution.
  */
 public class JavascriptExecutorFacade {
+    private static final String CYCLE_JS_MISSING = "__thucydides_cycle_js_missing__";
+
     private WebDriver driver;
     private ObjectMapper mapper;
     private InjectableValues inject;
@@ -61,10 +62,19 @@ public class JavascriptExecutorFacade {
         }
     }
     
+    /**
+     * The script checks for cycle.js itself, so that the library is only sent when the page does not define it yet,
+     * without an extra round trip in the usual case.
+     */
     private String executeAndGetJsonAsString(final String script, final Object... params){
-    	JQueryEnabledPage jQueryEnabledPage = JQueryEnabledPage.withDriver(getRealDriver());
-        jQueryEnabledPage.injectJavaScriptUtils();
-    	return (String)executeScript("return JSON.stringify(JSON.decycle(function(arguments){"+ script + "}(arguments)));", params);
+        String jsonScript = "if (!" + JavascriptInjector.definitionCheckFor(JavascriptInjector.CYCLE) + ") { return '" + CYCLE_JS_MISSING + "'; }"
+                            + " return JSON.stringify(JSON.decycle(function(arguments){"+ script + "}(arguments)));";
+        Object result = executeScript(jsonScript, params);
+        if (CYCLE_JS_MISSING.equals(result)) {
+            new JavascriptInjector(this).inject(JavascriptInjector.CYCLE);
+            result = executeScript(jsonScript, params);
+        }
+    	return (String) result;
     }    
     
     private <T> T deserializeJsonAs(Class<T> classOfT, final String objString){
@@ -0,0 +1,72 @@
+package net.thucydides.core.webdriver.javascript;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Adds Javascript libraries from the classpath to the current page, but only if the page does not already
+ * define them. Scripts are wiped out whenever a new page is loaded, so rather than remembering what was injected,
+ * the page is asked first: this costs a short round trip, where sending a library such as jQuery again
+ * would mean sending around 90 KB to the browser.
+ */
+public class JavascriptInjector {
+
+    public static final String JQUERY = "jquery/jquery.min.js";
+    public static final String CYCLE = "javascript/cycle.js";
+
+    /**
+     * Scripts that a page may also define itself, and how to tell if they are there.
+     */
+    private static final Map<String, String> DEFINITION_CHECKS
+            = ImmutableMap.of(JQUERY, "typeof jQuery === 'function'",
+                              CYCLE, "typeof JSON.decycle === 'function'");
+
+    private static final String INJECTED_SCRIPTS = "window.__thucydidesInjectedScripts";
+
+    private final JavascriptExecutorFacade javascriptExecutorFacade;
+
+    public JavascriptInjector(final JavascriptExecutorFacade javascriptExecutorFacade) {
+        this.javascriptExecutorFacade = javascriptExecutorFacade;
+    }
+
+    /**
+     * @return true if the script had to be sent to the page.
+     */
+    public boolean injectIfMissing(final String resourcePath) {
+        if (isDefinedInPage(resourcePath)) {
+            return false;
+        }
+        inject(resourcePath);
+        return true;
+    }
+
+    /**
+     * Send a script to the page without checking whether the page already defines it.
+     */
+    public void inject(final String resourcePath) {
+        javascriptExecutorFacade.executeScript(injectableFormOf(resourcePath));
+    }
+
+    public boolean isDefinedInPage(final String resourcePath) {
+        Object result = javascriptExecutorFacade.executeScript("return " + definitionCheckFor(resourcePath) + ";");
+        return Boolean.TRUE.equals(result);
+    }
+
+    /**
+     * A script expression that is true when the page already defines the script.
+     */
+    public static String definitionCheckFor(final String resourcePath) {
+        String injectionCheck = "(!!" + INJECTED_SCRIPTS + " && " + INJECTED_SCRIPTS + "['" + resourcePath + "'] === true)";
+        if (DEFINITION_CHECKS.containsKey(resourcePath)) {
+            return "(" + DEFINITION_CHECKS.get(resourcePath) + " || " + injectionCheck + ")";
+        }
+        return injectionCheck;
+    }
+
+    private String injectableFormOf(final String resourcePath) {
+        return JavascriptResources.contentOf(resourcePath)
+                + "\n;" + INJECTED_SCRIPTS + " = " + INJECTED_SCRIPTS + " || {};"
+                + INJECTED_SCRIPTS + "['" + resourcePath + "'] = true;";
+    }
+}
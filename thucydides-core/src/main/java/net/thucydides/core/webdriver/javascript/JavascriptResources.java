@@ -0,0 +1,38 @@
+package net.thucydides.core.webdriver.javascript;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Javascript files loaded from the classpath. Each file is only read once per JVM.
+ */
+public class JavascriptResources {
+
+    private static final ConcurrentMap<String, String> SCRIPTS = new ConcurrentHashMap<String, String>();
+
+    public static String contentOf(final String resourcePath) {
+        String script = SCRIPTS.get(resourcePath);
+        if (script == null) {
+            script = load(resourcePath);
+            SCRIPTS.putIfAbsent(resourcePath, script);
+        }
+        return script;
+    }
+
+    private static String load(final String resourcePath) {
+        URL fileUrl = JavascriptResources.class.getClassLoader().getResource(resourcePath);
+        if (fileUrl == null) {
+            throw new IllegalArgumentException("Javascript resource not found on the classpath: " + resourcePath);
+        }
+        try {
+            return Resources.toString(fileUrl, Charsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
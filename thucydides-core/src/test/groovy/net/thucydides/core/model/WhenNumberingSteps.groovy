@@ -88,4 +88,150 @@ class WhenNumberingSteps extends Specification {
 
     }
 
-}
\ No newline at end of file
+    def "should number steps recorded in nested step groups in the order they appear"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+        when:
+            outcome.recordStep(new TestStep("group"))
+            outcome.startGroup()
+            outcome.recordStep(new TestStep("nested group"))
+            outcome.startGroup()
+            outcome.recordStep(new TestStep("nested step"))
+            outcome.endGroup()
+            outcome.recordStep(new TestStep("nested step"))
+            outcome.endGroup()
+            outcome.recordStep(new TestStep("top-level step"))
+        then:
+            outcome.flattenedTestSteps.collect {it.number} == [1,2,3,4,5]
+    }
+
+    def "should update the step counts and result as steps are recorded"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+        when:
+            outcome.recordStep(TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS))
+            outcome.recordStep(TestStep.forStepCalled("step 2").withResult(TestResult.SUCCESS))
+        then:
+            outcome.result == TestResult.SUCCESS
+            outcome.successCount == 2
+        when:
+            outcome.recordStep(TestStep.forStepCalled("step 3").withResult(TestResult.FAILURE))
+        then:
+            outcome.result == TestResult.FAILURE
+            outcome.successCount == 2
+            outcome.failureCount == 1
+            outcome.nestedStepCount == 3
+    }
+
+    def "should update the result when a recorded step changes"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+            def step = TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS)
+            outcome.recordStep(step)
+        when:
+            outcome.result
+            step.setResult(TestResult.ERROR)
+        then:
+            outcome.result == TestResult.ERROR
+            outcome.errorCount == 1
+    }
+
+    def "should update the result when a nested step changes"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+            def nestedStep = TestStep.forStepCalled("nested step").withResult(TestResult.SUCCESS)
+            outcome.recordStep(TestStep.forStepCalled("group").withResult(TestResult.SUCCESS))
+            outcome.startGroup()
+            outcome.recordStep(TestStep.forStepCalled("nested group").withResult(TestResult.SUCCESS))
+            outcome.startGroup()
+            outcome.recordStep(nestedStep)
+            outcome.endGroup()
+            outcome.endGroup()
+        when:
+            outcome.result
+            nestedStep.setResult(TestResult.FAILURE)
+        then:
+            outcome.result == TestResult.FAILURE
+            outcome.testSteps[0].result == TestResult.FAILURE
+            outcome.failureCount == 1
+            outcome.successCount == 0
+            outcome.nestedStepCount == 3
+    }
+
+    def "should keep copies of an outcome that share its steps up to date"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+            def step = TestStep.forStepCalled("step 1").withResult(TestResult.SUCCESS)
+            outcome.recordStep(step)
+            def copy = outcome.withQualifier("copy")
+        when:
+            outcome.result
+            copy.result
+            step.setResult(TestResult.ERROR)
+        then:
+            outcome.result == TestResult.ERROR
+            copy.result == TestResult.ERROR
+            copy.errorCount == 1
+    }
+
+    def "should count a failing step added after the last nested step"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+            outcome.recordStep(TestStep.forStepCalled("group").withResult(TestResult.SUCCESS))
+            outcome.startGroup()
+            outcome.recordStep(TestStep.forStepCalled("nested step").withResult(TestResult.SUCCESS))
+            outcome.endGroup()
+        when:
+            outcome.successCount
+            outcome.addFailingExternalStep(new AssertionError("Oops"))
+        then:
+            outcome.testSteps.size() == 1
+            outcome.testSteps[0].children.size() == 2
+            outcome.failureCount == 1
+            outcome.nestedStepCount == 3
+            outcome.result == TestResult.FAILURE
+    }
+
+    def "should number and count every step of a very large outcome"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+        when:
+            (1..100).each { group ->
+                outcome.recordStep(TestStep.forStepCalled("group ${group}").withResult(TestResult.SUCCESS))
+                outcome.startGroup()
+                (1..99).each { step ->
+                    def result = (step % 33 == 0) ? TestResult.IGNORED : TestResult.SUCCESS
+                    outcome.recordStep(TestStep.forStepCalled("step ${step}").withResult(result))
+                    outcome.result
+                }
+                outcome.endGroup()
+            }
+            outcome.addFailingExternalStep(new AssertionError("Oops"))
+        then:
+            outcome.flattenedTestSteps*.number == (1..10001).toList()
+            outcome.nestedStepCount == 10001
+            outcome.countTestSteps() == 9901
+            outcome.successCount == 9600
+            outcome.ignoredCount == 300
+            outcome.failureCount == 1
+            outcome.result == TestResult.FAILURE
+    }
+
+    def "should keep the step counts up to date when a failing step is added to a given list of steps"() {
+        given:
+            def outcome = new TestOutcome("some_method")
+            outcome.recordStep(TestStep.forStepCalled("group").withResult(TestResult.SUCCESS))
+            outcome.startGroup()
+            outcome.recordStep(TestStep.forStepCalled("nested step").withResult(TestResult.SUCCESS))
+            outcome.endGroup()
+        when:
+            outcome.successCount
+            outcome.addFailingStepAsSibling(outcome.testSteps, new AssertionError("Oops"))
+        then:
+            outcome.testSteps.size() == 1
+            outcome.testSteps[0].children.size() == 2
+            outcome.flattenedTestSteps.last().number == 3
+            outcome.failureCount == 1
+            outcome.result == TestResult.FAILURE
+    }
+}
@@ -1,5 +1,6 @@
 package net.thucydides.core.reports
 
+import com.github.goldin.spock.extensions.tempdir.TempDir
 import net.thucydides.core.model.TestOutcome
 import net.thucydides.core.model.TestResult
 import net.thucydides.core.model.TestTag
@@ -36,6 +37,37 @@ class WhenProcessingTestOutcomes extends Specification {
             testOutcomes.size() == 3
     }
 
+    def "should load test outcomes in the same order whatever the number of loader threads"() {
+        given:
+            def sequentialEnvironment = new MockEnvironmentVariables()
+            sequentialEnvironment.setProperty("thucydides.report.loader.threads", "1")
+            def parallelEnvironment = new MockEnvironmentVariables()
+            parallelEnvironment.setProperty("thucydides.report.loader.threads", "4")
+        when:
+            def sequentialOutcomes = new TestOutcomeLoader(sequentialEnvironment).loadFrom(directoryInClasspathCalled("/tagged-test-outcomes"))
+            def parallelOutcomes = new TestOutcomeLoader(parallelEnvironment).loadFrom(directoryInClasspathCalled("/tagged-test-outcomes"))
+        then:
+            parallelOutcomes.collect { it.title } == sequentialOutcomes.collect { it.title }
+    }
+
+    @TempDir File reportDirectory
+
+    def "should skip corrupt report files without aborting the load"() {
+        given:
+            directoryInClasspathCalled("/tagged-test-outcomes").listFiles().each { file ->
+                if (file.isFile()) {
+                    new File(reportDirectory, file.name).bytes = file.bytes
+                }
+            }
+            new File(reportDirectory, "corrupt.xml").text = "<acceptance-test-run><not-finished"
+            environmentVariables.setProperty("thucydides.report.loader.threads", "4")
+            def loader = new TestOutcomeLoader(environmentVariables)
+        when:
+            List<TestOutcome> testOutcomes = loader.loadFrom(reportDirectory)
+        then:
+            testOutcomes.size() == 3
+    }
+
     def "should not load test outcome from an invalid directory"() {
         when:
             loader.loadFrom(new File("/does-not-exist"))
@@ -115,6 +147,55 @@ class WhenProcessingTestOutcomes extends Specification {
             tagTypes == ["epic","story"] as Set
     }
 
+    class SomeTestScenario {
+        public void first_test() {}
+        public void second_test() {}
+        public void third_test() {}
+    }
+
+    def outcomeTagged(String methodName, List<String> tags) {
+        def outcome = TestOutcome.forTest(methodName, SomeTestScenario)
+        outcome.setTags(tags.collect { TestTag.withValue(it) } as Set)
+        outcome
+    }
+
+    def "should list each test only once when several of its tags match"() {
+        given:
+            def outcome = outcomeTagged("first_test", ["feature:Shopping", "story:shopping", "story:paying"])
+            def testOutcomes = TestOutcomes.of([outcome])
+        expect:
+            testOutcomes.withTag("shopping").tests == [outcome]
+            testOutcomes.withTagType("story").tests == [outcome]
+    }
+
+    def "should keep the original order of the tests when filtering by tag"() {
+        given:
+            def first = outcomeTagged("first_test", ["story:a story"])
+            def second = outcomeTagged("second_test", ["story:another story"])
+            def third = outcomeTagged("third_test", ["story:a story", "feature:a feature"])
+            def testOutcomes = TestOutcomes.of([first, second, third])
+        expect:
+            testOutcomes.withTag("A Story").tests == [first, third]
+            testOutcomes.withTagType("story").tests == [first, second, third]
+            testOutcomes.withTag(TestTag.withValue("feature:a feature")).tests == [third]
+            testOutcomes.withTag("no such tag").tests == []
+    }
+
+    def "should filter subsets of test outcomes using their own tags"() {
+        given:
+            def first = outcomeTagged("first_test", ["story:a story", "feature:a feature"])
+            def second = outcomeTagged("second_test", ["story:another story", "feature:a feature"])
+            def third = outcomeTagged("third_test", ["story:a story", "feature:another feature"])
+            def testOutcomes = TestOutcomes.of([first, second, third])
+        when:
+            def featureOutcomes = testOutcomes.withTag("a feature")
+        then:
+            featureOutcomes.withTag("a story").tests == [first]
+            featureOutcomes.tagNames == ["a feature", "a story", "another story"]
+            featureOutcomes.withLabel("features").withTag("another story").tests == [second]
+            featureOutcomes.rootOutcomes.tests == [first, second, third]
+    }
+
     def "should list tests in alphabetical order"() {
         given:
             TestOutcomes testOutcomes = TestOutcomeLoader.testOutcomesIn(directoryInClasspathCalled("/tagged-test-outcomes"));
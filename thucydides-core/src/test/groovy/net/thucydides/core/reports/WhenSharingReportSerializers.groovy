@@ -0,0 +1,74 @@
+package net.thucydides.core.reports
+
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.model.TestResult
+import net.thucydides.core.model.TestStep
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class WhenSharingReportSerializers extends Specification {
+
+    class SomeTestScenario {
+        public void a_simple_test_case() {}
+    }
+
+    def "should reuse the same configured serializers"() {
+        expect:
+            SerializerRegistry.testOutcomeXStream().is(SerializerRegistry.testOutcomeXStream())
+            SerializerRegistry.testOutcomeGson().is(SerializerRegistry.testOutcomeGson())
+            SerializerRegistry.historyXStream().is(SerializerRegistry.historyXStream())
+    }
+
+    def "should produce the same XML report from several threads at once"() {
+        given:
+            def xstream = SerializerRegistry.testOutcomeXStream()
+            def outcome = anOutcome()
+            def expectedXml = xstream.toXML(outcome)
+            def executor = Executors.newFixedThreadPool(8)
+        when:
+            def tasks = (1..100).collect { { -> xstream.toXML(outcome) } as Callable<String> }
+            def results = executor.invokeAll(tasks).collect { it.get() }
+        then:
+            results.every { it == expectedXml }
+        cleanup:
+            executor.shutdown()
+    }
+
+    def "should read back XML reports written from several threads at once"() {
+        given:
+            def xstream = SerializerRegistry.testOutcomeXStream()
+            def executor = Executors.newFixedThreadPool(8)
+        when:
+            def tasks = (1..100).collect { { -> (TestOutcome) xstream.fromXML(xstream.toXML(anOutcome())) } as Callable<TestOutcome> }
+            def results = executor.invokeAll(tasks).collect { it.get() }
+        then:
+            results.every { it.title == "A simple test case" && it.result == TestResult.SUCCESS }
+        cleanup:
+            executor.shutdown()
+    }
+
+    def "should produce the same JSON report from several threads at once"() {
+        given:
+            def gson = SerializerRegistry.testOutcomeGson()
+            def outcome = anOutcome()
+            def expectedJson = gson.toJson(outcome)
+            def executor = Executors.newFixedThreadPool(8)
+        when:
+            def tasks = (1..100).collect { { -> gson.toJson(outcome) } as Callable<String> }
+            def results = executor.invokeAll(tasks).collect { it.get() }
+        then:
+            results.every { it == expectedJson }
+        cleanup:
+            executor.shutdown()
+    }
+
+    def anOutcome() {
+        def outcome = TestOutcome.forTest("a_simple_test_case", SomeTestScenario.class)
+        def step = new TestStep("step 1")
+        step.setResult(TestResult.SUCCESS)
+        outcome.recordStep(step)
+        outcome
+    }
+}
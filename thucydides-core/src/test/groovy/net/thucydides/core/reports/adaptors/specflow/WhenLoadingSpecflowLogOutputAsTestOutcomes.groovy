@@ -225,6 +225,23 @@ class WhenLoadingSpecflowLogOutputAsTestOutcomes extends Specification {
                         TestResult.FAILURE, TestResult.FAILURE, TestResult.FAILURE, TestResult.SUCCESS]
     }
 
+    def "should read long logs one scenario at a time"() {
+        given:
+            def specflowOutput = new File(tmp, "long-specflow-output.out")
+            specflowOutput.withWriter { writer ->
+                (1..500).each { scenario ->
+                    writer << simpleSpecflowOutput.replace("MyScenario", "MyScenario" + scenario)
+                }
+            }
+            TestOutcomeAdaptor specflowLoader = new SpecflowAdaptor()
+        when:
+            def testOutcomes = specflowLoader.loadOutcomesFrom(specflowOutput)
+        then:
+            testOutcomes.size() == 500
+            testOutcomes.every { it.testSteps.size() == 3 }
+            testOutcomes.collect { it.title }.toSet().size() == 500
+    }
+
     @TempDir File tmp
 
     def fileFrom(def contents) {
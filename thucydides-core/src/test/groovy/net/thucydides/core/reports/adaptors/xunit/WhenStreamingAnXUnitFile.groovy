@@ -0,0 +1,96 @@
+package net.thucydides.core.reports.adaptors.xunit
+
+import net.thucydides.core.model.Story
+import net.thucydides.core.model.TestOutcome
+import net.thucydides.core.reports.adaptors.common.ParallelOutcomeLoader
+import net.thucydides.core.reports.adaptors.xunit.model.TestCase
+import net.thucydides.core.reports.adaptors.xunit.model.TestSuite
+import spock.lang.Specification
+
+import static net.thucydides.core.util.TestResources.fileInClasspathCalled
+
+class WhenStreamingAnXUnitFile extends Specification {
+
+    def xunitLoader = new StreamingXUnitLoader()
+
+    def "should load an xUnit file as a TestSuite"() {
+        given:
+            def xunitFileSource = fileInClasspathCalled("/xunit/singleTestCase.xml")
+        when:
+            TestSuite testSuite = xunitLoader.loadFrom(xunitFileSource)[0]
+        then:
+            testSuite.name == "aTestSuite"
+            testSuite.testCases.size() == 1
+            testSuite.testCases[0].classname == "SomeTestClass"
+            testSuite.testCases[0].name == "should_do_something"
+            testSuite.testCases[0].time == 1.0
+    }
+
+    def "should read the same test cases as the DOM-based loader"() {
+        given:
+            def xunitFileSource = fileInClasspathCalled("/xunit/" + file)
+        when:
+            TestCase streamed = xunitLoader.loadFrom(xunitFileSource)[0].testCases[0]
+            TestCase loaded = new BasicXUnitLoader().loadFrom(xunitFileSource)[0].testCases[0]
+        then:
+            streamed.name == loaded.name
+            streamed.classname == loaded.classname
+            streamed.time == loaded.time
+            streamed.failure.isPresent() == loaded.failure.isPresent()
+            streamed.error.isPresent() == loaded.error.isPresent()
+            streamed.skipped.isPresent() == loaded.skipped.isPresent()
+            streamed.failure.orNull()?.errorOutput == loaded.failure.orNull()?.errorOutput
+            streamed.error.orNull()?.message == loaded.error.orNull()?.message
+        where:
+            file << ["singleTestCase.xml", "multipleTestCases.xml", "failingTestCase.xml",
+                     "errorTestCase.xml", "skippedTestCase.xml"]
+    }
+
+    def "should pass each test case to the handler as it is read"() {
+        given:
+            def xunitFileSource = fileInClasspathCalled("/xunit/multipleTestCases.xml")
+            def events = []
+            def handler = new TestCaseHandler() {
+                void testSuiteStarted(String name) { events << "start " + name }
+
+                void testCaseRead(TestCase testCase) { events << "case " + testCase.name }
+
+                void testSuiteFinished(String name) { events << "end " + name }
+            }
+        when:
+            xunitLoader.readFrom(xunitFileSource, handler)
+        then:
+            events.size() == 4
+            events.first() == "start aTestSuite"
+            events.last() == "end aTestSuite"
+    }
+
+    def "should throw CouldNotReadXUnitFileException if the file is not an xUnit file"() {
+        when:
+            xunitLoader.loadFrom(fileInClasspathCalled("/xunit/badlyFormedTestCase.xml"))
+        then:
+            thrown(CouldNotReadXUnitFileException)
+    }
+
+    def "should throw CouldNotReadXUnitFileException if the file can't be found"() {
+        when:
+            xunitLoader.loadFrom(new File("does-not-exist.xml"))
+        then:
+            thrown(CouldNotReadXUnitFileException)
+    }
+
+    def "should load the outcomes of several files in parallel, in the order of the files"() {
+        given:
+            def files = (1..20).collect { new File("file-" + it) } as File[]
+            def reader = new ParallelOutcomeLoader.OutcomeFileReader() {
+                List<TestOutcome> testOutcomesIn(File sourceFile) {
+                    Thread.sleep(new Random().nextInt(10))
+                    [TestOutcome.forTestInStory(sourceFile.name, Story.called("story"))]
+                }
+            }
+        when:
+            def outcomes = new ParallelOutcomeLoader(reader, 4).loadOutcomesFrom(files)
+        then:
+            outcomes.collect { it.methodName } == (1..20).collect { "file-" + it }
+    }
+}
@@ -2,6 +2,9 @@ package net.thucydides.core.reports.renderer
 
 import spock.lang.Specification
 
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
 class WhenRenderingAsciidocText extends Specification {
 
     def "should render asciidoc as HTML"() {
@@ -12,4 +15,37 @@ class WhenRenderingAsciidocText extends Specification {
         then:
             renderedText == "some <strong>bold</strong> text"
     }
+
+    def "should only render the same text once"() {
+        given:
+            def renderingService = new AsciidocRenderingService(1)
+            def markupRenderer = new AsciidocMarkupRenderer(renderingService)
+        when:
+            def firstRendering = markupRenderer.render("some *bold* text")
+            def secondRendering = markupRenderer.render("some *bold* text")
+            markupRenderer.render("some _other_ text")
+        then:
+            firstRendering == "some <strong>bold</strong> text"
+            secondRendering == firstRendering
+            renderingService.renderCount == 2
+    }
+
+    def "should render text from several threads at once"() {
+        given:
+            def renderingService = new AsciidocRenderingService(2)
+            def markupRenderer = new AsciidocMarkupRenderer(renderingService)
+            def executor = Executors.newFixedThreadPool(4)
+            renderingService.warmUp()
+        when:
+            def renderings = (0..39).collect { index ->
+                executor.submit({ markupRenderer.render("text *number ${index % 10}*") } as Callable<String>)
+            }
+            def renderedTexts = renderings.collect { it.get() }
+        then:
+            renderedTexts[3] == "text <strong>number 3</strong>"
+            renderedTexts.unique().size() == 10
+            renderingService.renderCount == 10
+        cleanup:
+            executor.shutdown()
+    }
 }
@@ -11,6 +11,7 @@ import net.thucydides.core.requirements.stories.grow_potatoes.ASampleTestWithACa
 import net.thucydides.core.requirements.stories.grow_potatoes.another_package.ASampleTestInAnotherPackage
 import net.thucydides.core.requirements.stories.grow_potatoes.grow_new_potatoes.ASampleNestedTestWithACapability
 import net.thucydides.core.requirements.stories.nocapacities.ASampleTestWithNoCapability
+import net.thucydides.core.statistics.service.TagResolutionStatistics
 import net.thucydides.core.util.EnvironmentVariables
 import net.thucydides.core.util.MockEnvironmentVariables
 import spock.lang.Specification
@@ -42,6 +43,35 @@ class WhenAssociatingATestOutcomeWithARequirement extends Specification {
                                                            TestTag.withName("Grow new potatoes").andType("feature")]  as Set
     }
 
+    def "Should only search the requirements once for test cases from the same story"() {
+        given: "We are using the default requirements provider"
+            EnvironmentVariables vars = new MockEnvironmentVariables();
+            vars.setProperty("thucydides.test.root","net.thucydides.core.requirements.stories")
+            FileSystemRequirementsTagProvider capabilityProvider = new FileSystemRequirementsTagProvider("stories", 0, vars);
+            TagResolutionStatistics.reset()
+        when: "We find the tags for several test cases in the same test class"
+            def firstTags = capabilityProvider.getTagsFor(new TestOutcome("someTest",ASampleNestedTestWithACapability))
+            def secondTags = capabilityProvider.getTagsFor(new TestOutcome("someOtherTest",ASampleNestedTestWithACapability))
+        then: "the tags are the same"
+            firstTags == [TestTag.withName("Grow potatoes").andType("capability"),
+                          TestTag.withName("Grow new potatoes").andType("feature")]  as Set
+            secondTags == firstTags
+        and: "the second lookup reuses the tags found for the first one"
+            TagResolutionStatistics.cacheMisses == 1
+            TagResolutionStatistics.cacheHits == 1
+    }
+
+    def "Should find a requirement for a tag whatever the case"() {
+        given: "We are using the default requirements provider"
+            EnvironmentVariables vars = new MockEnvironmentVariables();
+            FileSystemRequirementsTagProvider capabilityProvider = new FileSystemRequirementsTagProvider("stories", 0, vars);
+        when:
+            def requirement = capabilityProvider.getRequirementFor(TestTag.withName("grow new potatoes").andType("Feature"))
+        then:
+            requirement.isPresent()
+            requirement.get().name == "Grow new potatoes"
+    }
+
     def "Should associate a nested test case to the nearest above capacity"() {
         given: "We are using the default requirements provider"
             EnvironmentVariables vars = new MockEnvironmentVariables();
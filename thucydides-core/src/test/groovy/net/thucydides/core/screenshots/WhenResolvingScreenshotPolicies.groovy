@@ -0,0 +1,94 @@
+package net.thucydides.core.screenshots
+
+import net.thucydides.core.annotations.BlurScreenshots
+import net.thucydides.core.annotations.Screenshots
+import net.thucydides.core.model.ScreenshotPermission
+import net.thucydides.core.model.TakeScreenshots
+import net.thucydides.core.steps.StepEventBus
+import net.thucydides.core.webdriver.Configuration
+import spock.lang.Specification
+
+import java.lang.reflect.Method
+
+class WhenResolvingScreenshotPolicies extends Specification {
+
+    static class AnnotatedSteps {
+        @Screenshots(onlyOnFailures = true)
+        void onlyOnFailures() {}
+
+        @BlurScreenshots("LIGHT")
+        void lightlyBlurred() {}
+
+        @Screenshots(forEachAction = true)
+        @BlurScreenshots("HEAVY")
+        void verboseAndHeavilyBlurred() {}
+
+        void notAnnotated() {}
+    }
+
+    def eventBus = StepEventBus.eventBus
+
+    def cleanup() {
+        eventBus.clear()
+    }
+
+    Method step(String name) {
+        AnnotatedSteps.getDeclaredMethod(name)
+    }
+
+    def "should read the screenshot and blur levels from the method annotations"() {
+        when:
+            def policy = ScreenshotPolicy.forMethod(step("verboseAndHeavilyBlurred"))
+        then:
+            policy.screenshotLevel.get() == TakeScreenshots.FOR_EACH_ACTION
+            policy.blurLevel.get() == BlurLevel.HEAVY
+    }
+
+    def "a method without annotations should not define a policy"() {
+        when:
+            def policy = ScreenshotPolicy.forMethod(step("notAnnotated"))
+        then:
+            !policy.screenshotLevel.isPresent()
+            !policy.blurLevel.isPresent()
+    }
+
+    def "a nested step should inherit the values it does not override"() {
+        when:
+            def policy = ScreenshotPolicy.forMethod(step("lightlyBlurred"))
+                                         .within(ScreenshotPolicy.forMethod(step("verboseAndHeavilyBlurred")))
+        then:
+            policy.screenshotLevel.get() == TakeScreenshots.FOR_EACH_ACTION
+            policy.blurLevel.get() == BlurLevel.LIGHT
+    }
+
+    def "the policy of the current step should be available on the event bus"() {
+        when:
+            eventBus.stepMethodEntered(step("onlyOnFailures"))
+            eventBus.stepMethodEntered(step("lightlyBlurred"))
+        then:
+            eventBus.currentScreenshotPolicy.get().screenshotLevel.get() == TakeScreenshots.FOR_FAILURES
+            eventBus.currentScreenshotPolicy.get().blurLevel.get() == BlurLevel.LIGHT
+        when:
+            eventBus.stepMethodExited()
+        then:
+            eventBus.currentScreenshotPolicy.get().screenshotLevel.get() == TakeScreenshots.FOR_FAILURES
+            !eventBus.currentScreenshotPolicy.get().blurLevel.isPresent()
+        when:
+            eventBus.stepMethodExited()
+        then:
+            !eventBus.currentScreenshotPolicy.isPresent()
+    }
+
+    @BlurScreenshots("HEAVY")
+    def "screenshot decisions made during a step should use the policy of the step rather than the call stack"() {
+        given:
+            def configuration = Mock(Configuration)
+            configuration.takeVerboseScreenshots() >> true
+        when:
+            eventBus.stepMethodEntered(step("onlyOnFailures"))
+        then:
+            new ScreenshotBlurCheck().blurLevel().get() == BlurLevel.HEAVY
+            !new ScreenshotPermission(configuration).areAllowed(TakeScreenshots.AFTER_EACH_STEP)
+            new ScreenshotPermission(configuration).areAllowed(TakeScreenshots.FOR_FAILURES)
+    }
+}
@@ -1,7 +1,9 @@
 package net.thucydides.core.screenshots.integration
 
 import com.google.common.io.Files
+import net.thucydides.core.screenshots.MultithreadScreenshotProcessor
 import net.thucydides.core.screenshots.QueuedScreenshot
+import net.thucydides.core.screenshots.ScreenshotProcessorProvider
 import net.thucydides.core.screenshots.SingleThreadScreenshotProcessor
 import net.thucydides.core.util.EnvironmentVariables
 import net.thucydides.core.util.MockEnvironmentVariables
@@ -76,4 +78,57 @@ class WhenProcessingScreenshots extends Specification {
             assert targetDirectory.list().size() == 100
     }
 
+    def "should process queued screenshots using several threads"() {
+        given:
+            def screenshotProcessor = new MultithreadScreenshotProcessor(environmentVariables, 4)
+        when:
+            (1..10).each {
+                def screenshotFile = copySourceScreenshot(sourceDirectory)
+                def targetFile = new File(targetDirectory,"screenshot-${it}.png")
+                screenshotProcessor.queueScreenshot(new QueuedScreenshot(screenshotFile,targetFile))
+            }
+            screenshotProcessor.waitUntilDone()
+        then:
+            assert (screenshotProcessor.isEmpty())
+            assert targetDirectory.list().size() == 10
+    }
+
+    @Timeout(30)
+    def "should process screenshots queued from parallel tests using several threads"() {
+        given:
+            def screenshotProcessor = new MultithreadScreenshotProcessor(environmentVariables, 2)
+        when:
+            def threads = (1..5).collect { i ->
+                Thread.start {
+                    (1..20).each {
+                        def screenshotFile = copySourceScreenshot(sourceDirectory)
+                        def targetFile = new File(targetDirectory,"screenshot-${i}-${it}.png")
+                        screenshotProcessor.queueScreenshot(new QueuedScreenshot(screenshotFile,targetFile))
+                    }
+                    screenshotProcessor.waitUntilDone()
+                }
+            }
+            threads.each { it.join() }
+            screenshotProcessor.waitUntilDone()
+        then:
+            assert (screenshotProcessor.isEmpty())
+            assert targetDirectory.list().size() == 100
+    }
+
+    def "should use a single screenshot thread by default"() {
+        when:
+            def screenshotProcessor = new ScreenshotProcessorProvider(environmentVariables).get()
+        then:
+            screenshotProcessor instanceof SingleThreadScreenshotProcessor
+    }
+
+    def "should use a multithread screenshot processor if requested"() {
+        given:
+            environmentVariables.setProperty("thucydides.screenshot.processor","multithread")
+        when:
+            def screenshotProcessor = new ScreenshotProcessorProvider(environmentVariables).get()
+        then:
+            screenshotProcessor instanceof MultithreadScreenshotProcessor
+    }
+
 }
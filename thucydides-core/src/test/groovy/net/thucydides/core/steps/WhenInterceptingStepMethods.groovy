@@ -0,0 +1,83 @@
+package net.thucydides.core.steps
+
+import net.thucydides.core.annotations.Pending
+import net.thucydides.core.annotations.Step
+import net.thucydides.core.steps.samples.FlatScenarioStepsWithoutPages
+import org.junit.Ignore
+import spock.lang.Specification
+
+import java.lang.reflect.Method
+
+class WhenInterceptingStepMethods extends Specification {
+
+    static class SampleSteps {
+        @Step("Enter the name #name")
+        void enterName(String name) {}
+
+        @Step
+        @Pending
+        void somethingPending() {}
+
+        @Step
+        @Ignore
+        void somethingIgnored() {}
+
+        void notAStep() {}
+    }
+
+    Method method(String name) {
+        SampleSteps.declaredMethods.find { it.name == name }
+    }
+
+    def "should read the step annotations of a method"() {
+        when:
+            def metadata = StepMethodMetadata.of(method("enterName"))
+        then:
+            metadata.isATestStep()
+            !metadata.isPending()
+            !metadata.isIgnored()
+            metadata.stepTitleTemplate == "Enter the name #name"
+    }
+
+    def "should read the pending and ignored flags of a step"() {
+        expect:
+            StepMethodMetadata.of(method("somethingPending")).isPending()
+            StepMethodMetadata.of(method("somethingIgnored")).isIgnored()
+            !StepMethodMetadata.of(method("notAStep")).isATestStep()
+    }
+
+    def "should only work out the metadata of a method once"() {
+        expect:
+            StepMethodMetadata.of(method("enterName")).is(StepMethodMetadata.of(method("enterName")))
+    }
+
+    def "should run methods from Object and from other domains as base class methods"() {
+        expect:
+            StepMethodMetadata.of(Object.getMethod("toString")).isBaseClassMethodFor(SampleSteps)
+            StepMethodMetadata.of(ArrayList.getMethod("size")).isBaseClassMethodFor(SampleSteps)
+            !StepMethodMetadata.of(method("enterName")).isBaseClassMethodFor(SampleSteps)
+    }
+
+    def "should find the metadata worked out for a method from any copy of the method"() {
+        given:
+            def stepMethod = FlatScenarioStepsWithoutPages.getMethod("step_one")
+            def sameStepMethod = FlatScenarioStepsWithoutPages.getMethod("step_one")
+        expect:
+            !stepMethod.is(sameStepMethod)
+            StepMethodMetadata.of(stepMethod).is(StepMethodMetadata.of(sameStepMethod))
+    }
+
+    def "should use the same metadata when a step library method is intercepted"() {
+        given:
+            def steps = new StepFactory().getStepLibraryFor(FlatScenarioStepsWithoutPages)
+            def metadata = StepMethodMetadata.of(FlatScenarioStepsWithoutPages.getMethod("step_one"))
+            StepEventBus.eventBus.clear()
+            StepEventBus.eventBus.testStarted("aTest")
+        when:
+            steps.step_one()
+        then:
+            StepMethodMetadata.of(FlatScenarioStepsWithoutPages.getMethod("step_one")).is(metadata)
+        cleanup:
+            StepEventBus.eventBus.clear()
+    }
+}
@@ -1,11 +1,16 @@
 package net.thucydides.core.output;
 
 import com.google.common.collect.ImmutableList;
+import jxl.Sheet;
+import jxl.Workbook;
+import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.util.ExtendedTemporaryFolder;
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import static net.thucydides.core.matchers.BeanMatchers.checkThat;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -69,4 +74,75 @@ public class WhenRecordingTestOutputInASpreadsheet {
 
         assertThat(outputFile.exists(), is(true));
     }
+
+    @Test
+    public void a_buffered_output_should_only_write_the_spreadsheet_when_it_is_finished() throws Exception {
+
+        File outputFile = new File(temporaryFolder.newFolder(), "testresults.xls");
+        SpreadsheetResultsOutput output = SpreadsheetResultsOutput.buffered(outputFile, ImmutableList.of("A","B","C"));
+
+        output.recordResult(ImmutableList.of("a","b","c"), checkThat("$10", is("$10")));
+        output.recordResult(ImmutableList.of("d","e","f"), checkThat("$10", is("$11")));
+
+        assertThat(outputFile.exists(), is(false));
+
+        output.finish();
+
+        Sheet sheet = Workbook.getWorkbook(outputFile).getSheet(0);
+        assertThat(sheet.getRows(), is(3));
+        assertThat(sheet.getCell(0, 2).getContents(), is("d"));
+    }
+
+    @Test
+    public void a_buffered_output_should_not_be_written_each_time_a_test_suite_finishes() throws Exception {
+
+        File outputFile = new File(temporaryFolder.newFolder(), "testresults.xls");
+        SpreadsheetResultsOutput output = SpreadsheetResultsOutput.buffered(outputFile, ImmutableList.of("A","B","C"), 2);
+
+        for (int row = 0; row < 5; row++) {
+            output.recordResult(ImmutableList.of("a" + row, "b" + row, "c" + row));
+            StepEventBus.getEventBus().testSuiteFinished();
+        }
+        StepEventBus.getEventBus().clear();
+
+        assertThat(outputFile.exists(), is(false));
+
+        output.finish();
+
+        assertThat(Workbook.getWorkbook(outputFile).getSheet(0).getRows(), is(6));
+    }
+
+    @Test
+    public void a_buffered_output_should_record_results_from_several_threads() throws Exception {
+
+        File outputFile = new File(temporaryFolder.newFolder(), "testresults.xls");
+        final SpreadsheetResultsOutput output = SpreadsheetResultsOutput.buffered(outputFile,
+                                                                                  ImmutableList.of("A","B","C"), 10);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int thread = 0; thread < 4; thread++) {
+            final int threadNumber = thread;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int row = 0; row < 50; row++) {
+                            output.recordResult(ImmutableList.of("thread " + threadNumber, "row " + row, "c"));
+                        }
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        output.finish();
+
+        assertThat(Workbook.getWorkbook(outputFile).getSheet(0).getRows(), is(201));
+    }
 }
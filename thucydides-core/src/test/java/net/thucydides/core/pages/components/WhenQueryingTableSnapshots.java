@@ -0,0 +1,104 @@
+package net.thucydides.core.pages.components;
+
+import net.thucydides.core.matchers.BeanMatcher;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.thucydides.core.matchers.BeanMatchers.the;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+public class WhenQueryingTableSnapshots {
+
+    private static final List<String> HEADINGS = Arrays.asList("First Name", "Last Name", "Favorite Colour");
+
+    private TableSnapshot snapshot;
+
+    @Before
+    public void setupTable() {
+        List<Map<Object, String>> rows = new ArrayList<Map<Object, String>>();
+        rows.add(row("Tim", "Brooke-Taylor", "Red"));
+        rows.add(row("Graeme", "Garden", "Green"));
+        rows.add(row("Bill", "Oddie", "Blue"));
+        rows.add(row("Tim", "Rice", "Green"));
+        snapshot = new TableSnapshot(HEADINGS, rows);
+    }
+
+    private Map<Object, String> row(String... cells) {
+        Map<Object, String> row = new HashMap<Object, String>();
+        for (int column = 0; column < cells.length; column++) {
+            row.put(HEADINGS.get(column), cells[column]);
+            row.put(column + 1, cells[column]);
+        }
+        return row;
+    }
+
+    @Test
+    public void should_find_the_rows_matching_a_column_value() {
+        assertThat(snapshot.rowIndexesWhere(the("First Name", is("Tim"))), contains(0, 3));
+    }
+
+    @Test
+    public void should_find_the_rows_matching_several_columns() {
+        assertThat(snapshot.rowIndexesWhere(the("First Name", is("Tim")), the("Favorite Colour", is("Green"))),
+                   contains(3));
+    }
+
+    @Test
+    public void should_find_the_rows_matching_any_kind_of_column_matcher() {
+        assertThat(snapshot.rowIndexesWhere(the("Last Name", containsString("d"))), contains(1, 2));
+    }
+
+    @Test
+    public void should_find_no_rows_if_nothing_matches() {
+        assertThat(snapshot.rowIndexesWhere(the("First Name", is("John"))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void should_check_each_distinct_column_value_only_once() {
+        CountingMatcher timMatcher = new CountingMatcher("Tim");
+
+        snapshot.rowIndexesWhere(the("First Name", timMatcher));
+
+        assertThat(timMatcher.checks, is(3));
+    }
+
+    @Test
+    public void should_also_apply_matchers_that_check_whole_rows() {
+        BeanMatcher hasAShortSurname = new BeanMatcher() {
+            public boolean matches(Object target) {
+                return ((Map<?, ?>) target).get("Last Name").toString().length() <= 5;
+            }
+        };
+
+        assertThat(snapshot.rowIndexesWhere(the("First Name", is("Tim")), hasAShortSurname), contains(3));
+    }
+
+    private static class CountingMatcher extends BaseMatcher<Object> {
+        private final String expectedValue;
+        private int checks = 0;
+
+        private CountingMatcher(String expectedValue) {
+            this.expectedValue = expectedValue;
+        }
+
+        public boolean matches(Object value) {
+            checks++;
+            return expectedValue.equals(value);
+        }
+
+        public void describeTo(Description description) {
+            description.appendText("is ").appendValue(expectedValue);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package net.thucydides.core.pages.integration;
+
+
+import net.thucydides.core.pages.ElementState;
+import net.thucydides.core.pages.WebElementFacadeImpl;
+import net.thucydides.core.webdriver.WebDriverFacade;
+import net.thucydides.core.webdriver.WebDriverFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ReadingElementStates extends FluentElementAPITestsBaseClass {
+
+    WebDriver htmlUnitDriver;
+    StaticSitePage page;
+
+    @Before
+    public void openStaticPage() {
+        htmlUnitDriver = new WebDriverFacade(HtmlUnitDriver.class, new WebDriverFactory());
+        page = new StaticSitePage(htmlUnitDriver, 1);
+        page.setWaitForTimeout(500);
+        page.open();
+    }
+
+    @Test
+    public void should_read_the_states_of_several_elements_at_once() {
+        List<ElementState> states = page.statesOf(page.firstName, page.csshiddenfield, page.readonlyField);
+
+        assertThat(states.size(), is(3));
+        assertThat(states.get(0).isDisplayed(), is(true));
+        assertThat(states.get(0).getValue(), is("<enter first name>"));
+        assertThat(states.get(1).isDisplayed(), is(false));
+        assertThat(states.get(2).isEnabled(), is(false));
+        assertThat(states.get(2).getValue(), is("readonly_value"));
+    }
+
+    @Test
+    public void should_report_missing_elements_as_not_present() {
+        List<ElementState> states = page.statesOf(page.firstName, page.fieldDoesNotExist);
+
+        assertThat(states.get(0).isPresent(), is(true));
+        assertThat(states.get(1).isPresent(), is(false));
+    }
+
+    @Test
+    public void should_read_the_state_of_a_single_element() {
+        ElementState state = ((WebElementFacadeImpl) page.element(page.readonlyField)).getState();
+
+        assertThat(state.isPresent(), is(true));
+        assertThat(state.isEnabled(), is(false));
+    }
+}
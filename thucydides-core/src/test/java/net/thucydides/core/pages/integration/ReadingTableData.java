@@ -13,6 +13,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -59,6 +60,26 @@ public class ReadingTableData extends FluentElementAPITestsBaseClass {
     }
 
 
+    @Test
+    public void should_read_table_headings_as_webdriver_displays_them() {
+        HtmlTable table = new HtmlTable(page.clients_with_transformed_headings);
+
+        List<String> displayedHeadings = new ArrayList<String>();
+        for (WebElement heading : table.headingElements()) {
+            displayedHeadings.add(heading.getText());
+        }
+        assertThat(table.getHeadings(), is(displayedHeadings));
+    }
+
+    @Test
+    public void should_match_rows_using_headings_as_webdriver_displays_them() {
+        HtmlTable table = new HtmlTable(page.clients_with_transformed_headings);
+        String firstNameHeading = table.headingElements().get(0).getText();
+
+        assertThat(table.getRows().get(0), hasEntry(firstNameHeading, "Tim"));
+        assertThat(table.containsRowElementsWhere(the(firstNameHeading, is("Graeme"))), is(true));
+    }
+
     @Test
     public void should_read_table_data_as_a_list_of_web_elements() {
         HtmlTable table = new HtmlTable(page.clients);
@@ -200,6 +221,24 @@ public class ReadingTableData extends FluentElementAPITestsBaseClass {
         assertThat(matchingRows.get(0).getText(), containsString("Brooke-Taylor"));
     }
 
+    @Test
+    public void should_find_row_elements_matching_a_given_criteria_in_a_table_snapshot() {
+        HtmlTable table = inTable(page.clients).inSnapshotMode();
+
+        List<WebElement> matchingRows = table.getRowElementsWhere(the("First Name", is("Tim")), the("Last Name", containsString("Taylor")));
+        assertThat(matchingRows.size(), is(1));
+        assertThat(matchingRows.get(0).getText(), containsString("Brooke-Taylor"));
+        assertThat(table.containsRowElementsWhere(the("First Name", is("Bill"))), is(true));
+    }
+
+    @Test
+    public void should_read_the_same_rows_from_a_refreshed_table_snapshot() {
+        HtmlTable table = inTable(page.clients).inSnapshotMode();
+
+        assertThat(table.getRows().size(), is(3));
+        assertThat(table.refresh().getRows().size(), is(3));
+    }
+
     @Test
     public void should_detect_the_presence_of_row_elements_matching_a_given_criteria() {
         boolean containsRowElements = inTable(page.clients).containsRowElementsWhere(the("First Name", is("Tim")), the("Last Name", containsString("Taylor")));
@@ -82,6 +82,8 @@ public class StaticSitePage extends PageObject {
 
         protected WebElement clients_with_missing_cells;
 
+        protected WebElement clients_with_transformed_headings;
+
         protected WebElement table_with_merged_cells;
 
         protected WebElement table_with_empty_headers;
@@ -0,0 +1,165 @@
+package net.thucydides.core.reports.history;
+
+import com.thoughtworks.xstream.XStream;
+import net.thucydides.core.reports.SerializerRegistry;
+import net.thucydides.core.util.ExtendedTemporaryFolder;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class WhenStoringCompactHistory {
+
+    @Rule
+    public ExtendedTemporaryFolder temporaryFolder = new ExtendedTemporaryFolder();
+
+    File directory;
+
+    CompactHistoryStore store;
+
+    @Before
+    public void createStore() throws IOException {
+        directory = temporaryFolder.newFolder("history");
+        store = new CompactHistoryStore(directory, "outcome-history", 7);
+    }
+
+    private HistoryEntry outcomeAt(DateTime time, int passing) {
+        return HistoryEntry.from(new TestResultSnapshot(time, 10, passing, 0, 10 - passing, "BUILD-" + passing));
+    }
+
+    @Test
+    public void history_entries_should_be_read_back_as_they_were_stored() {
+        ProgressSnapshot snapshot = ProgressSnapshot.forRequirementType("capability\twith a tab")
+                                                    .atTime(new DateTime(2013, 5, 1, 10, 0))
+                                                    .with(5).completed()
+                                                    .and(1).failed()
+                                                    .and(2).estimated()
+                                                    .outOf(10)
+                                                    .forBuild("BUILD 1");
+
+        ProgressSnapshot readSnapshot = HistoryEntry.parse(HistoryEntry.from(snapshot).toLine()).toProgressSnapshot();
+
+        assertThat(readSnapshot.getRequirementType(), is("capability\twith a tab"));
+        assertThat(readSnapshot.getTime().getMillis(), is(snapshot.getTime().getMillis()));
+        assertThat(readSnapshot.getCompleted(), is(5));
+        assertThat(readSnapshot.getFailed(), is(1));
+        assertThat(readSnapshot.getEstimated(), is(2));
+        assertThat(readSnapshot.getTotal(), is(10));
+        assertThat(readSnapshot.getBuildId(), is("BUILD 1"));
+    }
+
+    @Test
+    public void incomplete_lines_should_be_ignored() {
+        assertThat(HistoryEntry.parse("O\t1367402400000\t10\t5"), is((HistoryEntry) null));
+    }
+
+    @Test
+    public void recent_entries_should_be_read_in_full_detail() throws IOException {
+        DateTime today = new DateTime(2013, 5, 10, 9, 0);
+        store.append(outcomeAt(today.minusDays(1), 1));
+        store.append(outcomeAt(today, 2));
+        store.append(outcomeAt(today.plusHours(1), 3));
+        store.append(outcomeAt(today.plusHours(2), 4));
+
+        assertThat(store.read().size(), is(4));
+    }
+
+    @Test
+    public void older_entries_should_be_read_as_one_entry_per_day() throws IOException {
+        DateTime aMonthAgo = new DateTime(2013, 4, 10, 9, 0);
+        store.append(outcomeAt(aMonthAgo, 1));
+        store.append(outcomeAt(aMonthAgo.plusHours(1), 2));
+        store.append(outcomeAt(aMonthAgo.plusHours(2), 3));
+        store.append(outcomeAt(aMonthAgo.plusDays(30), 4));
+
+        List<HistoryEntry> history = store.read();
+
+        assertThat(history.size(), is(2));
+        assertThat(history.get(0).toTestResultSnapshot().getPassingSteps(), is(3));
+        assertThat(history.get(1).toTestResultSnapshot().getPassingSteps(), is(4));
+    }
+
+    @Test
+    public void entries_older_than_a_year_should_be_read_as_one_entry_per_week() throws IOException {
+        DateTime monday = new DateTime(2011, 5, 2, 9, 0);
+        store.append(outcomeAt(monday, 1));
+        store.append(outcomeAt(monday.plusDays(1), 2));
+        store.append(outcomeAt(monday.plusDays(2), 3));
+        store.append(outcomeAt(monday.plusYears(2), 4));
+
+        List<HistoryEntry> history = store.read();
+
+        assertThat(history.size(), is(2));
+        assertThat(history.get(0).toTestResultSnapshot().getPassingSteps(), is(3));
+    }
+
+    @Test
+    public void clearing_the_store_should_remove_all_the_entries() throws IOException {
+        store.append(outcomeAt(new DateTime(2013, 5, 10, 9, 0), 1));
+        store.append(outcomeAt(new DateTime(2013, 5, 11, 9, 0), 2));
+
+        store.clear();
+
+        assertThat(store.read().size(), is(0));
+        assertThat(store.exists(), is(false));
+    }
+
+    @Test
+    public void xml_snapshots_should_be_migrated_into_the_compact_store() throws IOException {
+        File projectDirectory = new File(directory, "project");
+        projectDirectory.mkdirs();
+        writeXmlSnapshot(new File(projectDirectory, "thucydides-outcome-1"),
+                         new TestResultSnapshot(DateTime.now().minusHours(2), 10, 5, 5, 0, "MANUAL"));
+        writeXmlSnapshot(new File(projectDirectory, "thucydides-outcome-2"),
+                         new TestResultSnapshot(DateTime.now().minusHours(1), 10, 8, 2, 0, "MANUAL"));
+
+        TestHistory testHistory = new TestHistory("project", new MockEnvironmentVariables(), directory);
+        List<TestResultSnapshot> history = testHistory.getHistory();
+
+        assertThat(history.size(), is(2));
+        assertThat(history.get(1).getPassingSteps(), is(8));
+        assertThat(XmlHistoryMigrator.snapshotFilesIn(projectDirectory).length, is(0));
+        assertThat(new File(new File(projectDirectory, "xml-snapshots"), "thucydides-outcome-1").exists(), is(true));
+    }
+
+    @Test
+    public void an_interrupted_migration_should_not_store_the_same_snapshot_twice() throws IOException {
+        File projectDirectory = new File(directory, "project");
+        projectDirectory.mkdirs();
+        TestResultSnapshot firstSnapshot = new TestResultSnapshot(DateTime.now().minusHours(2), 10, 5, 5, 0, "MANUAL");
+        writeXmlSnapshot(new File(projectDirectory, "thucydides-outcome-1"), firstSnapshot);
+        writeXmlSnapshot(new File(projectDirectory, "thucydides-outcome-2"),
+                         new TestResultSnapshot(DateTime.now().minusHours(1), 10, 8, 2, 0, "MANUAL"));
+
+        CompactHistoryStore outcomeStore = new CompactHistoryStore(projectDirectory, "outcome-history", 30);
+        CompactHistoryStore progressStore = new CompactHistoryStore(projectDirectory, "progress-history", 30);
+        outcomeStore.append(HistoryEntry.from(firstSnapshot));
+
+        int migrated = new XmlHistoryMigrator(projectDirectory, outcomeStore, progressStore).migrate();
+
+        assertThat(migrated, is(2));
+        assertThat(outcomeStore.read().size(), is(2));
+        assertThat(XmlHistoryMigrator.snapshotFilesIn(projectDirectory).length, is(0));
+    }
+
+    private void writeXmlSnapshot(File snapshotFile, Object snapshot) throws IOException {
+        XStream xstream = SerializerRegistry.historyXStream();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(snapshotFile), "UTF-8");
+        try {
+            xstream.toXML(snapshot, writer);
+        } finally {
+            writer.close();
+        }
+    }
+}
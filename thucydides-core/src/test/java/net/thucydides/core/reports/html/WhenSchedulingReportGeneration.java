@@ -0,0 +1,123 @@
+package net.thucydides.core.reports.html;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class WhenSchedulingReportGeneration {
+
+    private final List<String> writtenContents = new CopyOnWriteArrayList<String>();
+
+    private ReportGenerationTask taskWriting(final ReportGenerationScheduler scheduler,
+                                             final String filename,
+                                             final String contents) {
+        return new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                scheduler.write(filename, recording(contents));
+            }
+        };
+    }
+
+    private ReportGenerationScheduler.ReportWriter recording(final String contents) {
+        return new ReportGenerationScheduler.ReportWriter() {
+            public void write() {
+                writtenContents.add(contents);
+            }
+        };
+    }
+
+    @Test
+    public void should_run_tasks_immediately_when_using_a_single_thread() throws IOException {
+        ReportGenerationScheduler scheduler = new ReportGenerationScheduler(1);
+
+        scheduler.schedule(taskWriting(scheduler, "index.html", "first"));
+        scheduler.schedule(taskWriting(scheduler, "index.html", "second"));
+
+        assertThat(writtenContents, contains("first", "second"));
+        scheduler.waitUntilDone();
+    }
+
+    @Test
+    public void a_report_written_by_a_later_task_should_not_be_overwritten_by_an_earlier_one() throws IOException, InterruptedException {
+        final ReportGenerationScheduler scheduler = new ReportGenerationScheduler(2);
+        final CountDownLatch laterTaskFinished = new CountDownLatch(1);
+
+        scheduler.schedule(new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                try {
+                    laterTaskFinished.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                scheduler.write("tag_a.html", recording("earlier"));
+            }
+        });
+        scheduler.schedule(new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                scheduler.write("tag_a.html", recording("later"));
+                laterTaskFinished.countDown();
+            }
+        });
+        scheduler.waitUntilDone();
+
+        assertThat(writtenContents, contains("later"));
+    }
+
+    @Test
+    public void reports_with_different_names_should_all_be_written() throws IOException {
+        ReportGenerationScheduler scheduler = new ReportGenerationScheduler(4);
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.schedule(taskWriting(scheduler, "report-" + i + ".html", "report " + i));
+        }
+        scheduler.waitUntilDone();
+
+        assertThat(writtenContents.size(), is(100));
+    }
+
+    private ReportGenerationScheduler.IncrementalReportWriter recordingUnlessUpToDate(final String contents) {
+        return new ReportGenerationScheduler.IncrementalReportWriter() {
+            public void write(boolean alreadyWritten) {
+                if (alreadyWritten) {
+                    writtenContents.add(contents);
+                }
+            }
+        };
+    }
+
+    @Test
+    public void an_incremental_report_should_be_told_if_an_earlier_task_has_already_written_it() throws IOException {
+        final ReportGenerationScheduler scheduler = new ReportGenerationScheduler(1);
+
+        scheduler.schedule(taskWriting(scheduler, "tag_a.html", "earlier"));
+        scheduler.schedule(new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                scheduler.write("tag_a.html", recordingUnlessUpToDate("later"));
+                scheduler.write("tag_b.html", recordingUnlessUpToDate("not written"));
+            }
+        });
+        scheduler.waitUntilDone();
+
+        assertThat(writtenContents, contains("earlier", "later"));
+    }
+
+    @Test(expected = IOException.class)
+    public void should_report_a_failed_task() throws IOException {
+        ReportGenerationScheduler scheduler = new ReportGenerationScheduler(4);
+
+        scheduler.schedule(new ReportGenerationTask() {
+            public void generateReports() throws IOException {
+                throw new IOException("Could not write report");
+            }
+        });
+        scheduler.waitUntilDone();
+    }
+}
@@ -0,0 +1,159 @@
+package net.thucydides.core.reports.html;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.history.ProgressSnapshot;
+import net.thucydides.core.reports.history.TestResultSnapshot;
+import net.thucydides.core.requirements.model.Requirement;
+import net.thucydides.core.util.ExtendedTemporaryFolder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public class WhenTrackingReportInputs {
+
+    @Rule
+    public ExtendedTemporaryFolder folder = new ExtendedTemporaryFolder();
+
+    private File outputDirectory;
+
+    private final TestOutcome firstTest = new TestOutcome("a_simple_test_case");
+    private final TestOutcome secondTest = new TestOutcome("another_test_case");
+
+    @Before
+    public void setupOutputDirectory() throws IOException {
+        outputDirectory = folder.newFolder("reports");
+    }
+
+    private void createPage(String pageName) throws IOException {
+        new File(outputDirectory, pageName).createNewFile();
+    }
+
+    @Test
+    public void a_page_generated_from_the_same_outcomes_should_be_up_to_date() throws IOException {
+        TestOutcomes outcomes = TestOutcomes.of(Arrays.asList(firstTest, secondTest));
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+        createPage("index.html");
+        manifest.record("index.html", manifest.fingerprintOf("index.html", "home.ftl", outcomes));
+        manifest.save();
+
+        ReportManifest nextManifest = ReportManifest.in(outputDirectory, "options");
+        String fingerprint = nextManifest.fingerprintOf("index.html", "home.ftl", outcomes);
+
+        assertThat(nextManifest.isUpToDate("index.html", fingerprint), is(true));
+    }
+
+    @Test
+    public void a_page_should_be_out_of_date_if_its_outcomes_have_changed() throws IOException {
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+        createPage("index.html");
+        manifest.record("index.html",
+                        manifest.fingerprintOf("index.html", "home.ftl", TestOutcomes.of(Arrays.asList(firstTest))));
+        manifest.save();
+
+        ReportManifest nextManifest = ReportManifest.in(outputDirectory, "options");
+        String fingerprint = nextManifest.fingerprintOf("index.html", "home.ftl",
+                                                        TestOutcomes.of(Arrays.asList(firstTest, secondTest)));
+
+        assertThat(nextManifest.isUpToDate("index.html", fingerprint), is(false));
+    }
+
+    @Test
+    public void every_page_should_be_out_of_date_if_the_shared_inputs_have_changed() throws IOException {
+        TestOutcomes outcomes = TestOutcomes.of(Arrays.asList(firstTest));
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+        createPage("index.html");
+        manifest.record("index.html", manifest.fingerprintOf("index.html", "home.ftl", outcomes));
+        manifest.save();
+
+        ReportManifest nextManifest = ReportManifest.in(outputDirectory, "other options");
+        String fingerprint = nextManifest.fingerprintOf("index.html", "home.ftl", outcomes);
+
+        assertThat(nextManifest.isUpToDate("index.html", fingerprint), is(false));
+    }
+
+    @Test
+    public void a_page_that_has_been_deleted_should_be_out_of_date() throws IOException {
+        TestOutcomes outcomes = TestOutcomes.of(Arrays.asList(firstTest));
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+        manifest.record("index.html", manifest.fingerprintOf("index.html", "home.ftl", outcomes));
+        manifest.save();
+
+        ReportManifest nextManifest = ReportManifest.in(outputDirectory, "options");
+        String fingerprint = nextManifest.fingerprintOf("index.html", "home.ftl", outcomes);
+
+        assertThat(nextManifest.isUpToDate("index.html", fingerprint), is(false));
+    }
+
+    @Test
+    public void pages_with_other_inputs_should_have_different_fingerprints() {
+        TestOutcomes outcomes = TestOutcomes.of(Arrays.asList(firstTest));
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+
+        assertThat(manifest.fingerprintOf("tag.html", "home.ftl", outcomes, "feature"),
+                   is(not(manifest.fingerprintOf("tag.html", "home.ftl", outcomes, "story"))));
+    }
+
+    @Test
+    public void a_requirement_page_should_be_out_of_date_if_a_requirement_narrative_has_changed() throws IOException {
+        TestOutcomes outcomes = TestOutcomes.of(Arrays.asList(firstTest));
+        Requirement requirement = Requirement.named("grow_apples").withType("capability").withNarrativeText("Grow apples");
+        Requirement updatedRequirement = Requirement.named("grow_apples").withType("capability").withNarrativeText("Grow more apples");
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+        createPage("capabilities.html");
+        manifest.record("capabilities.html", manifest.fingerprintOf("capabilities.html", "requirements.ftl", outcomes,
+                                                                    manifest.digestOf(Arrays.asList(requirement))));
+        manifest.save();
+
+        ReportManifest nextManifest = ReportManifest.in(outputDirectory, "options");
+        String fingerprint = nextManifest.fingerprintOf("capabilities.html", "requirements.ftl", outcomes,
+                                                        nextManifest.digestOf(Arrays.asList(updatedRequirement)));
+
+        assertThat(nextManifest.isUpToDate("capabilities.html", fingerprint), is(false));
+    }
+
+    @Test
+    public void a_nested_requirement_should_be_part_of_the_requirements_digest() {
+        Requirement child = Requirement.named("pick_apples").withType("feature").withNarrativeText("Pick apples");
+        Requirement updatedChild = Requirement.named("pick_apples").withType("feature").withNarrativeText("Pick ripe apples");
+        Requirement parent = Requirement.named("grow_apples").withType("capability").withNarrativeText("Grow apples");
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+
+        assertThat(manifest.digestOf(Arrays.asList(parent.withChild(child))),
+                   is(not(manifest.digestOf(Arrays.asList(parent.withChild(updatedChild))))));
+    }
+
+    @Test
+    public void a_release_page_should_be_out_of_date_if_the_history_has_changed() throws IOException {
+        TestOutcomes outcomes = TestOutcomes.of(Arrays.asList(firstTest));
+        List<ProgressSnapshot> noProgress = Collections.emptyList();
+        List<TestResultSnapshot> history = Arrays.asList(new TestResultSnapshot(new DateTime(2014, 1, 1, 0, 0), 3, 2, 1, 0, "build-1"));
+        List<TestResultSnapshot> laterHistory = Arrays.asList(new TestResultSnapshot(new DateTime(2014, 1, 1, 0, 0), 3, 2, 1, 0, "build-1"),
+                                                              new TestResultSnapshot(new DateTime(2014, 1, 2, 0, 0), 3, 3, 0, 0, "build-2"));
+        ReportManifest manifest = ReportManifest.in(outputDirectory, "options");
+        createPage("releases.html");
+        manifest.record("releases.html", manifest.fingerprintOf("releases.html", "releases.ftl", outcomes,
+                                                                manifest.digestOf(history, noProgress)));
+        manifest.save();
+
+        ReportManifest nextManifest = ReportManifest.in(outputDirectory, "options");
+        String sameFingerprint = nextManifest.fingerprintOf("releases.html", "releases.ftl", outcomes,
+                                                            nextManifest.digestOf(history, noProgress));
+        String laterFingerprint = nextManifest.fingerprintOf("releases.html", "releases.ftl", outcomes,
+                                                             nextManifest.digestOf(laterHistory, noProgress));
+
+        assertThat(nextManifest.isUpToDate("releases.html", sameFingerprint), is(true));
+        assertThat(nextManifest.isUpToDate("releases.html", laterFingerprint), is(false));
+    }
+}
@@ -13,6 +13,7 @@ import java.io.IOException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 public class WhenReformattingScreenshots {
 
@@ -98,6 +99,37 @@ public class WhenReformattingScreenshots {
         assertThat(expandedScreenshot.getWidth(), is(805));
     }
 
+    @Test
+    public void should_record_the_new_dimensions_of_a_resized_image_in_the_screenshot_metadata() throws IOException {
+
+        Screenshot screenshot = new Screenshot("google_page_1.png", "Google", 1200);
+        ScreenshotMetadataCache metadata = ScreenshotMetadataCache.forReport(screenshotDirectory, "a_test");
+        ScreenshotFormatter.forScreenshot(screenshot).inDirectory(screenshotDirectory)
+                           .usingMetadataFrom(metadata).expandToHeight(1500);
+        metadata.save();
+
+        File screenshotFile = new File(screenshotDirectory, "google_page_1.png");
+        ScreenshotMetadataCache reloadedMetadata = ScreenshotMetadataCache.forReport(screenshotDirectory, "a_test");
+        assertThat(new File(screenshotDirectory, "a_test.screenshots.properties").exists(), is(true));
+        assertThat(reloadedMetadata.dimensionsOf(screenshotFile).getHeight(), is(1500));
+        assertThat(reloadedMetadata.dimensionsOf(screenshotFile).getWidth(), is(new SimpleImageInfo(screenshotFile).getWidth()));
+    }
+
+    @Test
+    public void should_ignore_screenshot_metadata_for_images_that_have_changed() throws IOException {
+
+        File screenshotFile = new File(screenshotDirectory, "google_page_1.png");
+        ScreenshotMetadataCache metadata = ScreenshotMetadataCache.forReport(screenshotDirectory, "a_test");
+        int originalHeight = metadata.dimensionsOf(screenshotFile).getHeight();
+        metadata.save();
+
+        FileUtils.copyFile(new File(screenshotDirectory, "amazon.png"), screenshotFile);
+
+        ScreenshotMetadataCache reloadedMetadata = ScreenshotMetadataCache.forReport(screenshotDirectory, "a_test");
+        assertThat(reloadedMetadata.dimensionsOf(screenshotFile).getHeight(), is(2236));
+        assertThat(originalHeight, is(not(2236)));
+    }
+
     @Test
     public void should_only_display_the_first_line_of_an_error_message_in_the_UI() {
         String errorMessage = "<org.openqa.selenium.ElementNotVisibleException: Unable to locate element: {\"method\":\"name\",\"selector\":\"fieldDoesNotExist\"}; duration or timeout: 8 milliseconds\n" +
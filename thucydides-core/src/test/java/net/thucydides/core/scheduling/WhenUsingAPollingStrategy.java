@@ -0,0 +1,103 @@
+package net.thucydides.core.scheduling;
+
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+
+public class WhenUsingAPollingStrategy {
+
+    @Mock
+    Sleeper sleeper;
+
+    EnvironmentVariables environmentVariables;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        environmentVariables = new MockEnvironmentVariables();
+    }
+
+    @Test
+    public void fixed_interval_polling_should_always_use_the_configured_interval() {
+        PollingStrategy polling = new FixedIntervalPolling();
+
+        assertThat(polling.intervalBeforePoll(1, 250), is(250L));
+        assertThat(polling.intervalBeforePoll(10, 250), is(250L));
+    }
+
+    @Test
+    public void exponential_backoff_should_double_the_interval_after_each_poll() {
+        PollingStrategy polling = new ExponentialBackoffPolling(10);
+
+        assertThat(polling.intervalBeforePoll(1, 250), is(10L));
+        assertThat(polling.intervalBeforePoll(2, 250), is(20L));
+        assertThat(polling.intervalBeforePoll(3, 250), is(40L));
+    }
+
+    @Test
+    public void exponential_backoff_should_never_exceed_the_configured_interval() {
+        PollingStrategy polling = new ExponentialBackoffPolling(10);
+
+        assertThat(polling.intervalBeforePoll(6, 250), is(250L));
+        assertThat(polling.intervalBeforePoll(1000, 250), is(250L));
+    }
+
+    @Test
+    public void fixed_interval_polling_is_used_by_default() {
+        assertThat(PollingStrategies.definedIn(environmentVariables), instanceOf(FixedIntervalPolling.class));
+    }
+
+    @Test
+    public void exponential_backoff_can_be_configured() {
+        environmentVariables.setProperty("thucydides.polling.strategy", "backoff");
+        environmentVariables.setProperty("thucydides.polling.initial.interval", "5");
+
+        PollingStrategy polling = PollingStrategies.definedIn(environmentVariables);
+
+        assertThat(polling, instanceOf(ExponentialBackoffPolling.class));
+        assertThat(polling.intervalBeforePoll(1, 250), is(5L));
+    }
+
+    @Test
+    public void the_polling_sleeper_should_apply_the_polling_strategy_to_the_requested_interval() throws InterruptedException {
+        PollingSleeper pollingSleeper = new PollingSleeper(new ExponentialBackoffPolling(10), sleeper);
+
+        pollingSleeper.sleep(new Duration(250, MILLISECONDS));
+        pollingSleeper.sleep(new Duration(250, MILLISECONDS));
+
+        verify(sleeper).sleep(new Duration(10, MILLISECONDS));
+        verify(sleeper).sleep(new Duration(20, MILLISECONDS));
+    }
+
+    @Test
+    public void should_estimate_the_time_saved_compared_to_fixed_interval_polling() {
+        PollingIntervals pollingIntervals = new PollingIntervals(new ExponentialBackoffPolling(10));
+
+        pollingIntervals.nextInterval(250);
+        pollingIntervals.nextInterval(250);
+
+        assertThat(pollingIntervals.getTotalWaitTime(), is(30L));
+        assertThat(pollingIntervals.getEstimatedTimeSaved(), is(220L));
+    }
+
+    @Test
+    public void fixed_interval_polling_should_not_save_any_time() {
+        PollingIntervals pollingIntervals = new PollingIntervals(new FixedIntervalPolling());
+
+        pollingIntervals.nextInterval(250);
+        pollingIntervals.nextInterval(250);
+
+        assertThat(pollingIntervals.getEstimatedTimeSaved(), is(0L));
+    }
+}
@@ -220,10 +220,10 @@ public class WhenScreenshotsAreTaken {
     }
 
     @Test
-    public void successive_screenshots_should_have_different_names() throws Exception {
+    public void successive_different_screenshots_should_have_different_names() throws Exception {
+
+        when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken, anotherScreenshotTaken());
 
-        when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken);
-        
         String screenshotName1 = photographer.takeScreenshot("screenshot").get().getName();
         String screenshotName2 = photographer.takeScreenshot("screenshot").get().getName();
         waitUntilScreenshotsProcessed();
@@ -231,6 +231,102 @@ public class WhenScreenshotsAreTaken {
         assertThat(screenshotName1, is(not((screenshotName2))));
     }
 
+    @Test
+    public void identical_screenshots_should_only_be_stored_once() throws Exception {
+
+        File identicalScreenshot = temporaryDirectory.newFile("google_page_1_again.png");
+        FileUtils.copyFile(originalScreenshot, identicalScreenshot);
+        when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken, identicalScreenshot);
+
+        File screenshot1 = photographer.takeScreenshot("screenshot").get();
+        File screenshot2 = photographer.takeScreenshot("screenshot").get();
+        waitUntilScreenshotsProcessed();
+
+        assertThat(screenshot2, is(screenshot1));
+        assertThat(screenshotDirectory.list().length, is(1));
+        assertThat(photographer.getScreenshotDigests().digestOf(screenshot1).isPresent(), is(true));
+    }
+
+    @Test
+    public void a_stored_screenshot_that_has_been_deleted_should_not_be_reused() throws Exception {
+
+        File identicalScreenshot = temporaryDirectory.newFile("google_page_1_again.png");
+        FileUtils.copyFile(originalScreenshot, identicalScreenshot);
+        when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken, identicalScreenshot);
+
+        File screenshot1 = photographer.takeScreenshot("screenshot").get();
+        waitUntilScreenshotsProcessed();
+        screenshot1.delete();
+
+        File screenshot2 = photographer.takeScreenshot("screenshot").get();
+        waitUntilScreenshotsProcessed();
+
+        assertThat(screenshot2, is(not(screenshot1)));
+        assertThat(screenshot2.exists(), is(true));
+    }
+
+    @Test
+    public void identical_screenshots_taken_by_different_photographers_should_only_be_stored_once() throws Exception {
+
+        File identicalScreenshot = temporaryDirectory.newFile("google_page_1_again.png");
+        FileUtils.copyFile(originalScreenshot, identicalScreenshot);
+        when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken, identicalScreenshot);
+        Photographer anotherPhotographer = new Photographer(driver, screenshotDirectory);
+
+        File screenshot1 = photographer.takeScreenshot("screenshot").get();
+        File screenshot2 = anotherPhotographer.takeScreenshot("screenshot").get();
+        waitUntilScreenshotsProcessed();
+
+        assertThat(screenshot2, is(screenshot1));
+        assertThat(screenshotDirectory.list().length, is(1));
+    }
+
+    @Test
+    public void a_stored_screenshot_that_could_not_be_saved_should_not_be_reused_while_other_screenshots_are_pending() throws Exception {
+
+        File identicalScreenshot = temporaryDirectory.newFile("google_page_1_again.png");
+        FileUtils.copyFile(originalScreenshot, identicalScreenshot);
+        when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken, identicalScreenshot);
+
+        ScreenshotProcessor failingOnceProcessor = new ScreenshotProcessor() {
+            private final ScreenshotProcessor processor = Injectors.getInjector().getInstance(ScreenshotProcessor.class);
+            private boolean firstScreenshot = true;
+
+            public void waitUntilDone() {
+                processor.waitUntilDone();
+            }
+
+            public void queueScreenshot(QueuedScreenshot queuedScreenshot) {
+                if (firstScreenshot) {
+                    firstScreenshot = false;
+                    queuedScreenshot.processed();
+                } else {
+                    processor.queueScreenshot(queuedScreenshot);
+                }
+            }
+
+            public boolean isEmpty() {
+                return false;
+            }
+        };
+        Photographer photographer = new Photographer(driver, screenshotDirectory, failingOnceProcessor);
+
+        File screenshot1 = photographer.takeScreenshot("screenshot").get();
+        File screenshot2 = photographer.takeScreenshot("screenshot").get();
+        failingOnceProcessor.waitUntilDone();
+
+        assertThat(screenshot1.exists(), is(false));
+        assertThat(screenshot2, is(not(screenshot1)));
+        assertThat(screenshot2.exists(), is(true));
+    }
+
+    private File anotherScreenshotTaken() throws IOException {
+        File anotherScreenshot = temporaryDirectory.newFile("google_page_2.png");
+        File originalSecondScreenshot = new File(Thread.currentThread().getContextClassLoader().getResource("screenshots/google_page_2.png").getFile());
+        FileUtils.copyFile(originalSecondScreenshot, anotherScreenshot);
+        return anotherScreenshot;
+    }
+
     @Test
     public void calling_api_generates_a_filename_safe_hashed_name_for_the_screenshot() throws Exception {
         when(driver.getScreenshotAs(OutputType.FILE)).thenReturn(screenshotTaken);
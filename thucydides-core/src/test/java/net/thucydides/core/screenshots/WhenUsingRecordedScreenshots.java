@@ -53,6 +53,22 @@ public class WhenUsingRecordedScreenshots {
         assertThat(screenshotAndHtmlSource.hashCode(), is(not(differentScreenshotAndHtmlSource.hashCode())));
     }
 
+    @Test
+    public void screenshots_with_the_same_digest_have_identical_screenshots() {
+        ScreenshotAndHtmlSource screenshotAndHtmlSource = new ScreenshotAndHtmlSource(screenshotFileFrom("/screenshots/google_page_1.png"), null, "abc123");
+        ScreenshotAndHtmlSource sameDigestScreenshotAndHtmlSource = new ScreenshotAndHtmlSource(screenshotFileFrom("/screenshots/google_page_2.png"), null, "abc123");
+
+        assertThat(screenshotAndHtmlSource.hasIdenticalScreenshotsAs(sameDigestScreenshotAndHtmlSource), is(true));
+    }
+
+    @Test
+    public void screenshots_with_different_digests_do_not_have_identical_screenshots() {
+        ScreenshotAndHtmlSource screenshotAndHtmlSource = new ScreenshotAndHtmlSource(screenshotFileFrom("/screenshots/amazon.png"), null, "abc123");
+        ScreenshotAndHtmlSource otherDigestScreenshotAndHtmlSource = new ScreenshotAndHtmlSource(screenshotFileFrom("/screenshots/amazon.png"), null, "def456");
+
+        assertThat(screenshotAndHtmlSource.hasIdenticalScreenshotsAs(otherDigestScreenshotAndHtmlSource), is(false));
+    }
+
     @Test
     public void a_screenshot_with_an_image_is_not_equal_to_a_null_screenshot() {
         ScreenshotAndHtmlSource screenshotAndHtmlSource = new ScreenshotAndHtmlSource(screenshotFileFrom("/screenshots/google_page_1.png"), new File("screen.html"));
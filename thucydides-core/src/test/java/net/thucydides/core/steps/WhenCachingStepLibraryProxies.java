@@ -0,0 +1,48 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.pages.Pages;
+import net.thucydides.core.steps.samples.FlatScenarioStepsWithoutPages;
+import net.thucydides.core.steps.samples.SimpleScenarioSteps;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+public class WhenCachingStepLibraryProxies {
+
+    @Test
+    public void step_factories_should_share_the_same_proxy_class_for_a_step_library() {
+        FlatScenarioStepsWithoutPages firstSteps = new StepFactory().getStepLibraryFor(FlatScenarioStepsWithoutPages.class);
+        FlatScenarioStepsWithoutPages secondSteps = new StepFactory().getStepLibraryFor(FlatScenarioStepsWithoutPages.class);
+
+        assertThat(firstSteps, is(not(sameInstance(secondSteps))));
+        assertThat(firstSteps.getClass() == secondSteps.getClass(), is(true));
+    }
+
+    @Test
+    public void each_step_library_should_get_the_pages_of_its_own_factory() {
+        Pages firstPages = mock(Pages.class);
+        Pages secondPages = mock(Pages.class);
+
+        SimpleScenarioSteps firstSteps = new StepFactory(firstPages).getStepLibraryFor(SimpleScenarioSteps.class);
+        SimpleScenarioSteps secondSteps = new StepFactory(secondPages).getStepLibraryFor(SimpleScenarioSteps.class);
+
+        assertThat(firstSteps.getClass() == secondSteps.getClass(), is(true));
+        assertThat(firstSteps.getPages(), is(sameInstance(firstPages)));
+        assertThat(secondSteps.getPages(), is(sameInstance(secondPages)));
+    }
+
+    @Test
+    public void should_record_each_new_step_library_instance() {
+        long instancesBefore = ProxyCreationStatistics.getProxyInstanceCount();
+
+        new StepFactory().getStepLibraryFor(FlatScenarioStepsWithoutPages.class);
+
+        assertThat(ProxyCreationStatistics.getProxyInstanceCount(), is(greaterThanOrEqualTo(instancesBefore + 1)));
+        assertThat(ProxyCreationStatistics.getProxyClassCount(), is(greaterThanOrEqualTo(1L)));
+    }
+}
@@ -24,10 +24,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class WhenUsingTheStepEventBus {
@@ -752,4 +757,34 @@ public class WhenUsingTheStepEventBus {
 
         assertThat(StepEventBus.getEventBus().areStepsRunning(), is(false));
     }
+
+    @Test
+    public void should_return_the_same_event_bus_within_a_thread() {
+        assertThat(StepEventBus.getEventBus(), is(sameInstance(StepEventBus.getEventBus())));
+    }
+
+    @Test
+    public void should_use_a_different_event_bus_for_each_thread() throws InterruptedException {
+        final AtomicReference<StepEventBus> eventBusInOtherThread = new AtomicReference<StepEventBus>();
+        Thread otherThread = new Thread(new Runnable() {
+            public void run() {
+                eventBusInOtherThread.set(StepEventBus.getEventBus());
+            }
+        });
+        otherThread.start();
+        otherThread.join();
+
+        assertThat(eventBusInOtherThread.get(), is(notNullValue()));
+        assertThat(eventBusInOtherThread.get(), is(not(sameInstance(StepEventBus.getEventBus()))));
+    }
+
+    @Test
+    public void dropped_listeners_should_no_longer_be_notified() {
+        StepEventBus.getEventBus().testStarted("some_test", SampleTestScenario.class);
+        StepEventBus.getEventBus().dropListener(listener);
+
+        StepEventBus.getEventBus().stepStarted(ExecutedStepDescription.withTitle("a step"));
+
+        verify(listener, never()).stepStarted(any(ExecutedStepDescription.class));
+    }
 }
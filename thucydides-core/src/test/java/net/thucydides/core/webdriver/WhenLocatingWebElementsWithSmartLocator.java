@@ -1,6 +1,8 @@
 package net.thucydides.core.webdriver;
 
 import com.google.common.collect.ImmutableList;
+import net.thucydides.core.annotations.locators.ElementLocatorCache;
+import net.thucydides.core.annotations.locators.QuickElementLookup;
 import net.thucydides.core.annotations.locators.SmartAjaxElementLocator;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.steps.StepFailure;
@@ -18,7 +20,10 @@ import org.openqa.selenium.support.FindBy;
 
 import java.lang.reflect.Field;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.when;
 
 public class WhenLocatingWebElementsWithSmartLocator {
@@ -93,5 +98,36 @@ public class WhenLocatingWebElementsWithSmartLocator {
         locator.findElements();
     }
 
+    @Test(timeout = 5000)
+    public void should_find_element_immediately_during_a_quick_lookup() {
+        SmartAjaxElementLocator locator = new SmartAjaxElementLocator(driver, field, 5);
+        QuickElementLookup.startQuickLookup();
+        try {
+            locator.findElement();
+        } finally {
+            QuickElementLookup.endQuickLookup();
+        }
+    }
+
+    @Test
+    public void should_stay_in_quick_lookup_mode_until_the_outermost_quick_lookup_ends() {
+        QuickElementLookup.startQuickLookup();
+        QuickElementLookup.startQuickLookup();
+        QuickElementLookup.endQuickLookup();
+
+        assertThat(QuickElementLookup.inProgress(), is(true));
 
+        QuickElementLookup.endQuickLookup();
+
+        assertThat(QuickElementLookup.inProgress(), is(false));
+    }
+
+    @Test
+    public void should_reuse_the_locator_strategy_for_a_field() {
+        By firstLookup = ElementLocatorCache.byFor(field);
+        By secondLookup = ElementLocatorCache.byFor(field);
+
+        assertThat(firstLookup, is(By.id("someId")));
+        assertThat(secondLookup, is(sameInstance(firstLookup)));
+    }
 }
@@ -0,0 +1,119 @@
+package net.thucydides.core.webdriver;
+
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WhenPoolingWebDrivers {
+
+    MockEnvironmentVariables environmentVariables;
+
+    WebDriverPool pool;
+
+    DriverSource driverSource = new DriverSource() {
+        public WebDriver newDriver() {
+            WebDriver driver = mock(WebDriver.class);
+            when(driver.manage()).thenReturn(mock(WebDriver.Options.class));
+            return driver;
+        }
+    };
+
+    @Before
+    public void setupPool() {
+        environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("thucydides.webdriver.pool", "true");
+        environmentVariables.setProperty("thucydides.webdriver.pool.size", "2");
+        environmentVariables.setProperty("thucydides.webdriver.pool.max.leases", "3");
+        pool = new WebDriverPool(environmentVariables);
+    }
+
+    @Test
+    public void the_pool_should_be_disabled_by_default() {
+        assertThat(new WebDriverPool(new MockEnvironmentVariables()).isEnabled(), is(false));
+        assertThat(pool.isEnabled(), is(true));
+    }
+
+    @Test
+    public void a_released_driver_should_be_cleaned_up_and_handed_out_again() {
+        WebDriver driver = pool.lease("firefox", driverSource);
+        pool.release(driver);
+
+        WebDriver reusedDriver = pool.lease("firefox", driverSource);
+
+        assertThat(reusedDriver, is(sameInstance(driver)));
+        verify(driver.manage()).deleteAllCookies();
+        verify(driver).get("about:blank");
+        verify(driver, never()).quit();
+        assertThat(pool.getHitCount(), is(1L));
+        assertThat(pool.getHitRate(), is(50));
+    }
+
+    @Test
+    public void drivers_should_only_be_reused_for_the_same_configuration() {
+        WebDriver driver = pool.lease("firefox", driverSource);
+        pool.release(driver);
+
+        WebDriver otherDriver = pool.lease("chrome", driverSource);
+
+        assertThat(otherDriver, is(not(sameInstance(driver))));
+    }
+
+    @Test
+    public void a_driver_should_be_closed_after_the_maximum_number_of_leases() {
+        WebDriver driver = pool.lease("firefox", driverSource);
+        pool.release(driver);
+        pool.release(pool.lease("firefox", driverSource));
+        pool.release(pool.lease("firefox", driverSource));
+
+        verify(driver).quit();
+        assertThat(pool.lease("firefox", driverSource), is(not(sameInstance(driver))));
+    }
+
+    @Test
+    public void a_driver_that_no_longer_responds_should_not_be_handed_out() {
+        WebDriver driver = pool.lease("firefox", driverSource);
+        pool.release(driver);
+        when(driver.getWindowHandle()).thenThrow(new WebDriverException("Browser closed"));
+
+        WebDriver newDriver = pool.lease("firefox", driverSource);
+
+        assertThat(newDriver, is(not(sameInstance(driver))));
+        verify(driver).quit();
+    }
+
+    @Test
+    public void drivers_should_be_closed_when_the_pool_is_full() {
+        WebDriver firstDriver = pool.lease("firefox", driverSource);
+        WebDriver secondDriver = pool.lease("firefox", driverSource);
+        WebDriver thirdDriver = pool.lease("firefox", driverSource);
+
+        pool.release(firstDriver);
+        pool.release(secondDriver);
+        pool.release(thirdDriver);
+
+        verify(firstDriver, never()).quit();
+        verify(secondDriver, never()).quit();
+        verify(thirdDriver).quit();
+    }
+
+    @Test
+    public void idle_drivers_should_be_closed_when_the_pool_shuts_down() {
+        WebDriver driver = pool.lease("firefox", driverSource);
+        pool.release(driver);
+
+        pool.shutdown();
+
+        verify(driver).quit();
+    }
+}
@@ -0,0 +1,78 @@
+package net.thucydides.core.webdriver.javascript;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WhenInjectingJavascript {
+
+    @Mock
+    JavascriptExecutorFacade javascriptExecutorFacade;
+
+    JavascriptInjector injector;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        injector = new JavascriptInjector(javascriptExecutorFacade);
+    }
+
+    @Test
+    public void should_load_each_script_from_the_classpath_only_once() {
+        String script = JavascriptResources.contentOf(JavascriptInjector.CYCLE);
+
+        assertThat(JavascriptResources.contentOf(JavascriptInjector.CYCLE), is(sameInstance(script)));
+        assertThat(script, containsString("decycle"));
+    }
+
+    @Test
+    public void should_not_send_a_script_that_the_page_already_defines() {
+        when(javascriptExecutorFacade.executeScript(startsWith("return "))).thenReturn(true);
+
+        boolean injected = injector.injectIfMissing(JavascriptInjector.JQUERY);
+
+        assertThat(injected, is(false));
+        verify(javascriptExecutorFacade, never()).executeScript(contains("jquery.com"));
+    }
+
+    @Test
+    public void should_send_a_script_that_the_page_does_not_define() {
+        when(javascriptExecutorFacade.executeScript(startsWith("return "))).thenReturn(false);
+
+        boolean injected = injector.injectIfMissing(JavascriptInjector.CYCLE);
+
+        assertThat(injected, is(true));
+        verify(javascriptExecutorFacade).executeScript(contains("__thucydidesInjectedScripts['javascript/cycle.js'] = true"));
+    }
+
+    @Test
+    public void an_injected_script_should_be_marked_as_defined_in_the_page() {
+        injector.inject("jquery/jquery.focus.test-fix.js");
+
+        verify(javascriptExecutorFacade).executeScript(contains("__thucydidesInjectedScripts['jquery/jquery.focus.test-fix.js'] = true"));
+    }
+
+    @Test
+    public void should_recognize_libraries_that_the_page_defines_itself() {
+        assertThat(JavascriptInjector.definitionCheckFor(JavascriptInjector.JQUERY), containsString("typeof jQuery === 'function'"));
+    }
+
+    @Test
+    public void should_check_the_page_when_it_is_unknown_whether_a_script_is_defined() {
+        injector.isDefinedInPage(JavascriptInjector.CYCLE);
+
+        verify(javascriptExecutorFacade).executeScript(anyString());
+    }
+}
@@ -3,6 +3,13 @@ class ThucydidesPlugin implements Plugin<Project> {
         project.extensions.create("thucydides", ThucydidesPluginExtension)
         project.task('aggregate') << {
             println "Generating Thucydides Reports to directory $project.thucydides.outputDirectory"
+            def environmentVariables = net.thucydides.core.guice.Injectors.injector.getInstance(net.thucydides.core.util.EnvironmentVariables)
+            if (project.thucydides.reportLoaderThreads) {
+                environmentVariables.setProperty("thucydides.report.loader.threads", project.thucydides.reportLoaderThreads.toString())
+            }
+            if (project.thucydides.incrementalReports != null) {
+                environmentVariables.setProperty("thucydides.report.incremental", project.thucydides.incrementalReports.toString())
+            }
             def reporter = new HtmlAggregateStoryReporter(project.thucydides.projectKey)
             reporter.outputDirectory = project.thucydides.outputDirectory
             reporter.issueTrackerUrl = project.thucydides.issueTrackerUrl
@@ -19,4 +26,6 @@ class ThucydidesPluginExtension {
     def String jiraUrl
     def String jiraProject
     def String sourceDirectory = outputDirectory
+    def Integer reportLoaderThreads
+    def Boolean incrementalReports
 }
\ No newline at end of file